@@ -0,0 +1,68 @@
+package com.concordium.sdk.benchmarks;
+
+import java.util.Random;
+
+/**
+ * Block summaries in the JSON format of the node, used as the responses of the benchmarks.
+ * <p>
+ * The summaries are generated from a fixed seed, so every run uses the same bytes.
+ * Each transaction is a simple transfer between accounts of a small set, which resembles the
+ * bulk of the transactions on chain. The hashes are random and hence incompressible just like real ones.
+ */
+final class BlockSummaries {
+
+    private static final String[] ACCOUNTS = {
+            "2wkH4kHMn2WPndf8CxmsoFkX93ouZMJUwTBFSZpDBez9cfL8oC",
+            "2wkH4kHMn2WPndf8CxmsoFkX93ouZMJUwTBFSZpDCeNeGWa7dj",
+            "2woqsM8vniCpyd92LKESejT8wY3kvAZivgumra7Er424ThVrRF",
+            "2wrnmNgH5jHdLRjudusWMhNS9iJbPuyTR1u4Ujdf6VvgjuTGZL",
+            "2wwpK1VArs7PbRRWMxsqUcz4UpjRocqVUwmfCnxwmZF6xSJ5ZT",
+            "3JwD2Wm3nMbsowCwb1iGEpnt47UQgdrtnq2qT6opJc3z2AgCrc",
+            "3U4sfVSqGG6XK8g6eho2qRYtnHc4MWJBG1dfxdtPGbfHwFxini",
+            "3XSLuJcXg6xEua6iBPnWacc3iWh93yEDMCqX8FbE3RDSbEnT9P",
+    };
+
+    private BlockSummaries() {
+    }
+
+    /**
+     * @param transactions the number of transactions of the block.
+     * @return the JSON of a block summary with the given number of transfers.
+     */
+    static String withTransfers(int transactions) {
+        Random random = new Random(transactions);
+        StringBuilder json = new StringBuilder();
+        json.append("{\"protocolVersion\":4,\"transactionSummaries\":[");
+        for (int i = 0; i < transactions; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            String from = ACCOUNTS[random.nextInt(ACCOUNTS.length)];
+            String to = ACCOUNTS[random.nextInt(ACCOUNTS.length)];
+            long amount = 1 + random.nextInt(1_000_000_000);
+            json.append("{\"index\":").append(i)
+                    .append(",\"hash\":\"").append(hash(random)).append('"')
+                    .append(",\"sender\":\"").append(from).append('"')
+                    .append(",\"cost\":\"").append(500 + random.nextInt(10_000)).append('"')
+                    .append(",\"energyCost\":501")
+                    .append(",\"type\":{\"type\":\"accountTransaction\",\"contents\":\"transfer\"}")
+                    .append(",\"result\":{\"outcome\":\"success\",\"events\":[{\"tag\":\"Transferred\"")
+                    .append(",\"amount\":\"").append(amount).append('"')
+                    .append(",\"from\":{\"type\":\"AddressAccount\",\"address\":\"").append(from).append("\"}")
+                    .append(",\"to\":{\"type\":\"AddressAccount\",\"address\":\"").append(to).append("\"}")
+                    .append("}]}}");
+        }
+        json.append("],\"specialEvents\":[],\"finalizationData\":null,\"updates\":null}");
+        return json.toString();
+    }
+
+    private static String hash(Random random) {
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        StringBuilder hex = new StringBuilder(64);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
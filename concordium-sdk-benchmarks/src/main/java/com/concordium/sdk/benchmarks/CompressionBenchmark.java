@@ -0,0 +1,109 @@
+package com.concordium.sdk.benchmarks;
+
+import com.concordium.sdk.Client;
+import com.concordium.sdk.CompressionConfig;
+import com.concordium.sdk.Connection;
+import com.concordium.sdk.Credentials;
+import com.concordium.sdk.responses.blocksummary.BlockSummary;
+import com.concordium.sdk.transactions.Hash;
+import concordium.ConcordiumP2PRpc;
+import concordium.P2PGrpc;
+import io.grpc.*;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency of {@link Client#getBlockSummary(Hash)} against a local node with and without gzip compression of the requests.
+ * <p>
+ * Like a node, the server never compresses its responses, regardless of the encoding of the request, so the
+ * {@link CompressionConfig} of the client only changes the bytes of the requests. The bytes of the requests and
+ * the responses on the wire are printed at the end of each trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompressionBenchmark {
+
+    private static final Hash BLOCK = Hash.from("0000000000000000000000000000000000000000000000000000000000000000");
+
+    @Param({"none", "gzip"})
+    public String compression;
+
+    @Param({"10", "1000"})
+    public int transactions;
+
+    private final AtomicLong responses = new AtomicLong();
+    private final AtomicLong wireBytes = new AtomicLong();
+    private final AtomicLong requestWireBytes = new AtomicLong();
+    private Server server;
+    private Client client;
+    private int jsonBytes;
+
+    @Setup
+    public void setUp() throws Exception {
+        String json = BlockSummaries.withTransfers(transactions);
+        jsonBytes = json.length();
+        // fail fast if the fixture does not match the format of the node.
+        BlockSummary.fromJson(json);
+        ConcordiumP2PRpc.JsonResponse response = ConcordiumP2PRpc.JsonResponse.newBuilder().setValue(json).build();
+        P2PGrpc.P2PImplBase service = new P2PGrpc.P2PImplBase() {
+            @Override
+            public void getBlockSummary(ConcordiumP2PRpc.BlockHash request, StreamObserver<ConcordiumP2PRpc.JsonResponse> responseObserver) {
+                responseObserver.onNext(response);
+                responseObserver.onCompleted();
+            }
+        };
+        server = NettyServerBuilder.forAddress(new InetSocketAddress("localhost", 0))
+                .addStreamTracerFactory(new ServerStreamTracer.Factory() {
+                    @Override
+                    public ServerStreamTracer newServerStreamTracer(String fullMethodName, Metadata headers) {
+                        return new ServerStreamTracer() {
+                            @Override
+                            public void outboundWireSize(long bytes) {
+                                wireBytes.addAndGet(bytes);
+                            }
+
+                            @Override
+                            public void inboundWireSize(long bytes) {
+                                requestWireBytes.addAndGet(bytes);
+                            }
+
+                            @Override
+                            public void outboundMessage(int seqNo) {
+                                responses.incrementAndGet();
+                            }
+                        };
+                    }
+                })
+                .addService(service)
+                .build()
+                .start();
+        client = Client.from(Connection.builder()
+                .host("localhost")
+                .port(server.getPort())
+                .credentials(Credentials.from("rpcadmin"))
+                .compression("gzip".equals(compression) ? CompressionConfig.gzip() : null)
+                .build());
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+        server.shutdownNow();
+        System.out.printf("%nRequest: %d bytes on the wire, response of %d bytes of JSON: %d bytes on the wire%n",
+                requestWireBytes.get() / Math.max(1, responses.get()), jsonBytes, wireBytes.get() / Math.max(1, responses.get()));
+    }
+
+    @Benchmark
+    public BlockSummary getBlockSummary() throws Exception {
+        return client.getBlockSummary(BLOCK);
+    }
+}
@@ -0,0 +1,88 @@
+package com.concordium.sdk.benchmarks;
+
+import com.concordium.sdk.Client;
+import com.concordium.sdk.Connection;
+import com.concordium.sdk.Credentials;
+import com.concordium.sdk.TransportConfig;
+import com.concordium.sdk.responses.modulelist.ModuleRef;
+import com.concordium.sdk.responses.modulesource.ModuleSource;
+import com.concordium.sdk.transactions.Hash;
+import com.google.protobuf.ByteString;
+import concordium.ConcordiumP2PRpc;
+import concordium.P2PGrpc;
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of a large response from a local node for the {@link TransportConfig#getFlowControlWindow()} and
+ * {@link TransportConfig#getMaxInboundMessageSize()} of the client.
+ * <p>
+ * The response is the source of a module of {@code moduleBytes}, which is returned as is by the client,
+ * hence the benchmark measures receiving the bytes. A flow-control window or maximum message size of 0 is the default.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(3)
+@Threads(8)
+public class FlowControlBenchmark {
+
+    private static final Hash BLOCK = Hash.from("0000000000000000000000000000000000000000000000000000000000000000");
+    private static final ModuleRef MODULE = ModuleRef.from("0000000000000000000000000000000000000000000000000000000000000000");
+
+    @Param({"0", "65536", "8388608"})
+    public int flowControlWindow;
+
+    @Param({"0", "67108864"})
+    public int maxInboundMessageSize;
+
+    @Param({"1048576"})
+    public int moduleBytes;
+
+    private Server server;
+    private Client client;
+
+    @Setup
+    public void setUp() throws Exception {
+        ConcordiumP2PRpc.BytesResponse response = ConcordiumP2PRpc.BytesResponse.newBuilder()
+                .setValue(ByteString.copyFrom(new byte[moduleBytes]))
+                .build();
+        server = NettyServerBuilder.forAddress(new InetSocketAddress("localhost", 0))
+                .addService(new P2PGrpc.P2PImplBase() {
+                    @Override
+                    public void getModuleSource(ConcordiumP2PRpc.GetModuleSourceRequest request, StreamObserver<ConcordiumP2PRpc.BytesResponse> responseObserver) {
+                        responseObserver.onNext(response);
+                        responseObserver.onCompleted();
+                    }
+                })
+                .build()
+                .start();
+        client = Client.from(Connection.builder()
+                .host("localhost")
+                .port(server.getPort())
+                .credentials(Credentials.from("rpcadmin"))
+                .transport(TransportConfig.builder()
+                        .flowControlWindow(flowControlWindow)
+                        .maxInboundMessageSize(maxInboundMessageSize)
+                        .build())
+                .build());
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+        server.shutdownNow();
+    }
+
+    @Benchmark
+    public ModuleSource getModuleSource() throws Exception {
+        return client.getModuleSource(MODULE, BLOCK);
+    }
+}
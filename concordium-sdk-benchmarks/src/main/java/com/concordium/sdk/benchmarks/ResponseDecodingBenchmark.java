@@ -0,0 +1,117 @@
+package com.concordium.sdk.benchmarks;
+
+import com.concordium.sdk.responses.accountinfo.AccountInfo;
+import com.concordium.sdk.responses.blockinfo.BlockInfo;
+import com.concordium.sdk.responses.blocksummary.BlockSummary;
+import com.concordium.sdk.responses.consensusstatus.ConsensusStatus;
+import com.concordium.sdk.responses.poolstatus.PoolStatus;
+import com.concordium.sdk.responses.rewardstatus.RewardsOverview;
+import com.concordium.sdk.responses.transactionstatus.TransactionStatus;
+import com.concordium.sdk.serializing.JsonMapper;
+import com.fasterxml.jackson.databind.JsonNode;
+import concordium.ConcordiumP2PRpc;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of decoding the JSON responses of the node into the types of the SDK, see {@link Responses}.
+ * <p>
+ * Run with {@code -prof gc} for the bytes allocated per response ({@code gc.alloc.rate.norm}).
+ * The '*Tree' benchmarks only parse the same JSON into a {@link JsonNode}, i.e. the cost of tokenizing it,
+ * so the difference to the typed benchmark is the cost of binding it: the polymorphic types,
+ * the builders and the custom deserializers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseDecodingBenchmark {
+
+    private static final int LARGE_BLOCK_TRANSACTIONS = 1000;
+
+    private String accountInfo;
+    private String blockSummary;
+    private String largeBlockSummary;
+    private String transactionStatus;
+    private String consensusStatus;
+    private String blockInfo;
+    private String poolStatus;
+    private ConcordiumP2PRpc.JsonResponse rewardsOverview;
+
+    @Setup
+    public void setUp() {
+        accountInfo = Responses.load("account-info.json");
+        blockSummary = Responses.load("block-summary.json");
+        largeBlockSummary = Responses.blockSummary(LARGE_BLOCK_TRANSACTIONS);
+        transactionStatus = Responses.load("transaction-status.json");
+        consensusStatus = Responses.load("consensus-status.json");
+        blockInfo = Responses.load("block-info.json");
+        poolStatus = Responses.load("pool-status.json");
+        rewardsOverview = ConcordiumP2PRpc.JsonResponse.newBuilder()
+                .setValue(Responses.load("rewards-overview.json"))
+                .build();
+        // fail fast if a fixture does not match the format of the node.
+        accountInfo();
+        blockSummary();
+        largeBlockSummary();
+        transactionStatus();
+        consensusStatus();
+        blockInfo();
+        poolStatus().get();
+        rewardsOverview().get();
+    }
+
+    @Benchmark
+    public AccountInfo accountInfo() {
+        return AccountInfo.fromJson(accountInfo);
+    }
+
+    @Benchmark
+    public JsonNode accountInfoTree() throws Exception {
+        return JsonMapper.INSTANCE.readTree(accountInfo);
+    }
+
+    @Benchmark
+    public BlockSummary blockSummary() {
+        return BlockSummary.fromJson(blockSummary);
+    }
+
+    @Benchmark
+    public JsonNode blockSummaryTree() throws Exception {
+        return JsonMapper.INSTANCE.readTree(blockSummary);
+    }
+
+    @Benchmark
+    public BlockSummary largeBlockSummary() {
+        return BlockSummary.fromJson(largeBlockSummary);
+    }
+
+    @Benchmark
+    public TransactionStatus transactionStatus() {
+        return TransactionStatus.fromJson(transactionStatus);
+    }
+
+    @Benchmark
+    public ConsensusStatus consensusStatus() {
+        return ConsensusStatus.fromJson(consensusStatus);
+    }
+
+    @Benchmark
+    public BlockInfo blockInfo() {
+        return BlockInfo.fromJson(blockInfo);
+    }
+
+    @Benchmark
+    public Optional<PoolStatus> poolStatus() {
+        return PoolStatus.fromJson(poolStatus);
+    }
+
+    @Benchmark
+    public Optional<RewardsOverview> rewardsOverview() {
+        return RewardsOverview.fromJson(rewardsOverview);
+    }
+}
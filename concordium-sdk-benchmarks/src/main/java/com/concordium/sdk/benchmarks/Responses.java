@@ -0,0 +1,63 @@
+package com.concordium.sdk.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * The node responses in {@code src/main/resources/responses}, used as the inputs of the decoding benchmarks.
+ * <p>
+ * The files are pretty printed for reading, the node sends them compact, so they are compacted when loaded.
+ * They are generated in the JSON format of the node and cover the shapes the SDK decodes: an account which is a baker
+ * with several credentials, a release schedule and incoming encrypted amounts, and a payday block with a mix of
+ * transfers, contract updates, delegations and rejected transactions.
+ */
+final class Responses {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private Responses() {
+    }
+
+    /**
+     * @param name the file name in {@code responses/}.
+     * @return the compact JSON of the response.
+     */
+    static String load(String name) {
+        return read(name).toString();
+    }
+
+    /**
+     * @param transactions the number of transactions of the block.
+     * @return the JSON of {@code block-summary.json} with its transaction summaries repeated or truncated
+     * to the given number of transactions.
+     */
+    static String blockSummary(int transactions) {
+        ObjectNode block = (ObjectNode) read("block-summary.json");
+        ArrayNode recorded = (ArrayNode) block.get("transactionSummaries");
+        ArrayNode summaries = MAPPER.createArrayNode();
+        for (int i = 0; i < transactions; i++) {
+            ObjectNode summary = recorded.get(i % recorded.size()).deepCopy();
+            summary.put("index", i);
+            summaries.add(summary);
+        }
+        block.set("transactionSummaries", summaries);
+        return block.toString();
+    }
+
+    private static JsonNode read(String name) {
+        try (InputStream in = Responses.class.getResourceAsStream("/responses/" + name)) {
+            if (in == null) {
+                throw new IllegalArgumentException("No such response: " + name);
+            }
+            return MAPPER.readTree(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
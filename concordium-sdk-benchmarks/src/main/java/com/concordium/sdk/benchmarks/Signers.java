@@ -0,0 +1,82 @@
+package com.concordium.sdk.benchmarks;
+
+import com.concordium.sdk.crypto.ed25519.ED25519SecretKey;
+import com.concordium.sdk.exceptions.ED25519Exception;
+import com.concordium.sdk.transactions.Index;
+import com.concordium.sdk.transactions.Signer;
+import com.concordium.sdk.transactions.SignerEntry;
+import com.concordium.sdk.transactions.TransactionSigner;
+import org.apache.commons.codec.binary.Hex;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.spec.PKCS8EncodedKeySpec;
+
+/**
+ * The {@link TransactionSigner}s of the benchmarks, signing with two keys like the tests of the SDK.
+ * <p>
+ * The 'jni' signer uses the native ED25519 implementation of the SDK, which is what applications use.
+ * The 'jdk' signer uses the ED25519 implementation of the JDK (15 or later) with the same keys. It produces the same
+ * signatures, but runs without the native library, e.g. on platforms the library is not built for.
+ */
+public final class Signers {
+
+    private static final String[] SECRET_KEYS = {
+            "7100071c835a0a35e86dccba7ee9d10b89e36d1e596771cdc8ee36a17f7abbf2",
+            "cd20ea0127cddf77cf2c20a18ec4516a99528a72e642ac7deb92131a9d108ae9",
+    };
+
+    /**
+     * The DER prefix of a PKCS#8 encoded ED25519 private key, followed by the 32 bytes of the key.
+     */
+    private static final String PKCS8_PREFIX = "302e020100300506032b657004220420";
+
+    private Signers() {
+    }
+
+    /**
+     * @param kind 'jni' or 'jdk'.
+     * @return the signer.
+     */
+    public static TransactionSigner of(String kind) throws Exception {
+        SignerEntry[] entries = new SignerEntry[SECRET_KEYS.length];
+        for (int i = 0; i < SECRET_KEYS.length; i++) {
+            entries[i] = SignerEntry.from(Index.from(0), Index.from(i), signer(kind, SECRET_KEYS[i]));
+        }
+        return TransactionSigner.from(entries);
+    }
+
+    private static Signer signer(String kind, String secretKey) throws Exception {
+        switch (kind) {
+            case "jni":
+                return ED25519SecretKey.from(secretKey);
+            case "jdk":
+                return new JdkSigner(secretKey);
+            default:
+                throw new IllegalArgumentException("Unknown signer: " + kind);
+        }
+    }
+
+    private static final class JdkSigner implements Signer {
+        private final PrivateKey key;
+
+        JdkSigner(String secretKey) throws Exception {
+            this.key = KeyFactory.getInstance("Ed25519")
+                    .generatePrivate(new PKCS8EncodedKeySpec(Hex.decodeHex(PKCS8_PREFIX + secretKey)));
+        }
+
+        @Override
+        public byte[] sign(byte[] message) throws ED25519Exception {
+            try {
+                Signature signature = Signature.getInstance("Ed25519");
+                signature.initSign(key);
+                signature.update(message);
+                return signature.sign();
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Could not sign with the JDK", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.concordium.sdk.benchmarks;
+
+import com.concordium.sdk.responses.accountinfo.AccountInfo;
+import com.concordium.sdk.responses.blocksummary.BlockSummary;
+import com.concordium.sdk.serializing.JsonMapper;
+import com.concordium.sdk.transactions.CCDAmount;
+import com.concordium.sdk.transactions.TransactionFactory;
+import com.concordium.sdk.transactions.TransferTransaction;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The time a fresh JVM takes for its first signed transaction and its first decoded responses,
+ * which short-lived applications pay for on every start.
+ * <ul>
+ *     <li>'firstSignedTransfer' builds and signs a transfer including creating the signer, i.e. loading the classes
+ *     of the SDK and, for the 'jni' signer, extracting and loading the native library.
+ *     Run it twice to see the library being reused from the cache directory.</li>
+ *     <li>'firstAccountInfo' and 'firstBlockSummary' decode a response, i.e. Jackson building the deserializers
+ *     of the response types.</li>
+ *     <li>'prewarm' builds the same deserializers with {@link JsonMapper#prewarm(Class[])}, which an application
+ *     can run in the background while it connects to the node.</li>
+ * </ul>
+ * Every measurement is a fresh fork. The responses are read in the setup, which already loads Jackson itself.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class StartupBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Signer {
+        @Param({"jni", "jdk"})
+        public String signer;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Json {
+        String accountInfo;
+        String blockSummary;
+
+        @Setup
+        public void setUp() {
+            accountInfo = Responses.load("account-info.json");
+            blockSummary = Responses.load("block-summary.json");
+        }
+    }
+
+    @Benchmark
+    public TransferTransaction firstSignedTransfer(Signer signer) throws Exception {
+        return TransactionFactory.newTransfer()
+                .sender(TransactionBuildBenchmark.SENDER)
+                .receiver(TransactionBuildBenchmark.RECEIVER)
+                .amount(CCDAmount.fromMicro(17))
+                .nonce(TransactionBuildBenchmark.NONCE)
+                .expiry(TransactionBuildBenchmark.EXPIRY)
+                .signer(Signers.of(signer.signer))
+                .build();
+    }
+
+    @Benchmark
+    public AccountInfo firstAccountInfo(Json json) {
+        return AccountInfo.fromJson(json.accountInfo);
+    }
+
+    @Benchmark
+    public BlockSummary firstBlockSummary(Json json) {
+        return BlockSummary.fromJson(json.blockSummary);
+    }
+
+    @Benchmark
+    public void prewarm() {
+        JsonMapper.prewarm(AccountInfo.class, BlockSummary.class);
+    }
+}
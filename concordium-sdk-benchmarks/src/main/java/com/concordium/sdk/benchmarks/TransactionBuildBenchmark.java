@@ -0,0 +1,256 @@
+package com.concordium.sdk.benchmarks;
+
+import com.concordium.sdk.crypto.ed25519.ED25519PublicKey;
+import com.concordium.sdk.transactions.*;
+import com.concordium.sdk.transactions.smartcontracts.WasmModule;
+import com.concordium.sdk.transactions.smartcontracts.WasmModuleVersion;
+import com.concordium.sdk.types.ContractAddress;
+import com.concordium.sdk.types.Timestamp;
+import com.concordium.sdk.types.UInt16;
+import com.concordium.sdk.types.UInt64;
+import org.apache.commons.codec.binary.Hex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of building a signed transaction with each builder of {@link TransactionFactory}.
+ * <p>
+ * Run with {@code -prof gc} for the bytes allocated per transaction ({@code gc.alloc.rate.norm}).
+ * The encrypted transfers are built from precomputed amounts and proofs of the size of real ones,
+ * since computing the proofs is done by the native library and is measured on its own.
+ * See {@link com.concordium.sdk.transactions.TransactionStepsBenchmark} for the individual steps of building a transfer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionBuildBenchmark {
+
+    static final AccountAddress SENDER = AccountAddress.from("3JwD2Wm3nMbsowCwb1iGEpnt47UQgdrtnq2qT6opJc3z2AgCrc");
+    static final AccountAddress RECEIVER = AccountAddress.from("3hYXYEPuGyhFcVRhSk2cVgKBhzVcAryjPskYk4SecpwGnoHhuM");
+    static final AccountNonce NONCE = AccountNonce.from(78910);
+    static final Expiry EXPIRY = Expiry.from(123456);
+
+    private static final int ENCRYPTED_AMOUNT_SIZE = 192;
+    private static final int PROOF_SIZE = 2192;
+    private static final int MODULE_SIZE = 64 * 1024;
+
+    @Param({"jni", "jdk"})
+    public String signer;
+
+    private TransactionSigner transactionSigner;
+    private Memo memo;
+    private Schedule[] schedule;
+    private InitContractPayload initContract;
+    private UpdateContractPayload updateContract;
+    private WasmModule module;
+    private Data data;
+    private EncryptedAmountTransferData encryptedTransfer;
+    private CredentialRegistrationId credentialRegistrationId;
+    private CredentialPublicKeys credentialKeys;
+
+    @Setup
+    public void setUp() throws Exception {
+        Random random = new Random(1);
+        transactionSigner = Signers.of(signer);
+        memo = Memo.from("0102030405");
+        schedule = new Schedule[]{
+                Schedule.from(Timestamp.newMillis(1662869154000L), 10),
+                Schedule.from(Timestamp.newMillis(1665461154000L), 10),
+                Schedule.from(Timestamp.newMillis(1668139554000L), 10),
+        };
+        initContract = InitContractPayload.from(
+                0,
+                Hash.from("37eeb3e92025c97eaf40b66891770fcd22d926a91caeb1135c7ce7a1ba977c07").getBytes(),
+                "init_CIS2-NFT",
+                new byte[0]);
+        updateContract = UpdateContractPayload.from(0, ContractAddress.from(81, 0), "CIS2-NFT", "mint", new byte[0]);
+        module = WasmModule.from(randomBytes(random, MODULE_SIZE), WasmModuleVersion.V1);
+        data = Data.from("0102030405");
+        encryptedTransfer = EncryptedAmountTransferData.builder()
+                .remainingAmount(EncryptedAmount.from(randomHex(random, ENCRYPTED_AMOUNT_SIZE)))
+                .transferAmount(EncryptedAmount.from(randomHex(random, ENCRYPTED_AMOUNT_SIZE)))
+                .index(UInt64.from(0))
+                .proof(SecToPubAmountTransferProof.from(randomHex(random, PROOF_SIZE)))
+                .build();
+        credentialRegistrationId = CredentialRegistrationId.fromBytes(randomBytes(random, 48));
+        credentialKeys = CredentialPublicKeys.from(
+                Collections.singletonMap(Index.from(0), ED25519PublicKey.from("ad6591a2deb03c32357615d73e144e01a49abad49671428d46db58cf2d4e4d87")),
+                1);
+    }
+
+    @Benchmark
+    public Transaction transfer() throws Exception {
+        return TransactionFactory.newTransfer()
+                .sender(SENDER)
+                .receiver(RECEIVER)
+                .amount(CCDAmount.fromMicro(17))
+                .nonce(NONCE)
+                .expiry(EXPIRY)
+                .signer(transactionSigner)
+                .build();
+    }
+
+    @Benchmark
+    public Transaction transferWithMemo() throws Exception {
+        return TransactionFactory.newTransferWithMemo()
+                .sender(SENDER)
+                .receiver(RECEIVER)
+                .amount(CCDAmount.fromMicro(17))
+                .memo(memo)
+                .nonce(NONCE)
+                .expiry(EXPIRY)
+                .signer(transactionSigner)
+                .build();
+    }
+
+    @Benchmark
+    public Transaction scheduledTransfer() throws Exception {
+        return TransactionFactory.newScheduledTransfer()
+                .sender(SENDER)
+                .to(RECEIVER)
+                .schedule(schedule)
+                .nonce(NONCE)
+                .expiry(EXPIRY)
+                .signer(transactionSigner)
+                .build();
+    }
+
+    @Benchmark
+    public Transaction scheduledTransferWithMemo() throws Exception {
+        return TransactionFactory.newScheduledTransferWithMemo()
+                .sender(SENDER)
+                .to(RECEIVER)
+                .schedule(schedule)
+                .memo(memo)
+                .nonce(NONCE)
+                .expiry(EXPIRY)
+                .signer(transactionSigner)
+                .build();
+    }
+
+    @Benchmark
+    public Transaction registerData() throws Exception {
+        return TransactionFactory.newRegisterData()
+                .sender(SENDER)
+                .data(data)
+                .nonce(NONCE)
+                .expiry(EXPIRY)
+                .signer(transactionSigner)
+                .build();
+    }
+
+    @Benchmark
+    public Transaction initContract() throws Exception {
+        return TransactionFactory.newInitContract()
+                .sender(SENDER)
+                .payload(initContract)
+                .maxEnergyCost(UInt64.from(3000))
+                .nonce(NONCE)
+                .expiry(EXPIRY)
+                .signer(transactionSigner)
+                .build();
+    }
+
+    @Benchmark
+    public Transaction updateContract() throws Exception {
+        return TransactionFactory.newUpdateContract()
+                .sender(SENDER)
+                .payload(updateContract)
+                .maxEnergyCost(UInt64.from(10000))
+                .nonce(NONCE)
+                .expiry(EXPIRY)
+                .signer(transactionSigner)
+                .build();
+    }
+
+    @Benchmark
+    public Transaction deployModule() throws Exception {
+        return TransactionFactory.newDeployModule()
+                .sender(SENDER)
+                .module(module)
+                .maxEnergyCost(UInt64.from(10000))
+                .nonce(NONCE)
+                .expiry(EXPIRY)
+                .signer(transactionSigner)
+                .build();
+    }
+
+    @Benchmark
+    public Transaction updateCredentialKeys() throws Exception {
+        return TransactionFactory.newUpdateCredentialKeys()
+                .credentialRegistrationID(credentialRegistrationId)
+                .keys(credentialKeys)
+                .numExistingCredentials(UInt16.from(5))
+                .sender(SENDER)
+                .nonce(NONCE)
+                .expiry(EXPIRY)
+                .signer(transactionSigner)
+                .build();
+    }
+
+    @Benchmark
+    public Transaction transferToEncrypted() throws Exception {
+        return TransactionFactory.newTransferToEncrypted()
+                .sender(SENDER)
+                .amount(CCDAmount.fromMicro(1))
+                .nonce(NONCE)
+                .expiry(EXPIRY)
+                .signer(transactionSigner)
+                .build();
+    }
+
+    @Benchmark
+    public Transaction transferToPublic() throws Exception {
+        return TransactionFactory.newTransferToPublic()
+                .sender(SENDER)
+                .remainingAmount(encryptedTransfer.getRemainingAmount())
+                .transferAmount(CCDAmount.fromMicro(1))
+                .index(encryptedTransfer.getIndex())
+                .proof(encryptedTransfer.getProof())
+                .nonce(NONCE)
+                .expiry(EXPIRY)
+                .signer(transactionSigner)
+                .build();
+    }
+
+    @Benchmark
+    public Transaction encryptedTransfer() throws Exception {
+        return TransactionFactory.newEncryptedTransfer()
+                .sender(SENDER)
+                .receiver(RECEIVER)
+                .data(encryptedTransfer)
+                .nonce(NONCE)
+                .expiry(EXPIRY)
+                .signer(transactionSigner)
+                .build();
+    }
+
+    @Benchmark
+    public Transaction encryptedTransferWithMemo() throws Exception {
+        return TransactionFactory.newEncryptedTransferWithMemo()
+                .sender(SENDER)
+                .receiver(RECEIVER)
+                .data(encryptedTransfer)
+                .memo(memo)
+                .nonce(NONCE)
+                .expiry(EXPIRY)
+                .signer(transactionSigner)
+                .build();
+    }
+
+    private static byte[] randomBytes(Random random, int size) {
+        byte[] bytes = new byte[size];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+
+    private static String randomHex(Random random, int size) {
+        return Hex.encodeHexString(randomBytes(random, size));
+    }
+}
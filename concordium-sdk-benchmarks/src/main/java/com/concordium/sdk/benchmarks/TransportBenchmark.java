@@ -0,0 +1,97 @@
+package com.concordium.sdk.benchmarks;
+
+import com.concordium.sdk.Client;
+import com.concordium.sdk.Connection;
+import com.concordium.sdk.Credentials;
+import com.concordium.sdk.TransportConfig;
+import concordium.ConcordiumP2PRpc;
+import concordium.P2PGrpc;
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of a small query against a local node for the different {@link TransportConfig}s.
+ * <p>
+ * The node answers right away, hence the benchmark measures the overhead of the transport and the thread hops.
+ * The 'virtual' transport uses a virtual thread per task executor and requires JDK 21 or later,
+ * run it via {@code -p transport=virtual}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(3)
+@Threads(8)
+public class TransportBenchmark {
+
+    @Param({"default", "direct", "fixed", "epoll", "epoll-direct"})
+    public String transport;
+
+    private Server server;
+    private ExecutorService executor;
+    private Client client;
+
+    @Setup
+    public void setUp() throws Exception {
+        server = NettyServerBuilder.forAddress(new InetSocketAddress("localhost", 0))
+                .addService(new P2PGrpc.P2PImplBase() {
+                    @Override
+                    public void peerUptime(ConcordiumP2PRpc.Empty request, StreamObserver<ConcordiumP2PRpc.NumberResponse> responseObserver) {
+                        responseObserver.onNext(ConcordiumP2PRpc.NumberResponse.newBuilder().setValue(1000).build());
+                        responseObserver.onCompleted();
+                    }
+                })
+                .build()
+                .start();
+        client = Client.from(Connection.builder()
+                .host("localhost")
+                .port(server.getPort())
+                .credentials(Credentials.from("rpcadmin"))
+                .transport(transportConfig())
+                .build());
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+        server.shutdownNow();
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    public Duration getUptime() {
+        return client.getUptime();
+    }
+
+    private TransportConfig transportConfig() throws Exception {
+        switch (transport) {
+            case "default":
+                return TransportConfig.defaults();
+            case "direct":
+                return TransportConfig.builder().directExecutor(true).build();
+            case "fixed":
+                executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+                return TransportConfig.builder().executor(executor).build();
+            case "virtual":
+                executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+                return TransportConfig.builder().executor(executor).build();
+            case "epoll":
+                return TransportConfig.builder().epoll(true).build();
+            case "epoll-direct":
+                return TransportConfig.builder().epoll(true).directExecutor(true).build();
+            default:
+                throw new IllegalArgumentException("Unknown transport: " + transport);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.concordium.sdk.crypto;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time of the first {@link NativeResolver#loadLib()} of a JVM, i.e. extracting the native library from the jar
+ * to a temporary file and loading it, which the first signature or encrypted transfer of an application pays for.
+ * <p>
+ * The library is only loaded once per JVM, so every measurement is a fresh fork.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class NativeResolverBenchmark {
+
+    @Benchmark
+    public void loadLib() {
+        NativeResolver.loadLib();
+    }
+}
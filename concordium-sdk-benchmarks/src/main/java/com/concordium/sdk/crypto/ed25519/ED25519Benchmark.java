@@ -0,0 +1,95 @@
+package com.concordium.sdk.crypto.ed25519;
+
+import com.concordium.sdk.crypto.CryptoJniNative;
+import com.concordium.sdk.crypto.NativeResolver;
+import com.concordium.sdk.exceptions.ED25519Exception;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the ED25519 operations of the native library.
+ * <p>
+ * The '*Native' benchmarks call {@link CryptoJniNative} directly with preallocated buffers, i.e. they measure crossing
+ * JNI, copying the arrays and the Rust implementation. The difference to the other benchmarks is the overhead of
+ * the SDK: copying the keys, allocating the results and checking the result codes. The cost of copying the message
+ * shows as the difference between the message sizes; a transaction signs the 32 bytes of its hash.
+ * The '*AllThreads' benchmarks run from as many threads as there are processors, for sizing signing services.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ED25519Benchmark {
+
+    @Param({"32", "4096"})
+    public int messageSize;
+
+    private ED25519SecretKey secretKey;
+    private ED25519PublicKey publicKey;
+    private byte[] secretKeyBytes;
+    private byte[] publicKeyBytes;
+    private byte[] message;
+    private byte[] signature;
+    private byte[] signatureBuffer;
+    private byte[] keyBuffer;
+
+    @Setup
+    public void setUp() throws ED25519Exception {
+        NativeResolver.loadLib();
+        secretKey = ED25519SecretKey.from("7100071c835a0a35e86dccba7ee9d10b89e36d1e596771cdc8ee36a17f7abbf2");
+        publicKey = ED25519PublicKey.from(secretKey);
+        secretKeyBytes = secretKey.getBytes();
+        publicKeyBytes = publicKey.getBytes();
+        message = new byte[messageSize];
+        new Random(1).nextBytes(message);
+        signature = secretKey.sign(message);
+        signatureBuffer = new byte[ED25519.SIGNATURE_SIZE];
+        keyBuffer = new byte[ED25519.KEY_SIZE];
+    }
+
+    @Benchmark
+    public byte[] sign() throws ED25519Exception {
+        return secretKey.sign(message);
+    }
+
+    @Benchmark
+    public int signNative() {
+        return CryptoJniNative.sign(secretKeyBytes, message, signatureBuffer);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public byte[] signAllThreads() throws ED25519Exception {
+        return sign();
+    }
+
+    @Benchmark
+    public boolean verify() throws ED25519Exception {
+        return publicKey.verify(message, signature);
+    }
+
+    @Benchmark
+    public int verifyNative() {
+        return CryptoJniNative.verify(publicKeyBytes, message, signature);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public boolean verifyAllThreads() throws ED25519Exception {
+        return verify();
+    }
+
+    @Benchmark
+    public ED25519PublicKey generatePublicKey() throws ED25519Exception {
+        return ED25519PublicKey.from(secretKey);
+    }
+
+    @Benchmark
+    public int generatePublicKeyNative() {
+        return CryptoJniNative.generatePublicKey(secretKeyBytes, keyBuffer);
+    }
+}
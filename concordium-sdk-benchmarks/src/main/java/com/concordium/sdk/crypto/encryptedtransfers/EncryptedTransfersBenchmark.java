@@ -0,0 +1,158 @@
+package com.concordium.sdk.crypto.encryptedtransfers;
+
+import com.concordium.sdk.crypto.CryptoJniNative;
+import com.concordium.sdk.crypto.NativeResolver;
+import com.concordium.sdk.crypto.elgamal.ElgamalPublicKey;
+import com.concordium.sdk.crypto.elgamal.ElgamalSecretKey;
+import com.concordium.sdk.responses.accountinfo.AccountEncryptedAmount;
+import com.concordium.sdk.responses.cryptographicparameters.CryptographicParameters;
+import com.concordium.sdk.serializing.JsonMapper;
+import com.concordium.sdk.transactions.CCDAmount;
+import com.concordium.sdk.transactions.EncryptedAmount;
+import com.concordium.sdk.transactions.EncryptedAmountIndex;
+import org.apache.commons.io.IOUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of creating the payloads of encrypted transfers with {@link EncryptedTransfers}, broken into its steps:
+ * <ul>
+ *     <li>'*InputJson' encodes the input of the native library as JSON.</li>
+ *     <li>'*Native' calls the native library with the JSON, i.e. crossing JNI, decoding and encoding JSON in Rust
+ *     and computing the proofs.</li>
+ *     <li>'*OutputJson' decodes the JSON returned by the native library.</li>
+ *     <li>'encryptedTransfer' and 'transferToPublic' are the public API doing all of the above and converting
+ *     the {@link CryptographicParameters} to a {@link GlobalContext} first.</li>
+ * </ul>
+ * The '*AllThreads' benchmarks run the public API from as many threads as there are processors.
+ * Only the '*InputJson' benchmarks run without the native library.
+ * The inputs are the ones of the tests of the SDK, i.e. the cryptographic parameters of the testnet.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EncryptedTransfersBenchmark {
+
+    private static final String SECRET_KEY = "b14cbfe44a02c6b1f78711176d5f437295367aa4f2a8c2551ee10d25a03adc69d61a332a058971919dad7312e1fc94c573c28a63523116b128d7d33037cdbdf5bf6a30048fa27a121b4d950d1f5caecc";
+    private static final String PUBLIC_KEY = "b14cbfe44a02c6b1f78711176d5f437295367aa4f2a8c2551ee10d25a03adc69d61a332a058971919dad7312e1fc94c5b85e593e6d90fce067c8a3bba55028cb8dd4421c7a7acd339fa546312af70d1c38a6036d6fe1f58a1eb7943cd605b3a0";
+    private static final String SELF_AMOUNT = "b23d92613d32576c98826addaf3bd1a5015d37fc3609743c089386e8fca091d6b1659cb7567d2d63c3e1aa1edd99551e92b6996f6cbc497619083b42fb2210813d8cd4ead15771111edaf79b73a1b072735592b9ec72711f2c6a7360936c788caa76a9a74de720b4917c4c71d2b41232a24102d119579ee549b80a0da2e197462e0ad069b41832e3a6e66d3b697e2a36b29ac6106a98986affe140693bed84548adc88f5f74ef867461f02370385b0ddf2923ef50589a7509a4f9074ab6e980b";
+
+    /**
+     * The inputs, which do not need the native library.
+     */
+    @State(Scope.Benchmark)
+    public static class Inputs {
+        CryptographicParameters parameters;
+        AccountEncryptedAmount encryptedAmount;
+        ElgamalPublicKey receiverPublicKey;
+        ElgamalSecretKey secretKey;
+        EncryptedAmountTransferJniInput encryptedTransfer;
+        TransferToPublicJniInput transferToPublic;
+
+        @Setup
+        public void setUp() throws IOException {
+            try (InputStream in = EncryptedTransfersBenchmark.class.getResourceAsStream("/responses/cryptographic-parameters.json")) {
+                parameters = CryptographicParameters.from(IOUtils.toString(in, StandardCharsets.UTF_8));
+            }
+            encryptedAmount = AccountEncryptedAmount.builder()
+                    .selfAmount(EncryptedAmount.from(SELF_AMOUNT))
+                    .startIndex(EncryptedAmountIndex.from(0))
+                    .build();
+            receiverPublicKey = ElgamalPublicKey.from(PUBLIC_KEY);
+            secretKey = ElgamalSecretKey.from(SECRET_KEY);
+            encryptedTransfer = EncryptedAmountTransferJniInput.builder()
+                    .global(GlobalContext.from(parameters))
+                    .receiverPublicKey(receiverPublicKey)
+                    .senderSecretKey(secretKey)
+                    .amountToSend(CCDAmount.fromMicro(1))
+                    .inputEncryptedAmount(IndexedEncryptedAmount.from(encryptedAmount))
+                    .build();
+            transferToPublic = TransferToPublicJniInput.builder()
+                    .global(GlobalContext.from(parameters))
+                    .senderSecretKey(secretKey)
+                    .amount(CCDAmount.fromMicro(10))
+                    .inputEncryptedAmount(IndexedEncryptedAmount.from(encryptedAmount))
+                    .build();
+        }
+    }
+
+    /**
+     * The JSON exchanged with the native library.
+     */
+    @State(Scope.Benchmark)
+    public static class Json {
+        String encryptedTransferInput;
+        String encryptedTransferOutput;
+        String transferToPublicInput;
+        String transferToPublicOutput;
+
+        @Setup
+        public void setUp(Inputs inputs) throws IOException {
+            NativeResolver.loadLib();
+            encryptedTransferInput = JsonMapper.INSTANCE.writeValueAsString(inputs.encryptedTransfer);
+            encryptedTransferOutput = CryptoJniNative.generateEncryptedTransfer(encryptedTransferInput);
+            transferToPublicInput = JsonMapper.INSTANCE.writeValueAsString(inputs.transferToPublic);
+            transferToPublicOutput = CryptoJniNative.createSecToPubTransfer(transferToPublicInput);
+        }
+    }
+
+    @Benchmark
+    public String encryptedTransferInputJson(Inputs inputs) throws IOException {
+        return JsonMapper.INSTANCE.writeValueAsString(inputs.encryptedTransfer);
+    }
+
+    @Benchmark
+    public String encryptedTransferNative(Json json) {
+        return CryptoJniNative.generateEncryptedTransfer(json.encryptedTransferInput);
+    }
+
+    @Benchmark
+    public EncryptedAmountTransferJniResult encryptedTransferOutputJson(Json json) throws IOException {
+        return JsonMapper.INSTANCE.readValue(json.encryptedTransferOutput, EncryptedAmountTransferJniResult.class);
+    }
+
+    @Benchmark
+    public EncryptedAmountTransferJniOutput encryptedTransfer(Inputs inputs) {
+        return EncryptedTransfers.createEncryptedTransferPayload(
+                inputs.parameters, inputs.encryptedAmount, inputs.receiverPublicKey, inputs.secretKey, CCDAmount.fromMicro(1));
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public EncryptedAmountTransferJniOutput encryptedTransferAllThreads(Inputs inputs) {
+        return encryptedTransfer(inputs);
+    }
+
+    @Benchmark
+    public String transferToPublicInputJson(Inputs inputs) throws IOException {
+        return JsonMapper.INSTANCE.writeValueAsString(inputs.transferToPublic);
+    }
+
+    @Benchmark
+    public String transferToPublicNative(Json json) {
+        return CryptoJniNative.createSecToPubTransfer(json.transferToPublicInput);
+    }
+
+    @Benchmark
+    public TransferToPublicJniResult transferToPublicOutputJson(Json json) throws IOException {
+        return JsonMapper.INSTANCE.readValue(json.transferToPublicOutput, TransferToPublicJniResult.class);
+    }
+
+    @Benchmark
+    public TransferToPublicJniOutput transferToPublic(Inputs inputs) {
+        return EncryptedTransfers.createSecToPubTransferPayload(
+                inputs.parameters, inputs.encryptedAmount, inputs.secretKey, CCDAmount.fromMicro(10));
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public TransferToPublicJniOutput transferToPublicAllThreads(Inputs inputs) {
+        return transferToPublic(inputs);
+    }
+}
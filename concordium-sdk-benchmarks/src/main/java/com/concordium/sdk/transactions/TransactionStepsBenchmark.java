@@ -0,0 +1,67 @@
+package com.concordium.sdk.transactions;
+
+import com.concordium.sdk.benchmarks.Signers;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the individual steps of building a transfer with {@link TransactionFactory#newTransfer()}:
+ * constructing the header, signing the payload, serializing the block item and hashing it.
+ * <p>
+ * It lives in the package of the SDK as the steps are package private.
+ * Run with {@code -prof gc} for the bytes allocated per step ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionStepsBenchmark {
+
+    private static final AccountAddress SENDER = AccountAddress.from("3JwD2Wm3nMbsowCwb1iGEpnt47UQgdrtnq2qT6opJc3z2AgCrc");
+    private static final AccountAddress RECEIVER = AccountAddress.from("3hYXYEPuGyhFcVRhSk2cVgKBhzVcAryjPskYk4SecpwGnoHhuM");
+    private static final AccountNonce NONCE = AccountNonce.from(78910);
+    private static final Expiry EXPIRY = Expiry.from(123456);
+    private static final CCDAmount AMOUNT = CCDAmount.fromMicro(17);
+
+    @Param({"jni", "jdk"})
+    public String signer;
+
+    private TransactionSigner transactionSigner;
+    private Payload payload;
+    private BlockItem blockItem;
+
+    @Setup
+    public void setUp() throws Exception {
+        transactionSigner = Signers.of(signer);
+        payload = header();
+        blockItem = payload.signWith(transactionSigner).toBlockItem();
+    }
+
+    @Benchmark
+    public Payload header() {
+        return Transfer.createNew(RECEIVER, AMOUNT)
+                .withHeader(TransactionHeader.builder()
+                        .sender(SENDER)
+                        .accountNonce(NONCE.getNonce())
+                        .expiry(EXPIRY.getValue())
+                        .build());
+    }
+
+    @Benchmark
+    public Payload signWith() throws Exception {
+        return payload.signWith(transactionSigner);
+    }
+
+    @Benchmark
+    public byte[] getVersionedBytes() {
+        return blockItem.getVersionedBytes();
+    }
+
+    @Benchmark
+    public Hash getHash() {
+        return blockItem.getHash();
+    }
+}
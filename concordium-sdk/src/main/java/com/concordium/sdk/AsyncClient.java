@@ -0,0 +1,902 @@
+package com.concordium.sdk;
+
+import com.concordium.sdk.exceptions.*;
+import com.concordium.sdk.requests.getaccountinfo.AccountRequest;
+import com.concordium.sdk.responses.AccountIndex;
+import com.concordium.sdk.responses.BakerId;
+import com.concordium.sdk.responses.accountinfo.AccountInfo;
+import com.concordium.sdk.responses.ancestors.Ancestors;
+import com.concordium.sdk.responses.bannode.BanNodeRequest;
+import com.concordium.sdk.responses.birkparamsters.BirkParameters;
+import com.concordium.sdk.responses.blockinfo.BlockInfo;
+import com.concordium.sdk.responses.blocksatheight.BlocksAtHeight;
+import com.concordium.sdk.responses.blocksatheight.BlocksAtHeightRequest;
+import com.concordium.sdk.responses.blocksummary.BlockSummary;
+import com.concordium.sdk.responses.blocksummary.updates.queues.AnonymityRevokerInfo;
+import com.concordium.sdk.responses.blocksummary.updates.queues.IdentityProviderInfo;
+import com.concordium.sdk.responses.branch.Branch;
+import com.concordium.sdk.responses.consensusstatus.ConsensusStatus;
+import com.concordium.sdk.responses.cryptographicparameters.CryptographicParameters;
+import com.concordium.sdk.responses.intanceinfo.InstanceInfo;
+import com.concordium.sdk.responses.modulelist.ModuleRef;
+import com.concordium.sdk.responses.modulesource.ModuleSource;
+import com.concordium.sdk.responses.nodeinfo.NodeInfo;
+import com.concordium.sdk.responses.peerStats.PeerStatistics;
+import com.concordium.sdk.responses.peerlist.Peer;
+import com.concordium.sdk.responses.poolstatus.BakerPoolStatus;
+import com.concordium.sdk.responses.poolstatus.PassiveDelegationStatus;
+import com.concordium.sdk.responses.poolstatus.PoolStatus;
+import com.concordium.sdk.responses.rewardstatus.RewardsOverview;
+import com.concordium.sdk.responses.transactionstatus.TransactionStatus;
+import com.concordium.sdk.responses.transactionstatusinblock.TransactionStatusInBlock;
+import com.concordium.sdk.transactions.AccountAddress;
+import com.concordium.sdk.transactions.AccountNonce;
+import com.concordium.sdk.transactions.Hash;
+import com.concordium.sdk.transactions.Transaction;
+import com.concordium.sdk.types.ContractAddress;
+import com.concordium.sdk.types.UInt16;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Int32Value;
+import com.google.protobuf.StringValue;
+import concordium.ConcordiumP2PRpc;
+import concordium.P2PGrpc;
+import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
+import lombok.val;
+import org.semver4j.Semver;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The AsyncClient is the non-blocking counterpart of {@link Client}.
+ * <p>
+ * Every query is issued via the gRPC future stub, hence no caller thread is held while the request is in flight.
+ * The returned {@link CompletableFuture}s are completed on the decode {@link Executor} supplied when
+ * creating the client, which is also where the responses are parsed.
+ * <p>
+ * Failures that {@link Client} reports via checked exceptions (e.g. {@link BlockNotFoundException}) are
+ * delivered by completing the returned future exceptionally with the same exception.
+ * Transport failures are delivered as a {@link io.grpc.StatusRuntimeException}.
+ * Cancelling a returned future cancels the underlying gRPC call.
+ */
+public final class AsyncClient {
+
+    /**
+     * The grpc stub
+     */
+    private final P2PGrpc.P2PFutureStub futureStub;
+    /**
+     * The underlying grpc channel
+     */
+    private final ManagedChannel channel;
+
+    /**
+     * The executor used for decoding the responses and completing the returned futures.
+     */
+    private final Executor decodeExecutor;
+
+    /**
+     * Receives the measurements of the requests or 'null' if requests are not measured.
+     */
+    private final ClientMetrics metrics;
+
+    /**
+     * Tracks the sent transactions until they are finalized or 'null' if they are not tracked.
+     */
+    private final TransactionLifecycle lifecycle;
+
+    /**
+     * Convenient way of creating a new {@link AsyncClient} based on the {@link Connection}.
+     * Responses are decoded on the {@link ForkJoinPool#commonPool()}.
+     *
+     * @param connection the connection which this client should use.
+     * @return A new {@link AsyncClient}
+     * @throws ClientInitializationException if the {@link AsyncClient} could not be constructed.
+     */
+    public static AsyncClient from(Connection connection) throws ClientInitializationException {
+        return from(connection, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create a new {@link AsyncClient} based on the {@link Connection}
+     * decoding the responses on the provided {@link Executor}.
+     *
+     * @param connection     the connection which this client should use.
+     * @param decodeExecutor the executor to decode the responses on.
+     * @return A new {@link AsyncClient}
+     * @throws ClientInitializationException if the {@link AsyncClient} could not be constructed.
+     */
+    public static AsyncClient from(Connection connection, Executor decodeExecutor) throws ClientInitializationException {
+        try {
+            return new AsyncClient(connection, PooledChannel.from(connection), decodeExecutor);
+        } catch (IOException e) {
+            throw ClientInitializationException.from(e);
+        }
+    }
+
+    AsyncClient(Connection connection, ManagedChannel channel, Executor decodeExecutor) {
+        if (Objects.isNull(decodeExecutor)) {
+            throw new IllegalArgumentException("Decode executor cannot be null");
+        }
+        this.channel = channel;
+        this.decodeExecutor = decodeExecutor;
+        this.metrics = connection.getMetrics();
+        this.lifecycle = connection.getLifecycle();
+        this.futureStub = P2PGrpc
+                .newFutureStub(connection.intercept(this.channel))
+                .withCallCredentials(connection.getCredentials());
+    }
+
+    /**
+     * Retrieves the {@link AccountInfo} based on the address {@link Hash} and the block {@link Hash}
+     *
+     * @param accountRequest The {@link AccountRequest}
+     *                       See {@link AccountRequest#from(AccountAddress)},
+     *                       {@link AccountRequest#from(AccountIndex)}
+     * @param blockHash      the block hash
+     * @return The {@link AccountInfo}, completed exceptionally with {@link AccountNotFoundException}
+     * if the account was not found.
+     */
+    public CompletableFuture<AccountInfo> getAccountInfo(AccountRequest accountRequest, Hash blockHash) {
+        val request = ConcordiumP2PRpc.GetAddressInfoRequest
+                .newBuilder()
+                .setAddressBytes(accountRequest.getByteString())
+                .setBlockHash(blockHash.asHex())
+                .build();
+        return call(P2PGrpc.getGetAccountInfoMethod(), server().getAccountInfo(request), response -> {
+            val accountInfo = AccountInfo.fromJson(response.getValue());
+            if (Objects.isNull(accountInfo)) {
+                throw AccountNotFoundException.from(accountRequest, blockHash);
+            }
+            return accountInfo;
+        });
+    }
+
+    /**
+     * Retrieves the next {@link AccountNonce} for an account.
+     *
+     * @param address The {@link AccountAddress}
+     * @return The next {@link AccountNonce}
+     */
+    public CompletableFuture<AccountNonce> getNextAccountNonce(AccountAddress address) {
+        val request = ConcordiumP2PRpc.AccountAddress
+                .newBuilder()
+                .setAccountAddressBytes(ByteString.copyFrom(address.getEncodedBytes()))
+                .build();
+        return call(P2PGrpc.getGetNextAccountNonceMethod(), server().getNextAccountNonce(request), response -> AccountNonce.fromJson(response.getValue()));
+    }
+
+    /**
+     * Retrieves the transaction status for a given transaction {@link Hash}
+     *
+     * @param transactionHash The transaction {@link Hash}
+     * @return The {@link TransactionStatus}, completed exceptionally with {@link TransactionNotFoundException}
+     * if the transaction was not found.
+     */
+    public CompletableFuture<TransactionStatus> getTransactionStatus(Hash transactionHash) {
+        val request = ConcordiumP2PRpc.TransactionHash
+                .newBuilder()
+                .setTransactionHash(transactionHash.asHex())
+                .build();
+        return call(P2PGrpc.getGetTransactionStatusMethod(), server().getTransactionStatus(request), response -> {
+            val status = TransactionStatus.fromJson(response.getValue());
+            if (Objects.isNull(status)) {
+                throw TransactionNotFoundException.from(transactionHash);
+            }
+            if (!Objects.isNull(lifecycle)) {
+                lifecycle.observed(transactionHash, status.getStatus());
+            }
+            return status;
+        });
+    }
+
+    /**
+     * Get the status of a transaction in a given block.
+     *
+     * @param transactionHash Transaction {@link Hash}
+     * @param blockHash       Block {@link Hash}
+     * @return Parsed {@link TransactionStatusInBlock}, completed exceptionally with
+     * {@link TransactionNotFoundInBlockException} if the transaction was not found in the block.
+     */
+    public CompletableFuture<TransactionStatusInBlock> getTransactionStatusInBlock(Hash transactionHash, Hash blockHash) {
+        val request = ConcordiumP2PRpc.GetTransactionStatusInBlockRequest.newBuilder()
+                .setBlockHash(blockHash.asHex())
+                .setTransactionHash(transactionHash.asHex())
+                .build();
+        return call(P2PGrpc.getGetTransactionStatusInBlockMethod(), server().getTransactionStatusInBlock(request), response -> TransactionStatusInBlock.fromJson(response)
+                .orElseThrow(() -> TransactionNotFoundInBlockException.from(transactionHash, blockHash)));
+    }
+
+    /**
+     * Retrieves the {@link ConsensusStatus}
+     *
+     * @return the {@link ConsensusStatus}
+     */
+    public CompletableFuture<ConsensusStatus> getConsensusStatus() {
+        return getConsensusStatus(server());
+    }
+
+    /**
+     * Retrieves the {@link ConsensusStatus} within the provided timeout.
+     * See {@link AsyncClient#getConsensusStatus()}.
+     *
+     * @param timeout the timeout of the request, overriding the {@link DeadlinePolicy} of the {@link Connection}.
+     * @return the {@link ConsensusStatus}
+     */
+    public CompletableFuture<ConsensusStatus> getConsensusStatus(Duration timeout) {
+        return getConsensusStatus(server(timeout));
+    }
+
+    private CompletableFuture<ConsensusStatus> getConsensusStatus(P2PGrpc.P2PFutureStub server) {
+        return call(P2PGrpc.getGetConsensusStatusMethod(), server.getConsensusStatus(ConcordiumP2PRpc.Empty.getDefaultInstance()),
+                response -> ConsensusStatus.fromJson(response.getValue()));
+    }
+
+    /**
+     * Retrieves a {@link BlockSummary}
+     *
+     * @param blockHash the block {@link Hash} to query.
+     * @return A {@link BlockSummary} for the block, completed exceptionally with {@link BlockNotFoundException}
+     * if the block was not found.
+     */
+    public CompletableFuture<BlockSummary> getBlockSummary(Hash blockHash) {
+        return getBlockSummary(blockHash, server());
+    }
+
+    /**
+     * Retrieves a {@link BlockSummary} within the provided timeout.
+     * See {@link AsyncClient#getBlockSummary(Hash)}.
+     *
+     * @param blockHash the block {@link Hash} to query.
+     * @param timeout   the timeout of the request, overriding the {@link DeadlinePolicy} of the {@link Connection}.
+     * @return A {@link BlockSummary} for the block, completed exceptionally with {@link BlockNotFoundException}
+     * if the block was not found.
+     */
+    public CompletableFuture<BlockSummary> getBlockSummary(Hash blockHash, Duration timeout) {
+        return getBlockSummary(blockHash, server(timeout));
+    }
+
+    private CompletableFuture<BlockSummary> getBlockSummary(Hash blockHash, P2PGrpc.P2PFutureStub server) {
+        val request = ConcordiumP2PRpc.BlockHash.newBuilder()
+                .setBlockHash(blockHash.asHex())
+                .build();
+        return call(P2PGrpc.getGetBlockSummaryMethod(), server.getBlockSummary(request), response -> {
+            val blockSummary = BlockSummary.fromJson(response.getValue());
+            if (Objects.isNull(blockSummary)) {
+                throw BlockNotFoundException.from(blockHash);
+            }
+            return blockSummary;
+        });
+    }
+
+    /**
+     * Retrieves a {@link BlockInfo}
+     *
+     * @param blockHash the block {@link Hash} to query.
+     * @return A {@link BlockInfo} for the block, completed exceptionally with {@link BlockNotFoundException}
+     * if the block was not found.
+     */
+    public CompletableFuture<BlockInfo> getBlockInfo(Hash blockHash) {
+        val request = ConcordiumP2PRpc.BlockHash.newBuilder()
+                .setBlockHash(blockHash.asHex())
+                .build();
+        return call(P2PGrpc.getGetBlockInfoMethod(), server().getBlockInfo(request), response -> {
+            val blockInfo = BlockInfo.fromJson(response.getValue());
+            if (Objects.isNull(blockInfo)) {
+                throw BlockNotFoundException.from(blockHash);
+            }
+            return blockInfo;
+        });
+    }
+
+    /**
+     * Retrieves a {@link BlocksAtHeight}
+     *
+     * @param height the {@link BlocksAtHeightRequest} request.
+     * @return A {@link BlocksAtHeight}, completed exceptionally with {@link BlockNotFoundException}
+     * if no blocks were present at the given height.
+     */
+    public CompletableFuture<BlocksAtHeight> getBlocksAtHeight(BlocksAtHeightRequest height) {
+        val requestBuilder = ConcordiumP2PRpc.BlockHeight.newBuilder()
+                .setBlockHeight(height.getHeight());
+        if (height.getType() == BlocksAtHeightRequest.Type.RELATIVE) {
+            requestBuilder.setFromGenesisIndex(height.getGenesisIndex());
+            requestBuilder.setRestrictToGenesisIndex(height.isRestrictedToGenesisIndex());
+        }
+        return call(P2PGrpc.getGetBlocksAtHeightMethod(), server().getBlocksAtHeight(requestBuilder.build()), response -> {
+            val blocksAtHeight = BlocksAtHeight.fromJson(response.getValue());
+            if (Objects.isNull(blocksAtHeight) || blocksAtHeight.getBlocks().isEmpty()) {
+                throw BlockNotFoundException.from(height);
+            }
+            return blocksAtHeight;
+        });
+    }
+
+    /**
+     * Sends a {@link Transaction} to the node.
+     * Contrary to {@link Client#sendTransaction(Transaction)} the transaction is not sent again if sending fails.
+     *
+     * @param transaction the {@link Transaction} to be sent.
+     * @return The transaction {@link Hash} of the transaction sent if the node accepted it,
+     * otherwise the future is completed exceptionally with a {@link TransactionRejectionException}.
+     */
+    public CompletableFuture<Hash> sendTransaction(Transaction transaction) {
+        val request = ConcordiumP2PRpc.SendTransactionRequest
+                .newBuilder()
+                .setNetworkId(transaction.getNetworkId())
+                .setPayload(ByteString.copyFrom(transaction.getBytes()))
+                .build();
+        val startNanos = System.nanoTime();
+        return call(P2PGrpc.getSendTransactionMethod(), server().sendTransaction(request), response -> {
+            if (response.getValue()) {
+                if (!Objects.isNull(lifecycle)) {
+                    lifecycle.sent(transaction.getHash(), System.nanoTime() - startNanos);
+                }
+                return transaction.getHash();
+            }
+            throw TransactionRejectionException.from(transaction);
+        });
+    }
+
+    /**
+     * Get the {@link CryptographicParameters} at a given block.
+     *
+     * @param blockHash the hash of the block
+     * @return the cryptographic parameters at the given block, completed exceptionally with
+     * {@link BlockNotFoundException} if the block was not found.
+     */
+    public CompletableFuture<CryptographicParameters> getCryptographicParameters(Hash blockHash) {
+        val request = ConcordiumP2PRpc.BlockHash.newBuilder()
+                .setBlockHash(blockHash.asHex())
+                .build();
+        return call(P2PGrpc.getGetCryptographicParametersMethod(), server().getCryptographicParameters(request), response -> {
+            val cryptographicParameters = CryptographicParameters.from(response.getValue());
+            if (Objects.isNull(cryptographicParameters)) {
+                throw BlockNotFoundException.from(blockHash);
+            }
+            return cryptographicParameters;
+        });
+    }
+
+    /**
+     * Gets the Node information.
+     *
+     * @return Parsed {@link NodeInfo}
+     */
+    public CompletableFuture<NodeInfo> getNodeInfo() {
+        return call(P2PGrpc.getNodeInfoMethod(), server().nodeInfo(ConcordiumP2PRpc.Empty.getDefaultInstance()), NodeInfo::parse);
+    }
+
+    /**
+     * Gets the Peer uptime.
+     *
+     * @return Peer Uptime {@link Duration}.
+     */
+    public CompletableFuture<Duration> getUptime() {
+        return call(P2PGrpc.getPeerUptimeMethod(), server().peerUptime(ConcordiumP2PRpc.Empty.getDefaultInstance()),
+                response -> Duration.ofMillis(response.getValue()));
+    }
+
+    /**
+     * Gets the total number of packets sent.
+     *
+     * @return Total number of packets sent.
+     */
+    public CompletableFuture<Long> getTotalSent() {
+        return call(P2PGrpc.getPeerTotalSentMethod(), server().peerTotalSent(ConcordiumP2PRpc.Empty.getDefaultInstance()),
+                ConcordiumP2PRpc.NumberResponse::getValue);
+    }
+
+    /**
+     * Query for the total number of packets that the node has received thus far.
+     *
+     * @return Total number of received packets.
+     */
+    public CompletableFuture<Long> getTotalReceived() {
+        return call(P2PGrpc.getPeerTotalReceivedMethod(), server().peerTotalReceived(ConcordiumP2PRpc.Empty.getDefaultInstance()),
+                ConcordiumP2PRpc.NumberResponse::getValue);
+    }
+
+    /**
+     * Gets Peers list connected to the Node
+     *
+     * @param includeBootstrappers if true will include Bootstrapper nodes in the response.
+     * @return An {@link ImmutableList} of {@link Peer}, completed exceptionally with
+     * {@link java.net.UnknownHostException} if a returned IP address of a Peer is invalid.
+     */
+    public CompletableFuture<ImmutableList<Peer>> getPeerList(boolean includeBootstrappers) {
+        val request = ConcordiumP2PRpc.PeersRequest.newBuilder()
+                .setIncludeBootstrappers(includeBootstrappers)
+                .build();
+        return call(P2PGrpc.getPeerListMethod(), server().peerList(request), response -> Peer.toList(response.getPeersList()));
+    }
+
+    /**
+     * Gets {@link PeerStatistics} of the node.
+     *
+     * @param includeBootstrappers Whether bootstrappers should be included in the response.
+     * @return Peer Statistics in the format {@link PeerStatistics}
+     */
+    public CompletableFuture<PeerStatistics> getPeerStatistics(final boolean includeBootstrappers) {
+        val request = ConcordiumP2PRpc.PeersRequest.newBuilder()
+                .setIncludeBootstrappers(includeBootstrappers)
+                .build();
+        return call(P2PGrpc.getPeerStatsMethod(), server().peerStats(request), PeerStatistics::parse);
+    }
+
+    /**
+     * Gets the Semantic Version of the Peer Software / Node
+     *
+     * @return Version of the Peer / Node
+     */
+    public CompletableFuture<Semver> getVersion() {
+        return call(P2PGrpc.getPeerVersionMethod(), server().peerVersion(ConcordiumP2PRpc.Empty.getDefaultInstance()),
+                response -> new Semver(response.getValue()));
+    }
+
+    /**
+     * Get the IDs of the bakers registered in the given block.
+     *
+     * @param blockHash {@link Hash} of the block bakers are to be retrieved.
+     * @return Parsed {@link ImmutableList} of {@link BakerId}, completed exceptionally with
+     * {@link BlockNotFoundException} if the block was not found.
+     */
+    public CompletableFuture<ImmutableList<BakerId>> getBakerList(Hash blockHash) {
+        val request = ConcordiumP2PRpc.BlockHash.newBuilder().setBlockHash(blockHash.asHex()).build();
+        return call(P2PGrpc.getGetBakerListMethod(), server().getBakerList(request), response -> BakerId.fromJsonArray(response.getValue())
+                .orElseThrow(() -> BlockNotFoundException.from(blockHash)));
+    }
+
+    /**
+     * Get the status of a given baker pool at the given block.
+     *
+     * @param blockHash {@link Hash} of the block.
+     * @param bakerId   {@link BakerId} The baker id.
+     * @return The {@link BakerPoolStatus} at the block specified, completed exceptionally with
+     * {@link PoolNotFoundException} when the pool could not be found for the given block.
+     */
+    public CompletableFuture<BakerPoolStatus> getPoolStatus(final Hash blockHash, final BakerId bakerId) {
+        val request = ConcordiumP2PRpc.GetPoolStatusRequest.newBuilder()
+                .setBlockHash(blockHash.asHex())
+                .setPassiveDelegation(false)
+                .setBakerId(bakerId.toLong())
+                .build();
+        return call(P2PGrpc.getGetPoolStatusMethod(), server().getPoolStatus(request), response -> (BakerPoolStatus) PoolStatus.fromJson(response.getValue())
+                .orElseThrow(() -> PoolNotFoundException.from(Optional.of(bakerId), blockHash)));
+    }
+
+    /**
+     * Get the status of the passive delegation pool at the given block.
+     *
+     * @param blockHash {@link Hash} of the block.
+     * @return The {@link PassiveDelegationStatus} at the block specified, completed exceptionally with
+     * {@link PoolNotFoundException} when the pool could not be found for the given block.
+     */
+    public CompletableFuture<PassiveDelegationStatus> getPassiveDelegationStatus(final Hash blockHash) {
+        val request = ConcordiumP2PRpc.GetPoolStatusRequest.newBuilder()
+                .setBlockHash(blockHash.asHex())
+                .setPassiveDelegation(true)
+                .build();
+        return call(P2PGrpc.getGetPoolStatusMethod(), server().getPoolStatus(request), response -> (PassiveDelegationStatus) PoolStatus.fromJson(response.getValue())
+                .orElseThrow(() -> PoolNotFoundException.from(Optional.empty(), blockHash)));
+    }
+
+    /**
+     * Ban a specific node.
+     *
+     * @param request {@link BanNodeRequest}
+     * @return true if the specified node was banned. False otherwise.
+     * @throws IllegalArgumentException if neither the IP nor the ID of the node is present.
+     */
+    public CompletableFuture<Boolean> banNode(final BanNodeRequest request) {
+        val builder = ConcordiumP2PRpc.PeerElement.newBuilder();
+
+        if (request.getIp().isPresent()) {
+            builder.setIp(StringValue.of(request.getIp().get().getHostAddress()));
+        } else if (request.getId().isPresent()) {
+            builder.setNodeId(StringValue.of(request.getId().get()));
+        } else {
+            throw new IllegalArgumentException("Either node IP or node ID must be present.");
+        }
+
+        return call(P2PGrpc.getBanNodeMethod(), server().banNode(builder.build()), ConcordiumP2PRpc.BoolResponse::getValue);
+    }
+
+    /**
+     * Unban a specific node.
+     *
+     * @param ip {@link InetAddress}.
+     * @return true if the specified node was unbanned. False otherwise.
+     */
+    public CompletableFuture<Boolean> unBanNode(final InetAddress ip) {
+        val peerElement = ConcordiumP2PRpc.PeerElement.newBuilder()
+                .setIp(StringValue.of(ip.getHostAddress()))
+                .build();
+        return call(P2PGrpc.getUnbanNodeMethod(), server().unbanNode(peerElement), ConcordiumP2PRpc.BoolResponse::getValue);
+    }
+
+    /**
+     * Start the baker.
+     *
+     * @return true if baker could be started. false otherwise.
+     */
+    public CompletableFuture<Boolean> startBaker() {
+        return call(P2PGrpc.getStartBakerMethod(), server().startBaker(ConcordiumP2PRpc.Empty.getDefaultInstance()),
+                ConcordiumP2PRpc.BoolResponse::getValue);
+    }
+
+    /**
+     * Stop the baker.
+     *
+     * @return true if baker could be stopped. false otherwise.
+     */
+    public CompletableFuture<Boolean> stopBaker() {
+        return call(P2PGrpc.getStopBakerMethod(), server().stopBaker(ConcordiumP2PRpc.Empty.getDefaultInstance()),
+                ConcordiumP2PRpc.BoolResponse::getValue);
+    }
+
+    /**
+     * Instruct the node to try to connect to the given peer.
+     *
+     * @param address The {@link InetSocketAddress} of the node to connect to.
+     * @return true if Peer Connect was successful. false Otherwise
+     */
+    public CompletableFuture<Boolean> peerConnect(InetSocketAddress address) {
+        val request = ConcordiumP2PRpc.PeerConnectRequest.newBuilder()
+                .setIp(StringValue.of(address.getHostName()))
+                .setPort(Int32Value.newBuilder().setValue(address.getPort()).build())
+                .build();
+        return call(P2PGrpc.getPeerConnectMethod(), server().peerConnect(request), ConcordiumP2PRpc.BoolResponse::getValue);
+    }
+
+    /**
+     * Get the list of transactions hashes for transactions that claim to be from the given account,
+     * but which are not yet finalized.
+     * If the account does not exist an empty list will be returned.
+     *
+     * @param address {@link AccountAddress}
+     * @return {@link ImmutableList} of Transaction {@link Hash}
+     */
+    public CompletableFuture<ImmutableList<Hash>> getAccountNonFinalizedTransactions(AccountAddress address) {
+        val request = ConcordiumP2PRpc.AccountAddress.newBuilder().setAccountAddress(address.encoded()).build();
+        return call(P2PGrpc.getGetAccountNonFinalizedTransactionsMethod(), server().getAccountNonFinalizedTransactions(request), response -> Hash.fromJsonArray(response.getValue())
+                .orElse(ImmutableList.of()));
+    }
+
+    /**
+     * Get the source of a smart contract module.
+     *
+     * @param moduleRef {@link ModuleRef} of module to retrieve.
+     * @param blockHash {@link Hash} of the Block at which the module source is to be retrieved.
+     * @return Parsed {@link ModuleSource}, completed exceptionally with {@link ModuleNotFoundException}
+     * when the module cannot be found.
+     */
+    public CompletableFuture<ModuleSource> getModuleSource(ModuleRef moduleRef, Hash blockHash) {
+        return getModuleSource(moduleRef, blockHash, server());
+    }
+
+    /**
+     * Get the source of a smart contract module within the provided timeout.
+     * See {@link AsyncClient#getModuleSource(ModuleRef, Hash)}.
+     *
+     * @param moduleRef {@link ModuleRef} of module to retrieve.
+     * @param blockHash {@link Hash} of the Block at which the module source is to be retrieved.
+     * @param timeout   the timeout of the request, overriding the {@link DeadlinePolicy} of the {@link Connection}.
+     * @return Parsed {@link ModuleSource}, completed exceptionally with {@link ModuleNotFoundException}
+     * when the module cannot be found.
+     */
+    public CompletableFuture<ModuleSource> getModuleSource(ModuleRef moduleRef, Hash blockHash, Duration timeout) {
+        return getModuleSource(moduleRef, blockHash, server(timeout));
+    }
+
+    private CompletableFuture<ModuleSource> getModuleSource(ModuleRef moduleRef, Hash blockHash, P2PGrpc.P2PFutureStub server) {
+        val request = ConcordiumP2PRpc.GetModuleSourceRequest.newBuilder()
+                .setBlockHash(blockHash.asHex())
+                .setModuleRef(moduleRef.asHex())
+                .build();
+        return call(P2PGrpc.getGetModuleSourceMethod(), server.getModuleSource(request), response -> {
+            if (response.getValue().isEmpty()) {
+                throw ModuleNotFoundException.from(blockHash, moduleRef);
+            }
+            return ModuleSource.from(response.getValue().toByteArray());
+        });
+    }
+
+    /**
+     * Get the list of smart contract modules in the given block.
+     *
+     * @param blockHash {@link Hash} of block at which the modules list is being retrieved.
+     * @return Parsed {@link ImmutableList} of {@link ModuleRef}, completed exceptionally with
+     * {@link BlockNotFoundException} when the block could not be found.
+     */
+    public CompletableFuture<ImmutableList<ModuleRef>> getModuleList(final Hash blockHash) {
+        val request = ConcordiumP2PRpc.BlockHash.newBuilder().setBlockHash(blockHash.asHex()).build();
+        return call(P2PGrpc.getGetModuleListMethod(), server().getModuleList(request), response -> ModuleRef.moduleRefsFromJsonArray(response.getValue())
+                .orElseThrow(() -> BlockNotFoundException.from(blockHash)));
+    }
+
+    /**
+     * Get an overview of the parameters used for baking for the specified block.
+     *
+     * @param blockHash {@link Hash} of the block at which the parameters need to be retrieved.
+     * @return Parsed {@link BirkParameters}, completed exceptionally with
+     * {@link BlockNotFoundException} when the block could not be found.
+     */
+    public CompletableFuture<BirkParameters> getBirkParameters(Hash blockHash) {
+        val request = ConcordiumP2PRpc.BlockHash.newBuilder().setBlockHash(blockHash.asHex()).build();
+        return call(P2PGrpc.getGetBirkParametersMethod(), server().getBirkParameters(request), response -> BirkParameters.fromJson(response)
+                .orElseThrow(() -> BlockNotFoundException.from(blockHash)));
+    }
+
+    /**
+     * Shut down the node.
+     *
+     * @return whether it was shutdown or not.
+     */
+    public CompletableFuture<Boolean> shutdown() {
+        return call(P2PGrpc.getShutdownMethod(), server().shutdown(ConcordiumP2PRpc.Empty.getDefaultInstance()),
+                ConcordiumP2PRpc.BoolResponse::getValue);
+    }
+
+    /**
+     * Ask the node to join the specified network.
+     *
+     * @param networkId {@link UInt16} Network ID.
+     * @return true if network has been joined successfully. False otherwise.
+     */
+    public CompletableFuture<Boolean> joinNetwork(final UInt16 networkId) {
+        val request = ConcordiumP2PRpc.NetworkChangeRequest.newBuilder()
+                .setNetworkId(Int32Value.newBuilder().setValue(networkId.getValue()).build())
+                .build();
+        return call(P2PGrpc.getJoinNetworkMethod(), server().joinNetwork(request), ConcordiumP2PRpc.BoolResponse::getValue);
+    }
+
+    /**
+     * Ask the node to leave the specified network.
+     *
+     * @param networkId {@link UInt16} Network ID.
+     * @return true if network has been left successfully. False otherwise.
+     */
+    public CompletableFuture<Boolean> leaveNetwork(final UInt16 networkId) {
+        val request = ConcordiumP2PRpc.NetworkChangeRequest.newBuilder()
+                .setNetworkId(Int32Value.newBuilder().setValue(networkId.getValue()).build())
+                .build();
+        return call(P2PGrpc.getLeaveNetworkMethod(), server().leaveNetwork(request), ConcordiumP2PRpc.BoolResponse::getValue);
+    }
+
+    /**
+     * Get the smart contract instance information given the {@link ContractAddress} for the provided block {@link Hash}.
+     *
+     * @param contractAddress {@link ContractAddress}
+     * @param blockHash       {@link Hash} of the block
+     * @return The {@link InstanceInfo}, completed exceptionally with {@link ContractInstanceNotFoundException}
+     * when the contract instance could not be found for the provided block hash.
+     */
+    public CompletableFuture<InstanceInfo> getInstanceInfo(final ContractAddress contractAddress, final Hash blockHash) {
+        val request = ConcordiumP2PRpc.GetAddressInfoRequest
+                .newBuilder()
+                .setAddress(contractAddress.toJson())
+                .setBlockHash(blockHash.asHex())
+                .build();
+        return call(P2PGrpc.getGetInstanceInfoMethod(), server().getInstanceInfo(request), response -> InstanceInfo.fromJson(response)
+                .orElseThrow(() -> ContractInstanceNotFoundException.from(contractAddress, blockHash)));
+    }
+
+    /**
+     * Get the list of smart contract instances in a given block at the time of commitment.
+     *
+     * @param blockHash {@link Hash} at which the instances need to be fetched.
+     * @return {@link ImmutableList} of {@link ContractAddress}, completed exceptionally with
+     * {@link BlockNotFoundException} when no block could be found with the provided block {@link Hash}.
+     */
+    public CompletableFuture<ImmutableList<ContractAddress>> getInstances(Hash blockHash) {
+        val request = ConcordiumP2PRpc.BlockHash.newBuilder().setBlockHash(blockHash.asHex()).build();
+        return call(P2PGrpc.getGetInstancesMethod(), server().getInstances(request), response -> ContractAddress.toList(response)
+                .orElseThrow(() -> BlockNotFoundException.from(blockHash)));
+    }
+
+    /**
+     * Get the list of accounts in the given block.
+     *
+     * @param blockHash Hash of the block at which to retrieve the accounts.
+     * @return An {@link ImmutableList} of {@link AccountAddress}, completed exceptionally with
+     * {@link BlockNotFoundException} if an invalid block hash was provided.
+     */
+    public CompletableFuture<ImmutableList<AccountAddress>> getAccountList(Hash blockHash) {
+        val request = ConcordiumP2PRpc.BlockHash.newBuilder().setBlockHash(blockHash.asHex()).build();
+        return call(P2PGrpc.getGetAccountListMethod(), server().getAccountList(request), response -> AccountAddress.toList(response)
+                .orElseThrow(() -> BlockNotFoundException.from(blockHash)));
+    }
+
+    /**
+     * Get a list of banned peers.
+     *
+     * @return An {@link ImmutableList} of {@link Peer}, completed exceptionally with
+     * {@link java.net.UnknownHostException} if a returned IP address of a Peer is invalid.
+     */
+    public CompletableFuture<ImmutableList<Peer>> getBannedPeers() {
+        return call(P2PGrpc.getGetBannedPeersMethod(), server().getBannedPeers(ConcordiumP2PRpc.Empty.getDefaultInstance()),
+                response -> Peer.toList(response.getPeersList()));
+    }
+
+    /**
+     * Gets Block Ancestor Blocks.
+     *
+     * @param blockHash {@link Hash} of the block.
+     * @param num       Total no of Ancestor blocks to get.
+     * @return {@link ImmutableList} of {@link Hash}, completed exceptionally with
+     * {@link BlockNotFoundException} when the returned response from Node is invalid or null.
+     */
+    public CompletableFuture<ImmutableList<Hash>> getAncestors(Hash blockHash, long num) {
+        val request = ConcordiumP2PRpc.BlockHashAndAmount
+                .newBuilder()
+                .setBlockHash(blockHash.asHex())
+                .setAmount(num)
+                .build();
+        return call(P2PGrpc.getGetAncestorsMethod(), server().getAncestors(request), response -> Ancestors.fromJson(response)
+                .orElseThrow(() -> BlockNotFoundException.from(blockHash)));
+    }
+
+    /**
+     * Get the information about total amount of CCD and the state of various special accounts in the provided block.
+     *
+     * @param blockHash Block at which the reward status is to be retrieved.
+     * @return Parsed {@link RewardsOverview}, completed exceptionally with
+     * {@link BlockNotFoundException} when the returned response is null.
+     */
+    public CompletableFuture<RewardsOverview> getRewardStatus(final Hash blockHash) {
+        val request = ConcordiumP2PRpc.BlockHash.newBuilder().setBlockHash(blockHash.asHex()).build();
+        return call(P2PGrpc.getGetRewardStatusMethod(), server().getRewardStatus(request), response -> RewardsOverview.fromJson(response)
+                .orElseThrow(() -> BlockNotFoundException.from(blockHash)));
+    }
+
+    /**
+     * Get the branches of the node's tree.
+     *
+     * @return {@link Branch}
+     */
+    public CompletableFuture<Branch> getBranches() {
+        return call(P2PGrpc.getGetBranchesMethod(), server().getBranches(ConcordiumP2PRpc.Empty.getDefaultInstance()), Branch::fromJson);
+    }
+
+    /**
+     * Get the list of identity providers in the given block.
+     *
+     * @param blockHash Block {@link Hash}.
+     * @return {@link ImmutableList} of {@link IdentityProviderInfo}, completed exceptionally with
+     * {@link BlockNotFoundException} when an invalid block hash was provided.
+     */
+    public CompletableFuture<ImmutableList<IdentityProviderInfo>> getIdentityProviders(Hash blockHash) {
+        val request = ConcordiumP2PRpc.BlockHash.newBuilder().setBlockHash(blockHash.asHex()).build();
+        return call(P2PGrpc.getGetIdentityProvidersMethod(), server().getIdentityProviders(request), response -> IdentityProviderInfo.fromJsonArray(response.getValue())
+                .orElseThrow(() -> BlockNotFoundException.from(blockHash)));
+    }
+
+    /**
+     * Get the list of anonymity revokers in the given block.
+     *
+     * @param blockHash Block {@link Hash}.
+     * @return {@link ImmutableList} of {@link AnonymityRevokerInfo}, completed exceptionally with
+     * {@link BlockNotFoundException} when an invalid block hash was provided.
+     */
+    public CompletableFuture<ImmutableList<AnonymityRevokerInfo>> getAnonymityRevokers(Hash blockHash) {
+        val request = ConcordiumP2PRpc.BlockHash.newBuilder().setBlockHash(blockHash.asHex()).build();
+        return call(P2PGrpc.getGetAnonymityRevokersMethod(), server().getAnonymityRevokers(request), response -> AnonymityRevokerInfo.fromJsonArray(response.getValue())
+                .orElseThrow(() -> BlockNotFoundException.from(blockHash)));
+    }
+
+    /**
+     * Closes the underlying grpc channel
+     * <p>
+     * Subsequent calls following a closed channel will complete exceptionally with a {@link io.grpc.StatusRuntimeException}
+     */
+    public void close() {
+        this.channel.shutdown();
+    }
+
+    /**
+     * Bridge the {@link ListenableFuture} returned by the gRPC future stub into a {@link CompletableFuture}
+     * which is completed with the decoded response.
+     * The decoding is carried out on {@link AsyncClient#decodeExecutor}.
+     *
+     * @param method   the method of the query.
+     * @param response the pending gRPC response.
+     * @param decoder  function decoding the gRPC response.
+     * @param <R>      type of the gRPC response.
+     * @param <T>      type of the decoded response.
+     * @return a {@link CompletableFuture} completed with the decoded response.
+     */
+    private <R, T> CompletableFuture<T> call(MethodDescriptor<?, R> method, ListenableFuture<R> response, Decoder<R, T> decoder) {
+        val result = new CompletableFuture<T>();
+        result.whenComplete((value, throwable) -> {
+            if (result.isCancelled()) {
+                response.cancel(true);
+            }
+        });
+        Futures.addCallback(response, new FutureCallback<R>() {
+            @Override
+            public void onSuccess(R value) {
+                try {
+                    decodeExecutor.execute(() -> {
+                        try {
+                            result.complete(decode(method, value, decoder));
+                        } catch (Exception e) {
+                            result.completeExceptionally(e);
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    result.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                result.completeExceptionally(t);
+            }
+        }, MoreExecutors.directExecutor());
+        return result;
+    }
+
+    /**
+     * Decode a response, reporting the time spent to the {@link AsyncClient#metrics}.
+     */
+    private <R, T> T decode(MethodDescriptor<?, R> method, R response, Decoder<R, T> decoder) throws Exception {
+        if (Objects.isNull(metrics)) {
+            return decoder.decode(response);
+        }
+        val startNanos = System.nanoTime();
+        try {
+            return decoder.decode(response);
+        } finally {
+            metrics.onResponseDecoded(method.getFullMethodName(), System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Get the {@link concordium.P2PGrpc.P2PFutureStub}.
+     * The timeout of each query is the one of the {@link DeadlinePolicy} of the {@link Connection} used to
+     * initialize `this`, or the timeout of the {@link Connection} if the policy does not cover the query.
+     *
+     * @return The stub.
+     */
+    private P2PGrpc.P2PFutureStub server() {
+        return this.futureStub;
+    }
+
+    /**
+     * Get a {@link concordium.P2PGrpc.P2PFutureStub} with a timeout overriding the {@link DeadlinePolicy}.
+     *
+     * @param timeout the timeout.
+     * @return A new stub with a timeout.
+     */
+    private P2PGrpc.P2PFutureStub server(Duration timeout) {
+        if (Objects.isNull(timeout) || timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Timeout must be positive");
+        }
+        return this.futureStub.withDeadlineAfter(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Decodes a gRPC response into its parsed form.
+     * A {@link Decoder} may throw for signalling e.g. that the requested entity was not found.
+     */
+    @FunctionalInterface
+    private interface Decoder<R, T> {
+        T decode(R response) throws Exception;
+    }
+}
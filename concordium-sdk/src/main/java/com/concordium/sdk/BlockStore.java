@@ -0,0 +1,356 @@
+package com.concordium.sdk;
+
+import com.concordium.sdk.transactions.Hash;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import concordium.ConcordiumP2PRpc;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.CRC32;
+
+/**
+ * An append-only store of finalized blocks on disk, which a {@link Client} reads through.
+ * <p>
+ * The store keeps the raw responses of {@code getBlocksAtHeight} (by absolute height), {@code getBlockInfo} and
+ * {@code getBlockSummary} (by block hash) for finalized blocks. When a {@link Connection} has a store, the client answers
+ * these queries from the store if possible, and otherwise queries the node and appends the response if the block is
+ * finalized. Re-running a backfill thus reads from the disk instead of the node, and works without a node for the blocks
+ * which are already stored.
+ * <p>
+ * The responses are appended to memory-mapped segment files in the directory of the store. The index of the responses
+ * by height and block hash is kept in memory and rebuilt by scanning the segments when the store is opened. Every record
+ * is checksummed, so a record which was partially written when the process stopped is discarded and overwritten.
+ * <pre>
+ * try (BlockStore store = BlockStore.builder().directory(Paths.get("blocks")).build()) {
+ *     Client client = Client.from(Connection.builder()...blockStore(store).build());
+ *     ...
+ * }
+ * </pre>
+ * A store can only be opened once at a time, which is ensured by a lock on a file in the directory, and it is safe for
+ * concurrent use by several clients.
+ */
+public final class BlockStore implements AutoCloseable {
+
+    /**
+     * The default size of a segment file, 64 MiB.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".dat";
+    private static final String LOCK_FILE = "lock";
+
+    /**
+     * The size of a record besides its key and value: the kind, the length of the value and the checksum.
+     */
+    private static final int RECORD_OVERHEAD = 1 + Integer.BYTES + Integer.BYTES;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final FileLock lock;
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+    private final Map<Key, Long> index = new ConcurrentHashMap<>();
+
+    /**
+     * The position of the next record in the last segment.
+     */
+    private int position;
+
+    @Getter
+    private volatile long bytes;
+    private volatile boolean closed;
+
+    private BlockStore(Path directory, int segmentSize, FileLock lock) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.lock = lock;
+    }
+
+    /**
+     * Open a {@link BlockStore}, creating the directory if it does not exist.
+     *
+     * @param directory   the directory of the segment files.
+     * @param segmentSize the size of a segment file in bytes. Defaults to {@link BlockStore#DEFAULT_SEGMENT_SIZE}.
+     *                    Responses larger than a segment are stored in a segment of their own.
+     * @return the store.
+     * @throws IOException if the segment files could not be created or read, or the store is already open.
+     */
+    @Builder
+    private static BlockStore open(Path directory, int segmentSize) throws IOException {
+        Objects.requireNonNull(directory, "Directory must be specified");
+        if (segmentSize < 0) {
+            throw new IllegalArgumentException("Segment size cannot be negative");
+        }
+        Files.createDirectories(directory);
+        val lock = lock(directory);
+        try {
+            val store = new BlockStore(directory, segmentSize == 0 ? DEFAULT_SEGMENT_SIZE : segmentSize, lock);
+            store.load();
+            return store;
+        } catch (IOException | RuntimeException e) {
+            lock.channel().close();
+            throw e;
+        }
+    }
+
+    /**
+     * Lock the store, so it is not opened by another process or twice by this process.
+     */
+    private static FileLock lock(Path directory) throws IOException {
+        val channel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock lock;
+        try {
+            lock = channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            lock = null;
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        if (Objects.isNull(lock)) {
+            channel.close();
+            throw new IOException("Block store " + directory + " is already open");
+        }
+        return lock;
+    }
+
+    /**
+     * @return the number of stored responses.
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Write the appended responses to the disk.
+     */
+    public synchronized void flush() {
+        for (Segment segment : segments) {
+            segment.buffer.force();
+        }
+    }
+
+    /**
+     * Flush and close the store, releasing its lock. Clients using the store must not be used afterwards.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        flush();
+        closed = true;
+        try {
+            // Closing the channel releases the lock.
+            lock.channel().close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static Key height(long height) {
+        return new Key(Kind.BLOCKS_AT_HEIGHT, ByteString.copyFrom(ByteBuffer.allocate(Long.BYTES).putLong(0, height)));
+    }
+
+    static Key blockInfo(Hash blockHash) {
+        return new Key(Kind.BLOCK_INFO, ByteString.copyFrom(blockHash.getBytes()));
+    }
+
+    static Key blockSummary(Hash blockHash) {
+        return new Key(Kind.BLOCK_SUMMARY, ByteString.copyFrom(blockHash.getBytes()));
+    }
+
+    boolean contains(Key key) {
+        return index.containsKey(key);
+    }
+
+    /**
+     * @return the stored response or 'null' if it is not stored.
+     */
+    ConcordiumP2PRpc.JsonResponse get(Key key) {
+        val location = index.get(key);
+        if (Objects.isNull(location)) {
+            return null;
+        }
+        val buffer = segments.get((int) (location >>> 32)).buffer.duplicate();
+        buffer.position((int) (location & 0xFFFFFFFFL) + 1 + key.kind.keyLength);
+        val length = buffer.getInt();
+        buffer.position(buffer.position() + Integer.BYTES);
+        buffer.limit(buffer.position() + length);
+        try {
+            return ConcordiumP2PRpc.JsonResponse.parseFrom(buffer);
+        } catch (InvalidProtocolBufferException e) {
+            throw new IllegalStateException("Corrupt record in block store " + directory, e);
+        }
+    }
+
+    /**
+     * Append a response unless a response with the same key is already stored.
+     */
+    synchronized void put(Key key, ConcordiumP2PRpc.JsonResponse response) {
+        if (closed) {
+            throw new IllegalStateException("Block store " + directory + " is closed");
+        }
+        if (index.containsKey(key)) {
+            return;
+        }
+        val value = response.toByteArray();
+        val recordLength = RECORD_OVERHEAD + key.kind.keyLength + value.length;
+        try {
+            if (segments.isEmpty() || position + recordLength > last().capacity) {
+                newSegment(Math.max(segmentSize, recordLength));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        val segmentIndex = segments.size() - 1;
+        val buffer = last().buffer.duplicate();
+        buffer.position(position + 1);
+        key.value.copyTo(buffer);
+        buffer.putInt(value.length);
+        buffer.putInt(checksum(key.value, value));
+        buffer.put(value);
+        // The kind is written last, so a record is only visible once it is complete.
+        buffer.put(position, key.kind.tag);
+        index.put(key, ((long) segmentIndex << 32) | position);
+        position += recordLength;
+        bytes += recordLength;
+    }
+
+    private void load() throws IOException {
+        val paths = new ArrayList<Path>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            stream.forEach(paths::add);
+        }
+        paths.sort(null);
+        for (Path path : paths) {
+            segments.add(Segment.map(path, 0));
+            position = scan(segments.size() - 1);
+        }
+    }
+
+    /**
+     * Index the records of a segment.
+     *
+     * @return the position after the last valid record.
+     */
+    private int scan(int segmentIndex) {
+        val segment = segments.get(segmentIndex);
+        val buffer = segment.buffer.duplicate();
+        int offset = 0;
+        while (offset + RECORD_OVERHEAD <= segment.capacity) {
+            val kind = Kind.from(buffer.get(offset));
+            if (Objects.isNull(kind) || offset + RECORD_OVERHEAD + kind.keyLength > segment.capacity) {
+                break;
+            }
+            buffer.position(offset + 1);
+            val key = new byte[kind.keyLength];
+            buffer.get(key);
+            val length = buffer.getInt();
+            val checksum = buffer.getInt();
+            if (length < 0 || length > segment.capacity - buffer.position()) {
+                break;
+            }
+            val value = new byte[length];
+            buffer.get(value);
+            val keyBytes = ByteString.copyFrom(key);
+            if (checksum != checksum(keyBytes, value)) {
+                break;
+            }
+            index.put(new Key(kind, keyBytes), ((long) segmentIndex << 32) | offset);
+            offset = buffer.position();
+            bytes += RECORD_OVERHEAD + kind.keyLength + length;
+        }
+        return offset;
+    }
+
+    private void newSegment(int capacity) throws IOException {
+        val path = directory.resolve(String.format("%s%06d%s", SEGMENT_PREFIX, segments.size(), SEGMENT_SUFFIX));
+        segments.add(Segment.map(path, capacity));
+        position = 0;
+    }
+
+    private Segment last() {
+        return segments.get(segments.size() - 1);
+    }
+
+    private static int checksum(ByteString key, byte[] value) {
+        val crc = new CRC32();
+        crc.update(key.toByteArray());
+        crc.update(value);
+        return (int) crc.getValue();
+    }
+
+    @RequiredArgsConstructor
+    private static final class Segment {
+        private final MappedByteBuffer buffer;
+        private final int capacity;
+
+        /**
+         * Map a segment file, creating it with the capacity if it does not exist.
+         */
+        static Segment map(Path path, int capacity) throws IOException {
+            try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+                if (file.length() < capacity) {
+                    file.setLength(capacity);
+                }
+                val channel = file.getChannel();
+                val size = (int) Math.min(channel.size(), Integer.MAX_VALUE);
+                // The mapping remains valid after the file is closed.
+                return new Segment(channel.map(FileChannel.MapMode.READ_WRITE, 0, size), size);
+            }
+        }
+    }
+
+    enum Kind {
+        BLOCKS_AT_HEIGHT((byte) 1, Long.BYTES),
+        BLOCK_INFO((byte) 2, 32),
+        BLOCK_SUMMARY((byte) 3, 32);
+
+        private final byte tag;
+        private final int keyLength;
+
+        Kind(byte tag, int keyLength) {
+            this.tag = tag;
+            this.keyLength = keyLength;
+        }
+
+        static Kind from(byte tag) {
+            for (Kind kind : values()) {
+                if (kind.tag == tag) {
+                    return kind;
+                }
+            }
+            return null;
+        }
+    }
+
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    static final class Key {
+        private final Kind kind;
+        private final ByteString value;
+    }
+}
@@ -0,0 +1,205 @@
+package com.concordium.sdk;
+
+import io.grpc.Status;
+import lombok.val;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A circuit breaker guarding the channel to a single node, see {@link CircuitBreakerPolicy}.
+ * <p>
+ * The outcomes are kept in a ring buffer updated without locking, hence the rates are approximate
+ * while many calls complete concurrently. Only the transitions between the states are synchronized.
+ */
+final class CircuitBreaker {
+
+    private static final int RECORDED = 4;
+    private static final int FAILED = 1;
+    private static final int SLOW = 2;
+
+    private final CircuitBreakerPolicy policy;
+    private final long openDurationNanos;
+    private final long slowCallNanos;
+
+    private final AtomicIntegerArray window;
+    private final AtomicLong next = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+    private final AtomicInteger slowCalls = new AtomicInteger();
+
+    private final AtomicInteger probePermits = new AtomicInteger();
+    private final AtomicInteger probeSuccesses = new AtomicInteger();
+    private volatile CircuitBreakerState state = CircuitBreakerState.CLOSED;
+    private volatile long openedAtNanos;
+
+    CircuitBreaker(CircuitBreakerPolicy policy) {
+        this.policy = policy;
+        this.openDurationNanos = policy.getOpenDuration().toNanos();
+        this.slowCallNanos = Objects.isNull(policy.getSlowCallDuration()) ? Long.MAX_VALUE : policy.getSlowCallDuration().toNanos();
+        this.window = new AtomicIntegerArray(policy.getWindowSize());
+    }
+
+    /**
+     * @return the current state of the circuit.
+     */
+    CircuitBreakerState getState() {
+        return state;
+    }
+
+    /**
+     * Whether a call would currently be let through, without acquiring a permit.
+     *
+     * @return false if the circuit is open or if all probes of the half-open circuit are in flight.
+     */
+    boolean isAvailable() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                return System.nanoTime() - openedAtNanos >= openDurationNanos;
+            default:
+                return probePermits.get() > 0;
+        }
+    }
+
+    /**
+     * Acquire a permit for a call.
+     * A call which acquired a permit must report its outcome via {@link CircuitBreaker#record(Status, long)}.
+     *
+     * @return true if the call may proceed.
+     */
+    boolean tryAcquire() {
+        if (state == CircuitBreakerState.CLOSED) {
+            return true;
+        }
+        if (state == CircuitBreakerState.OPEN) {
+            if (System.nanoTime() - openedAtNanos < openDurationNanos) {
+                return false;
+            }
+            halfOpen();
+        }
+        return takeProbePermit();
+    }
+
+    /**
+     * Take one of the permits of the half-open circuit, never letting the number of permits go below zero,
+     * as a rejected call does not return a permit.
+     */
+    private boolean takeProbePermit() {
+        while (true) {
+            val permits = probePermits.get();
+            if (permits <= 0) {
+                return false;
+            }
+            if (probePermits.compareAndSet(permits, permits - 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Record the outcome of a call.
+     *
+     * @param status       the status the call was closed with.
+     * @param latencyNanos the latency of the call in nanoseconds.
+     */
+    void record(Status status, long latencyNanos) {
+        val current = state;
+        if (status.getCode() == Status.Code.CANCELLED) {
+            // the call was abandoned by the client so it tells nothing about the node.
+            // a cancelled probe gives its permit back, so another call can probe the node.
+            if (current == CircuitBreakerState.HALF_OPEN) {
+                probePermits.updateAndGet(permits -> Math.min(permits + 1, policy.getHalfOpenProbes()));
+            }
+            return;
+        }
+        val failed = isFailure(status);
+        val slow = latencyNanos >= slowCallNanos;
+        switch (current) {
+            case HALF_OPEN:
+                if (failed || slow) {
+                    open();
+                } else if (probeSuccesses.incrementAndGet() >= policy.getHalfOpenProbes()) {
+                    close();
+                }
+                return;
+            case OPEN:
+                // the outcome of a call started before the circuit opened.
+                return;
+            default:
+                recordInWindow(failed, slow);
+        }
+    }
+
+    private void recordInWindow(boolean failed, boolean slow) {
+        val outcome = RECORDED | (failed ? FAILED : 0) | (slow ? SLOW : 0);
+        val index = (int) (next.getAndIncrement() % window.length());
+        val previous = window.getAndSet(index, outcome);
+        if ((previous & RECORDED) == 0) {
+            calls.incrementAndGet();
+        }
+        adjust(failures, previous, outcome, FAILED);
+        adjust(slowCalls, previous, outcome, SLOW);
+
+        val observed = calls.get();
+        if (observed < policy.getMinimumCalls()) {
+            return;
+        }
+        if (failures.get() >= policy.getFailureRateThreshold() * observed
+                || slowCalls.get() >= policy.getSlowCallRateThreshold() * observed) {
+            open();
+        }
+    }
+
+    private static void adjust(AtomicInteger counter, int previous, int outcome, int flag) {
+        val was = (previous & flag) != 0;
+        val is = (outcome & flag) != 0;
+        if (was && !is) {
+            counter.decrementAndGet();
+        } else if (!was && is) {
+            counter.incrementAndGet();
+        }
+    }
+
+    private synchronized void open() {
+        openedAtNanos = System.nanoTime();
+        state = CircuitBreakerState.OPEN;
+    }
+
+    private synchronized void halfOpen() {
+        if (state == CircuitBreakerState.OPEN && System.nanoTime() - openedAtNanos >= openDurationNanos) {
+            probeSuccesses.set(0);
+            probePermits.set(policy.getHalfOpenProbes());
+            state = CircuitBreakerState.HALF_OPEN;
+        }
+    }
+
+    private synchronized void close() {
+        if (state != CircuitBreakerState.HALF_OPEN) {
+            return;
+        }
+        for (int i = 0; i < window.length(); i++) {
+            window.set(i, 0);
+        }
+        calls.set(0);
+        failures.set(0);
+        slowCalls.set(0);
+        state = CircuitBreakerState.CLOSED;
+    }
+
+    private static boolean isFailure(Status status) {
+        switch (status.getCode()) {
+            case UNAVAILABLE:
+            case DEADLINE_EXCEEDED:
+            case RESOURCE_EXHAUSTED:
+            case INTERNAL:
+            case UNKNOWN:
+                return true;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.concordium.sdk;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Policy for the circuit breaker guarding the channel to a node.
+ * <p>
+ * The circuit breaker keeps track of the outcome of the latest {@link CircuitBreakerPolicy#windowSize} calls.
+ * When at least {@link CircuitBreakerPolicy#minimumCalls} have been observed and the share of failed calls reaches
+ * {@link CircuitBreakerPolicy#failureRateThreshold}, or the share of calls slower than {@link CircuitBreakerPolicy#slowCallDuration}
+ * reaches {@link CircuitBreakerPolicy#slowCallRateThreshold}, the circuit opens.
+ * <p>
+ * While open, calls towards the node fail immediately with {@link io.grpc.Status#UNAVAILABLE}.
+ * After {@link CircuitBreakerPolicy#openDuration} the circuit is half-open and lets {@link CircuitBreakerPolicy#halfOpenProbes}
+ * calls through. If they all succeed the circuit closes again, otherwise it opens again.
+ * <p>
+ * A call is considered failed if it ends with one of the status codes
+ * {@code UNAVAILABLE}, {@code DEADLINE_EXCEEDED}, {@code RESOURCE_EXHAUSTED}, {@code INTERNAL} or {@code UNKNOWN}.
+ */
+@Getter
+public final class CircuitBreakerPolicy {
+
+    /**
+     * The number of latest calls the rates are computed over.
+     * Defaults to 50.
+     */
+    private final int windowSize;
+
+    /**
+     * The number of calls which must have been observed before the circuit can open.
+     * Defaults to 20.
+     */
+    private final int minimumCalls;
+
+    /**
+     * The share (in the range ]0, 1]) of failed calls which opens the circuit.
+     * Defaults to 0.5.
+     */
+    private final double failureRateThreshold;
+
+    /**
+     * The latency from which a call is considered slow.
+     * If this is 'null' then slow calls do not open the circuit.
+     */
+    private final Duration slowCallDuration;
+
+    /**
+     * The share (in the range ]0, 1]) of slow calls which opens the circuit.
+     * Defaults to 1.
+     */
+    private final double slowCallRateThreshold;
+
+    /**
+     * How long the circuit stays open before probing the node.
+     * Defaults to 10 seconds.
+     */
+    private final Duration openDuration;
+
+    /**
+     * The number of calls let through while the circuit is half-open.
+     * Defaults to 3.
+     */
+    private final int halfOpenProbes;
+
+    /**
+     * Create a {@link CircuitBreakerPolicy}.
+     * Unset values (i.e. 'null' or non-positive values) are replaced by their defaults.
+     *
+     * @param windowSize            the number of latest calls the rates are computed over.
+     * @param minimumCalls          the number of calls which must have been observed before the circuit can open.
+     * @param failureRateThreshold  the share of failed calls which opens the circuit.
+     * @param slowCallDuration      the latency from which a call is considered slow.
+     * @param slowCallRateThreshold the share of slow calls which opens the circuit.
+     * @param openDuration          how long the circuit stays open before probing the node.
+     * @param halfOpenProbes        the number of calls let through while the circuit is half-open.
+     */
+    @Builder
+    public CircuitBreakerPolicy(int windowSize,
+                                int minimumCalls,
+                                double failureRateThreshold,
+                                Duration slowCallDuration,
+                                double slowCallRateThreshold,
+                                Duration openDuration,
+                                int halfOpenProbes) {
+        this.windowSize = windowSize < 1 ? DEFAULT_WINDOW_SIZE : windowSize;
+        this.minimumCalls = minimumCalls < 1 ? Math.min(DEFAULT_MINIMUM_CALLS, this.windowSize) : minimumCalls;
+        this.failureRateThreshold = failureRateThreshold <= 0 ? DEFAULT_FAILURE_RATE_THRESHOLD : failureRateThreshold;
+        this.slowCallDuration = slowCallDuration;
+        this.slowCallRateThreshold = slowCallRateThreshold <= 0 ? DEFAULT_SLOW_CALL_RATE_THRESHOLD : slowCallRateThreshold;
+        this.openDuration = Objects.isNull(openDuration) ? DEFAULT_OPEN_DURATION : openDuration;
+        this.halfOpenProbes = halfOpenProbes < 1 ? DEFAULT_HALF_OPEN_PROBES : halfOpenProbes;
+        if (this.minimumCalls > this.windowSize) {
+            throw new IllegalArgumentException("Minimum calls cannot exceed the window size");
+        }
+        if (this.failureRateThreshold > 1 || this.slowCallRateThreshold > 1) {
+            throw new IllegalArgumentException("Rate thresholds must be at most 1");
+        }
+    }
+
+    /**
+     * @return a {@link CircuitBreakerPolicy} with the default values.
+     */
+    public static CircuitBreakerPolicy defaults() {
+        return CircuitBreakerPolicy.builder().build();
+    }
+
+    private static final int DEFAULT_WINDOW_SIZE = 50;
+    private static final int DEFAULT_MINIMUM_CALLS = 20;
+    private static final double DEFAULT_FAILURE_RATE_THRESHOLD = 0.5;
+    private static final double DEFAULT_SLOW_CALL_RATE_THRESHOLD = 1;
+    private static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(10);
+    private static final int DEFAULT_HALF_OPEN_PROBES = 3;
+}
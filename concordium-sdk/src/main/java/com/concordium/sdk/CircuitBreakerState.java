@@ -0,0 +1,20 @@
+package com.concordium.sdk;
+
+/**
+ * The state of the circuit breaker guarding the channel to a node.
+ * See {@link CircuitBreakerPolicy} for the transitions between the states.
+ */
+public enum CircuitBreakerState {
+    /**
+     * Calls are let through.
+     */
+    CLOSED,
+    /**
+     * Calls fail immediately.
+     */
+    OPEN,
+    /**
+     * A limited number of calls are let through for probing the node.
+     */
+    HALF_OPEN
+}
@@ -38,10 +38,13 @@ import com.concordium.sdk.types.UInt16;
 import com.google.common.collect.ImmutableList;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.Int32Value;
+import com.google.protobuf.MessageLite;
 import com.google.protobuf.StringValue;
 import concordium.ConcordiumP2PRpc;
 import concordium.P2PGrpc;
 import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
+import io.grpc.StatusRuntimeException;
 import lombok.val;
 import org.semver4j.Semver;
 
@@ -54,6 +57,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * The Client is responsible for sending requests to the node.
@@ -70,9 +74,44 @@ public final class Client {
     private final ManagedChannel channel;
 
     /**
-     * The timeout in milliseconds for each gRPC request.
+     * The policy for retrying failed requests or 'null' if requests are not retried.
      */
-    private final int timeout;
+    private final RetryPolicy retryPolicy;
+
+    /**
+     * Merges identical concurrent queries or 'null' if queries are not coalesced.
+     */
+    private final SingleFlight singleFlight;
+
+    /**
+     * Receives the measurements of the requests or 'null' if requests are not measured.
+     */
+    private final ClientMetrics metrics;
+
+    /**
+     * Tracks the sent transactions until they are finalized or 'null' if they are not tracked.
+     */
+    private final TransactionLifecycle lifecycle;
+
+    /**
+     * Caches the responses of queries at finalized blocks or 'null' if responses are not cached.
+     */
+    private final ResponseCache responseCache;
+
+    /**
+     * Keeps the finalized blocks on disk or 'null' if blocks are not stored.
+     */
+    private final BlockStore blockStore;
+
+    /**
+     * Caches the sources of smart contract modules or 'null' if sources are not cached.
+     */
+    private final ModuleCache moduleCache;
+
+    /**
+     * Remembers the queries which found nothing or 'null' if they are not remembered.
+     */
+    private final NegativeCache negativeCache;
 
     /**
      * Convenient way of creating a new {@link Client} based on the {@link Connection}
@@ -82,20 +121,26 @@ public final class Client {
      * @throws ClientInitializationException if the {@link Client} could not be constructed.
      */
     public static Client from(Connection connection) throws ClientInitializationException {
-        return new Client(connection);
-    }
-
-    private Client(Connection connection) throws ClientInitializationException {
         try {
-            this.timeout = connection.getTimeout();
-            this.channel = connection.newChannel();
-            this.blockingStub = P2PGrpc
-                    .newBlockingStub(this.channel)
-                    .withCallCredentials(connection.getCredentials());
+            return new Client(connection, PooledChannel.from(connection));
         } catch (IOException e) {
             throw ClientInitializationException.from(e);
         }
+    }
 
+    Client(Connection connection, ManagedChannel channel) {
+        this.retryPolicy = connection.getRetryPolicy();
+        this.singleFlight = connection.isCoalesceRequests() ? new SingleFlight() : null;
+        this.metrics = connection.getMetrics();
+        this.lifecycle = connection.getLifecycle();
+        this.responseCache = connection.getResponseCache();
+        this.blockStore = connection.getBlockStore();
+        this.moduleCache = connection.getModuleCache();
+        this.negativeCache = connection.getNegativeCache();
+        this.channel = channel;
+        this.blockingStub = P2PGrpc
+                .newBlockingStub(connection.intercept(this.channel))
+                .withCallCredentials(connection.getCredentials());
     }
 
     /**
@@ -114,12 +159,14 @@ public final class Client {
                 .setAddressBytes(accountRequest.getByteString())
                 .setBlockHash(blockHash.asHex())
                 .build();
-        val response = server().getAccountInfo(request);
-        val accountInfo = AccountInfo.fromJson(response.getValue());
-        if (Objects.isNull(accountInfo)) {
-            throw AccountNotFoundException.from(accountRequest, blockHash);
-        }
-        return accountInfo;
+        return remembered(P2PGrpc.getGetAccountInfoMethod(), request, () -> AccountNotFoundException.from(accountRequest, blockHash), () ->
+                cached(P2PGrpc.getGetAccountInfoMethod(), request, blockHash, () -> server().getAccountInfo(request), response -> {
+                    val accountInfo = decode(P2PGrpc.getGetAccountInfoMethod(), () -> AccountInfo.fromJson(response.getValue()));
+                    if (Objects.isNull(accountInfo)) {
+                        throw AccountNotFoundException.from(accountRequest, blockHash);
+                    }
+                    return accountInfo;
+                }));
     }
 
     /**
@@ -136,7 +183,7 @@ public final class Client {
                 .setAccountAddressBytes(ByteString.copyFrom(address.getEncodedBytes()))
                 .build();
         val nextAccountNonce = server().getNextAccountNonce(request);
-        return AccountNonce.fromJson(nextAccountNonce.getValue());
+        return decode(P2PGrpc.getGetNextAccountNonceMethod(), () -> AccountNonce.fromJson(nextAccountNonce.getValue()));
     }
 
     /**
@@ -147,14 +194,12 @@ public final class Client {
      * @throws TransactionNotFoundException if the transaction was not found.
      */
     public TransactionStatus getTransactionStatus(Hash transactionHash) throws TransactionNotFoundException {
-        val request = ConcordiumP2PRpc.TransactionHash
-                .newBuilder()
-                .setTransactionHash(transactionHash.asHex())
-                .build();
-        val transactionStatus = server().getTransactionStatus(request);
-        val status = TransactionStatus.fromJson(transactionStatus.getValue());
-        if (Objects.isNull(status)) {
-            throw TransactionNotFoundException.from(transactionHash);
+        val request = toTransactionHashRequest(transactionHash);
+        val status = remembered(P2PGrpc.getGetTransactionStatusMethod(), request,
+                () -> TransactionNotFoundException.from(transactionHash),
+                () -> queryTransactionStatus(transactionHash, request));
+        if (!Objects.isNull(lifecycle)) {
+            lifecycle.observed(transactionHash, status.getStatus());
         }
         return status;
     }
@@ -175,7 +220,7 @@ public final class Client {
                 .build();
         val res = server().getTransactionStatusInBlock(req);
 
-        return TransactionStatusInBlock.fromJson(res)
+        return decode(P2PGrpc.getGetTransactionStatusInBlockMethod(), () -> TransactionStatusInBlock.fromJson(res))
                 .orElseThrow(() -> TransactionNotFoundInBlockException.from(transactionHash, blockHash));
     }
 
@@ -187,8 +232,33 @@ public final class Client {
      * @return the {@link ConsensusStatus}
      */
     public ConsensusStatus getConsensusStatus() {
-        val response = server().getConsensusStatus(ConcordiumP2PRpc.Empty.getDefaultInstance());
-        return ConsensusStatus.fromJson(response.getValue());
+        return coalesce(
+                P2PGrpc.getGetConsensusStatusMethod(),
+                ConcordiumP2PRpc.Empty.getDefaultInstance(),
+                () -> getConsensusStatus(server()));
+    }
+
+    /**
+     * Retrieves the {@link ConsensusStatus} within the provided timeout.
+     * See {@link Client#getConsensusStatus()}.
+     *
+     * @param timeout the timeout of the request, overriding the {@link DeadlinePolicy} of the {@link Connection}.
+     * @return the {@link ConsensusStatus}
+     */
+    public ConsensusStatus getConsensusStatus(Duration timeout) {
+        return getConsensusStatus(server(timeout));
+    }
+
+    private ConsensusStatus getConsensusStatus(P2PGrpc.P2PBlockingStub server) {
+        val response = server.getConsensusStatus(ConcordiumP2PRpc.Empty.getDefaultInstance());
+        val consensusStatus = decode(P2PGrpc.getGetConsensusStatusMethod(), () -> ConsensusStatus.fromJson(response.getValue()));
+        if (!Objects.isNull(negativeCache) && !Objects.isNull(consensusStatus)) {
+            negativeCache.observed(consensusStatus.getBestBlock());
+        }
+        if (!Objects.isNull(responseCache) && !Objects.isNull(consensusStatus)) {
+            responseCache.observedLastFinalized(consensusStatus.getLastFinalizedBlock());
+        }
+        return consensusStatus;
     }
 
     /**
@@ -199,12 +269,35 @@ public final class Client {
      * @throws BlockNotFoundException If the block was not found.
      */
     public BlockSummary getBlockSummary(Hash blockHash) throws BlockNotFoundException {
-        val request = ConcordiumP2PRpc.BlockHash.getDefaultInstance()
-                .newBuilderForType()
-                .setBlockHashBytes(ByteString.copyFromUtf8(blockHash.asHex()))
-                .build();
-        val response = server().getBlockSummary(request);
-        val blockSummary = BlockSummary.fromJson(response.getValue());
+        return getBlockSummary(blockHash, server());
+    }
+
+    /**
+     * Retrieves a {@link BlockSummary} within the provided timeout.
+     * See {@link Client#getBlockSummary(Hash)}.
+     *
+     * @param blockHash the block {@link Hash} to query.
+     * @param timeout   the timeout of the request, overriding the {@link DeadlinePolicy} of the {@link Connection}.
+     * @return A {@link BlockSummary} for the block
+     * @throws BlockNotFoundException If the block was not found.
+     */
+    public BlockSummary getBlockSummary(Hash blockHash, Duration timeout) throws BlockNotFoundException {
+        return getBlockSummary(blockHash, server(timeout));
+    }
+
+    private BlockSummary getBlockSummary(Hash blockHash, P2PGrpc.P2PBlockingStub server) throws BlockNotFoundException {
+        val request = toBlockHashRequest(blockHash);
+        val key = BlockStore.blockSummary(blockHash);
+        return cached(P2PGrpc.getGetBlockSummaryMethod(), request, blockHash,
+                () -> stored(key, () -> server.getBlockSummary(request)), response -> {
+                    val blockSummary = toBlockSummary(blockHash, response);
+                    store(key, blockHash, response);
+                    return blockSummary;
+                });
+    }
+
+    private BlockSummary toBlockSummary(Hash blockHash, ConcordiumP2PRpc.JsonResponse response) throws BlockNotFoundException {
+        val blockSummary = decode(P2PGrpc.getGetBlockSummaryMethod(), () -> BlockSummary.fromJson(response.getValue()));
         if (Objects.isNull(blockSummary)) {
             throw BlockNotFoundException.from(blockHash);
         }
@@ -219,16 +312,18 @@ public final class Client {
      * @throws BlockNotFoundException If the block was not found.
      */
     public BlockInfo getBlockInfo(Hash blockHash) throws BlockNotFoundException {
-        val request = ConcordiumP2PRpc.BlockHash.getDefaultInstance()
-                .newBuilderForType()
-                .setBlockHashBytes(ByteString.copyFromUtf8(blockHash.asHex()))
-                .build();
-        val response = server().getBlockInfo(request);
-        val blockInfo = BlockInfo.fromJson(response.getValue());
-        if (Objects.isNull(blockInfo)) {
-            throw BlockNotFoundException.from(blockHash);
-        }
-        return blockInfo;
+        val request = toBlockHashRequest(blockHash);
+        val key = BlockStore.blockInfo(blockHash);
+        return cached(P2PGrpc.getGetBlockInfoMethod(), request, blockHash, () -> stored(key, () -> server().getBlockInfo(request)), response -> {
+            val blockInfo = decode(P2PGrpc.getGetBlockInfoMethod(), () -> BlockInfo.fromJson(response.getValue()));
+            if (Objects.isNull(blockInfo)) {
+                throw BlockNotFoundException.from(blockHash);
+            }
+            if (!Objects.isNull(blockStore) && Boolean.TRUE.equals(blockInfo.getFinalized())) {
+                blockStore.put(key, response);
+            }
+            return blockInfo;
+        });
     }
 
     /**
@@ -247,16 +342,30 @@ public final class Client {
             requestBuilder.setRestrictToGenesisIndex(height.isRestrictedToGenesisIndex());
         }
         val request = requestBuilder.build();
-        val response = server().getBlocksAtHeight(request);
-        val blocksAtHeight = BlocksAtHeight.fromJson(response.getValue());
-        if (Objects.isNull(blocksAtHeight) || blocksAtHeight.getBlocks().isEmpty()) {
-            throw BlockNotFoundException.from(height);
-        }
-        return blocksAtHeight;
+        // Only absolute heights identify the same blocks across protocol updates.
+        val key = height.getType() == BlocksAtHeightRequest.Type.ABSOLUTE ? BlockStore.height(height.getHeight()) : null;
+        return coalesce(P2PGrpc.getGetBlocksAtHeightMethod(), request, () -> {
+            val response = Objects.isNull(key)
+                    ? server().getBlocksAtHeight(request)
+                    : stored(key, () -> server().getBlocksAtHeight(request));
+            val blocksAtHeight = decode(P2PGrpc.getGetBlocksAtHeightMethod(), () -> BlocksAtHeight.fromJson(response.getValue()));
+            if (Objects.isNull(blocksAtHeight) || blocksAtHeight.getBlocks().isEmpty()) {
+                throw BlockNotFoundException.from(height);
+            }
+            // A finalized height has exactly one block.
+            if (!Objects.isNull(key) && blocksAtHeight.getBlocks().size() == 1) {
+                store(key, blocksAtHeight.getBlocks().get(0), response);
+            }
+            return blocksAtHeight;
+        });
     }
 
     /**
      * Sends a {@link Transaction} to the node.
+     * <p>
+     * If the {@link Connection} has a {@link RetryPolicy} and sending fails with a retryable status,
+     * then the transaction is only sent again if the node does not know it,
+     * as the failed request might have reached the node anyway.
      *
      * @param transaction the {@link Transaction} to be sent.
      * @return The transaction {@link Hash} of the transaction sent if the node accepted it,
@@ -269,11 +378,99 @@ public final class Client {
                 .setNetworkId(transaction.getNetworkId())
                 .setPayload(ByteString.copyFrom(transaction.getBytes()))
                 .build();
-        val response = server().sendTransaction(request);
-        if (response.getValue()) {
-            return transaction.getHash();
+        val startNanos = System.nanoTime();
+        int attempts = 0;
+        while (true) {
+            attempts++;
+            final ConcordiumP2PRpc.BoolResponse response;
+            try {
+                response = server().sendTransaction(request);
+            } catch (StatusRuntimeException e) {
+                if (Objects.isNull(retryPolicy) || !retryPolicy.shouldRetry(e.getStatus(), attempts)) {
+                    throw e;
+                }
+                if (isKnownByNode(transaction.getHash(), e)) {
+                    return sent(transaction, startNanos);
+                }
+                backoff(attempts, e);
+                continue;
+            }
+            if (response.getValue()) {
+                return sent(transaction, startNanos);
+            }
+            throw TransactionRejectionException.from(transaction);
+        }
+    }
+
+    /**
+     * Query the status of a transaction from the node, bypassing the {@link Client#negativeCache}.
+     */
+    private TransactionStatus queryTransactionStatus(Hash transactionHash, ConcordiumP2PRpc.TransactionHash request) throws TransactionNotFoundException {
+        return coalesce(P2PGrpc.getGetTransactionStatusMethod(), request, () -> {
+            val transactionStatus = server().getTransactionStatus(request);
+            val decoded = decode(P2PGrpc.getGetTransactionStatusMethod(), () -> TransactionStatus.fromJson(transactionStatus.getValue()));
+            if (Objects.isNull(decoded)) {
+                throw TransactionNotFoundException.from(transactionHash);
+            }
+            return decoded;
+        });
+    }
+
+    private static ConcordiumP2PRpc.TransactionHash toTransactionHashRequest(Hash transactionHash) {
+        return ConcordiumP2PRpc.TransactionHash
+                .newBuilder()
+                .setTransactionHash(transactionHash.asHex())
+                .build();
+    }
+
+    /**
+     * Forget that the status of a transaction was not found, as the transaction may just have been sent.
+     */
+    private void forgetNotFound(Hash transactionHash) {
+        if (!Objects.isNull(negativeCache)) {
+            negativeCache.forget(ResponseCache.key(P2PGrpc.getGetTransactionStatusMethod(), toTransactionHashRequest(transactionHash)));
+        }
+    }
+
+    /**
+     * Check whether a transaction, which might have been sent, is known by the node.
+     *
+     * @param transactionHash the hash of the transaction.
+     * @param failure         the failure of sending the transaction, which is rethrown if the node could not be queried.
+     * @return whether the node knows the transaction.
+     */
+    private boolean isKnownByNode(Hash transactionHash, StatusRuntimeException failure) {
+        forgetNotFound(transactionHash);
+        try {
+            queryTransactionStatus(transactionHash, toTransactionHashRequest(transactionHash));
+            return true;
+        } catch (TransactionNotFoundException e) {
+            return false;
+        } catch (StatusRuntimeException e) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Report a transaction accepted by the node to the {@link Client#lifecycle}.
+     *
+     * @return the hash of the transaction.
+     */
+    private Hash sent(Transaction transaction, long startNanos) {
+        forgetNotFound(transaction.getHash());
+        if (!Objects.isNull(lifecycle)) {
+            lifecycle.sent(transaction.getHash(), System.nanoTime() - startNanos);
+        }
+        return transaction.getHash();
+    }
+
+    private void backoff(int attempts, StatusRuntimeException failure) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(retryPolicy.backoffNanos(attempts));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw failure;
         }
-        throw TransactionRejectionException.from(transaction);
     }
 
     /**
@@ -284,16 +481,17 @@ public final class Client {
      * @throws BlockNotFoundException if the block was not found.
      */
     public CryptographicParameters getCryptographicParameters(Hash blockHash) throws BlockNotFoundException {
-        val request = ConcordiumP2PRpc.BlockHash.getDefaultInstance()
-                .newBuilderForType()
-                .setBlockHashBytes(ByteString.copyFromUtf8(blockHash.asHex()))
-                .build();
-        val response = server().getCryptographicParameters(request);
-        val cryptographicParameters = CryptographicParameters.from(response.getValue());
-        if (Objects.isNull(cryptographicParameters)) {
-            throw BlockNotFoundException.from(blockHash);
-        }
-        return cryptographicParameters;
+        val request = toBlockHashRequest(blockHash);
+        return coalesce(P2PGrpc.getGetCryptographicParametersMethod(), request, () -> {
+            val response = server().getCryptographicParameters(request);
+            val cryptographicParameters = decode(
+                    P2PGrpc.getGetCryptographicParametersMethod(),
+                    () -> CryptographicParameters.from(response.getValue()));
+            if (Objects.isNull(cryptographicParameters)) {
+                throw BlockNotFoundException.from(blockHash);
+            }
+            return cryptographicParameters;
+        });
     }
 
 
@@ -305,7 +503,7 @@ public final class Client {
     public NodeInfo getNodeInfo() {
         val value = server().nodeInfo(ConcordiumP2PRpc.Empty.newBuilder().build());
 
-        return NodeInfo.parse(value);
+        return decode(P2PGrpc.getNodeInfoMethod(), () -> NodeInfo.parse(value));
     }
 
     /**
@@ -349,7 +547,7 @@ public final class Client {
                 .build();
         val value = server().peerList(req).getPeersList();
 
-        return Peer.toList(value);
+        return decode(P2PGrpc.getPeerListMethod(), () -> Peer.toList(value));
     }
 
     /**
@@ -365,7 +563,7 @@ public final class Client {
                         .newBuilder()
                         .setIncludeBootstrappers(includeBootstrappers)
                         .build());
-        return PeerStatistics.parse(value);
+        return decode(P2PGrpc.getPeerStatsMethod(), () -> PeerStatistics.parse(value));
     }
 
     /**
@@ -388,7 +586,7 @@ public final class Client {
     public ImmutableList<BakerId> getBakerList(Hash blockHash) throws BlockNotFoundException {
         val req = ConcordiumP2PRpc.BlockHash.newBuilder().setBlockHash(blockHash.asHex()).build();
         val res = server().getBakerList(req);
-        return BakerId.fromJsonArray(res.getValue()).orElseThrow(() -> BlockNotFoundException.from(blockHash));
+        return decode(P2PGrpc.getGetBakerListMethod(), () -> BakerId.fromJsonArray(res.getValue())).orElseThrow(() -> BlockNotFoundException.from(blockHash));
     }
 
     /**
@@ -410,7 +608,7 @@ public final class Client {
                 .setBakerId(bakerId.toLong())
                 .build();
         val res = server().getPoolStatus(req);
-        return (BakerPoolStatus) PoolStatus.fromJson(res.getValue()).orElseThrow(() -> PoolNotFoundException.from(Optional.of(bakerId), blockHash));
+        return (BakerPoolStatus) decode(P2PGrpc.getGetPoolStatusMethod(), () -> PoolStatus.fromJson(res.getValue())).orElseThrow(() -> PoolNotFoundException.from(Optional.of(bakerId), blockHash));
     }
 
     /**
@@ -428,7 +626,7 @@ public final class Client {
                 .setPassiveDelegation(true)
                 .build();
         val res = server().getPoolStatus(req);
-        return (PassiveDelegationStatus) PoolStatus.fromJson(res.getValue()).orElseThrow(() -> PoolNotFoundException.from(Optional.empty(), blockHash));
+        return (PassiveDelegationStatus) decode(P2PGrpc.getGetPoolStatusMethod(), () -> PoolStatus.fromJson(res.getValue())).orElseThrow(() -> PoolNotFoundException.from(Optional.empty(), blockHash));
     }
 
     /**
@@ -515,11 +713,12 @@ public final class Client {
         if (Objects.isNull(res)) {
             return ImmutableList.of();
         }
-        return Hash.fromJsonArray(res.getValue()).orElse(ImmutableList.<Hash>builder().build());
+        return decode(P2PGrpc.getGetAccountNonFinalizedTransactionsMethod(), () -> Hash.fromJsonArray(res.getValue())).orElse(ImmutableList.<Hash>builder().build());
     }
 
     /**
      * Get the source of a smart contract module.
+     * If the {@link Connection} has a {@link ModuleCache} then a cached source is returned regardless of the block.
      *
      * @param moduleRef {@link ModuleRef} of module to retrieve.
      * @param blockHash {@link Hash} of the Block at which the module source is to be retrieved.
@@ -527,7 +726,32 @@ public final class Client {
      * @throws ModuleNotFoundException When module cannot be found.
      */
     public ModuleSource getModuleSource(ModuleRef moduleRef, Hash blockHash) throws ModuleNotFoundException {
-        val res = server()
+        return getModuleSource(moduleRef, blockHash, server());
+    }
+
+    /**
+     * Get the source of a smart contract module within the provided timeout.
+     * See {@link Client#getModuleSource(ModuleRef, Hash)}.
+     *
+     * @param moduleRef {@link ModuleRef} of module to retrieve.
+     * @param blockHash {@link Hash} of the Block at which the module source is to be retrieved.
+     * @param timeout   the timeout of the request, overriding the {@link DeadlinePolicy} of the {@link Connection}.
+     * @return Parsed {@link ModuleSource}.
+     * @throws ModuleNotFoundException When module cannot be found.
+     */
+    public ModuleSource getModuleSource(ModuleRef moduleRef, Hash blockHash, Duration timeout) throws ModuleNotFoundException {
+        return getModuleSource(moduleRef, blockHash, server(timeout));
+    }
+
+    private ModuleSource getModuleSource(ModuleRef moduleRef, Hash blockHash, P2PGrpc.P2PBlockingStub server) throws ModuleNotFoundException {
+        if (!Objects.isNull(moduleCache)) {
+            // The source of a module never changes, so a cached source is returned regardless of the block.
+            val cached = moduleCache.get(moduleRef);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
+        val res = server
                 .getModuleSource(ConcordiumP2PRpc.GetModuleSourceRequest.newBuilder()
                         .setBlockHash(blockHash.asHex())
                         .setModuleRef(moduleRef.asHex())
@@ -535,8 +759,11 @@ public final class Client {
 
         Optional<ModuleSource> moduleSource = res.getValue().isEmpty()
                 ? Optional.empty()
-                : Optional.of(ModuleSource.from(res.getValue().toByteArray()));
+                : Optional.of(decode(P2PGrpc.getGetModuleSourceMethod(), () -> ModuleSource.from(res.getValue().toByteArray())));
 
+        if (moduleSource.isPresent() && !Objects.isNull(moduleCache)) {
+            moduleCache.put(moduleRef, moduleSource.get());
+        }
         return moduleSource.orElseThrow(() -> ModuleNotFoundException.from(blockHash, moduleRef));
     }
 
@@ -548,16 +775,17 @@ public final class Client {
      * @throws BlockNotFoundException When no modules could be found for the specified block {@link Hash}.
      */
     public ImmutableList<ModuleRef> getModuleList(final Hash blockHash) throws BlockNotFoundException {
-        val res = server().getModuleList(ConcordiumP2PRpc.BlockHash.newBuilder()
+        val req = ConcordiumP2PRpc.BlockHash.newBuilder()
                 .setBlockHash(blockHash.asHex())
-                .build());
-
-        if (Objects.isNull(res)) {
-            throw BlockNotFoundException.from(blockHash);
-        }
-
-        return ModuleRef.moduleRefsFromJsonArray(res.getValue())
-                .orElseThrow(() -> BlockNotFoundException.from(blockHash));
+                .build();
+        return cached(P2PGrpc.getGetModuleListMethod(), req, blockHash, () -> server().getModuleList(req), res -> {
+            if (Objects.isNull(res)) {
+                throw BlockNotFoundException.from(blockHash);
+            }
+
+            return decode(P2PGrpc.getGetModuleListMethod(), () -> ModuleRef.moduleRefsFromJsonArray(res.getValue()))
+                    .orElseThrow(() -> BlockNotFoundException.from(blockHash));
+        });
     }
 
     /**
@@ -568,11 +796,10 @@ public final class Client {
      * @throws Exception When the returned response is null.
      */
     public BirkParameters getBirkParameters(Hash blockHash) throws BlockNotFoundException {
-        val res = server()
-                .getBirkParameters(ConcordiumP2PRpc.BlockHash.newBuilder().setBlockHash(blockHash.asHex()).build());
-
-        return BirkParameters.fromJson(res)
-                .orElseThrow(() -> BlockNotFoundException.from(blockHash));
+        val req = ConcordiumP2PRpc.BlockHash.newBuilder().setBlockHash(blockHash.asHex()).build();
+        return cached(P2PGrpc.getGetBirkParametersMethod(), req, blockHash, () -> server().getBirkParameters(req), res ->
+                decode(P2PGrpc.getGetBirkParametersMethod(), () -> BirkParameters.fromJson(res))
+                        .orElseThrow(() -> BlockNotFoundException.from(blockHash)));
     }
 
     /**
@@ -623,10 +850,10 @@ public final class Client {
                 .setAddress(contractAddress.toJson())
                 .setBlockHash(blockHash.asHex())
                 .build();
-        val res = server().getInstanceInfo(grpcReq);
-
-        return InstanceInfo.fromJson(res)
-                .orElseThrow(() -> ContractInstanceNotFoundException.from(contractAddress, blockHash));
+        return cached(P2PGrpc.getGetInstanceInfoMethod(), grpcReq, blockHash, () -> server().getInstanceInfo(grpcReq), res -> {
+            return decode(P2PGrpc.getGetInstanceInfoMethod(), () -> InstanceInfo.fromJson(res))
+                    .orElseThrow(() -> ContractInstanceNotFoundException.from(contractAddress, blockHash));
+        });
     }
 
     /**
@@ -641,7 +868,7 @@ public final class Client {
                 .setBlockHash(blockHash.asHex()).build();
         val res = server().getInstances(req);
 
-        return ContractAddress.toList(res)
+        return decode(P2PGrpc.getGetInstancesMethod(), () -> ContractAddress.toList(res))
                 .orElseThrow(() -> BlockNotFoundException.from(blockHash));
     }
 
@@ -658,7 +885,7 @@ public final class Client {
                 .build();
         val res = server().getAccountList(req);
 
-        return AccountAddress.toList(res)
+        return decode(P2PGrpc.getGetAccountListMethod(), () -> AccountAddress.toList(res))
                 .orElseThrow(() -> BlockNotFoundException.from(blockHash));
     }
 
@@ -672,7 +899,7 @@ public final class Client {
         val req = ConcordiumP2PRpc.Empty.newBuilder().build();
         final List<ConcordiumP2PRpc.PeerElement> value = server().getBannedPeers(req).getPeersList();
 
-        return Peer.toList(value);
+        return decode(P2PGrpc.getGetBannedPeersMethod(), () -> Peer.toList(value));
     }
 
     /**
@@ -691,8 +918,7 @@ public final class Client {
                         .setAmount(num)
                         .build());
 
-        return Ancestors
-                .fromJson(jsonResponse)
+        return decode(P2PGrpc.getGetAncestorsMethod(), () -> Ancestors.fromJson(jsonResponse))
                 .orElseThrow(() -> BlockNotFoundException.from(blockHash));
     }
 
@@ -706,10 +932,10 @@ public final class Client {
     public RewardsOverview getRewardStatus(final Hash blockHash) throws BlockNotFoundException {
         val req = ConcordiumP2PRpc.BlockHash.newBuilder()
                 .setBlockHash(blockHash.asHex()).build();
-        val res = server().getRewardStatus(req);
-
-        return RewardsOverview.fromJson(res)
-                .orElseThrow(() -> BlockNotFoundException.from(blockHash));
+        return cached(P2PGrpc.getGetRewardStatusMethod(), req, blockHash, () -> server().getRewardStatus(req), res -> {
+            return decode(P2PGrpc.getGetRewardStatusMethod(), () -> RewardsOverview.fromJson(res))
+                    .orElseThrow(() -> BlockNotFoundException.from(blockHash));
+        });
     }
 
     /**
@@ -721,7 +947,8 @@ public final class Client {
      * @return {@link Branch}
      */
     public Branch getBranches() {
-        return Branch.fromJson(server().getBranches(ConcordiumP2PRpc.Empty.newBuilder().build()));
+        val res = server().getBranches(ConcordiumP2PRpc.Empty.newBuilder().build());
+        return decode(P2PGrpc.getGetBranchesMethod(), () -> Branch.fromJson(res));
     }
 
     /**
@@ -735,7 +962,7 @@ public final class Client {
         val req = ConcordiumP2PRpc.BlockHash.newBuilder().setBlockHash(blockHash.asHex()).build();
         val res = server().getIdentityProviders(req);
 
-        return IdentityProviderInfo.fromJsonArray(res.getValue())
+        return decode(P2PGrpc.getGetIdentityProvidersMethod(), () -> IdentityProviderInfo.fromJsonArray(res.getValue()))
                 .orElseThrow(() -> BlockNotFoundException.from(blockHash));
     }
 
@@ -750,7 +977,7 @@ public final class Client {
         val req = ConcordiumP2PRpc.BlockHash.newBuilder().setBlockHash(blockHash.asHex()).build();
         val res = server().getAnonymityRevokers(req);
 
-        return AnonymityRevokerInfo.fromJsonArray(res.getValue())
+        return decode(P2PGrpc.getGetAnonymityRevokersMethod(), () -> AnonymityRevokerInfo.fromJsonArray(res.getValue()))
                 .orElseThrow(() -> BlockNotFoundException.from(blockHash));
     }
 
@@ -768,13 +995,238 @@ public final class Client {
     }
 
     /**
-     * Get a {@link concordium.P2PGrpc.P2PBlockingStub} with a timeout
-     * The timeout is the one specified in via the {@link Connection} object used to
-     * initialize `this`.
+     * Perform a query, merging it with an identical query in flight if the {@link Connection} coalesces requests.
      *
-     * @return A new stub with a timeout.
+     * @param method  the method of the query.
+     * @param request the request of the query.
+     * @param query   the query.
+     * @return the result of the query.
+     * @throws E if the query failed.
+     */
+    private <T, E extends Exception> T coalesce(
+            MethodDescriptor<?, ?> method,
+            MessageLite request,
+            SingleFlight.Query<T, E> query) throws E {
+        if (Objects.isNull(singleFlight)) {
+            return query.run();
+        }
+        return singleFlight.execute(method, request, query);
+    }
+
+    /**
+     * Perform a query at a block, answering it from the {@link Client#responseCache} if its response is cached,
+     * and caching its response if the block is finalized.
+     *
+     * @param method    the method of the query.
+     * @param request   the request of the query.
+     * @param blockHash the block of the query.
+     * @param fetch     sends the query to the node.
+     * @param parser    parses the response of the node.
+     * @return the result of the query.
+     * @throws E if the query failed.
+     */
+    private <R extends MessageLite, T, E extends Exception> T cached(
+            MethodDescriptor<?, R> method,
+            MessageLite request,
+            Hash blockHash,
+            Supplier<R> fetch,
+            Parser<R, T, E> parser) throws E {
+        if (Objects.isNull(responseCache)) {
+            return coalesce(method, request, () -> parser.parse(fetch.get()));
+        }
+        val key = ResponseCache.key(method, request);
+        final T cachedResult = responseCache.get(key);
+        if (!Objects.isNull(cachedResult)) {
+            return cachedResult;
+        }
+        return coalesce(method, request, () -> {
+            val response = fetch.get();
+            val result = parser.parse(response);
+            if (isFinalized(blockHash, result)) {
+                responseCache.put(key, result, response.getSerializedSize());
+            } else {
+                responseCache.rejected();
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Perform a query which fails if nothing is found, failing without a request to the node if the
+     * {@link Client#negativeCache} remembers that it found nothing.
+     *
+     * @param method   the method of the query.
+     * @param request  the request of the query.
+     * @param notFound creates the exception of a query which found nothing.
+     * @param query    performs the query, throwing the exception if nothing is found.
+     * @return the result of the query.
+     * @throws E if nothing was found.
+     */
+    private <T, E extends Exception> T remembered(
+            MethodDescriptor<?, ?> method,
+            MessageLite request,
+            Supplier<E> notFound,
+            SingleFlight.Query<T, E> query) throws E {
+        if (Objects.isNull(negativeCache)) {
+            return query.run();
+        }
+        val key = ResponseCache.key(method, request);
+        if (negativeCache.isNotFound(key)) {
+            throw notFound.get();
+        }
+        val lookup = negativeCache.start();
+        try {
+            return query.run();
+        } catch (Exception e) {
+            // The query only throws a checked exception if nothing was found.
+            if (!(e instanceof RuntimeException)) {
+                negativeCache.notFound(key, lookup);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Read a response from the {@link Client#blockStore} or query it from the node if it is not stored.
+     *
+     * @param key   the key of the response in the store.
+     * @param fetch sends the query to the node.
+     * @return the response.
+     */
+    private ConcordiumP2PRpc.JsonResponse stored(BlockStore.Key key, Supplier<ConcordiumP2PRpc.JsonResponse> fetch) {
+        if (Objects.isNull(blockStore)) {
+            return fetch.get();
+        }
+        val response = blockStore.get(key);
+        return Objects.isNull(response) ? fetch.get() : response;
+    }
+
+    /**
+     * Append a response to the {@link Client#blockStore} if it is not stored yet and its block is finalized.
+     *
+     * @param key       the key of the response in the store.
+     * @param blockHash the block of the response.
+     * @param response  the response.
+     */
+    private void store(BlockStore.Key key, Hash blockHash, ConcordiumP2PRpc.JsonResponse response) {
+        if (Objects.isNull(blockStore) || blockStore.contains(key)) {
+            return;
+        }
+        final boolean finalized;
+        try {
+            // The block info is only stored if the block is finalized.
+            if (blockStore.contains(BlockStore.blockInfo(blockHash))) {
+                finalized = true;
+            } else if (!Objects.isNull(responseCache)) {
+                finalized = isFinalized(blockHash, null);
+            } else {
+                finalized = Boolean.TRUE.equals(getBlockInfo(blockHash).getFinalized());
+            }
+        } catch (BlockNotFoundException | StatusRuntimeException e) {
+            return;
+        }
+        if (finalized) {
+            blockStore.put(key, response);
+        }
+    }
+
+    /**
+     * Check whether a block is finalized, querying its {@link BlockInfo} unless it is already known to be finalized
+     * or was recently known not to be finalized.
+     *
+     * @param blockHash the block.
+     * @param result    the result of a query at the block, which is the {@link BlockInfo} of a {@code getBlockInfo} query.
+     * @return whether the block is finalized, or false if it could not be determined.
+     */
+    private boolean isFinalized(Hash blockHash, Object result) {
+        if (responseCache.isFinalized(blockHash)) {
+            return true;
+        }
+        if (responseCache.isPending(blockHash)) {
+            return false;
+        }
+        final boolean finalized;
+        if (result instanceof BlockInfo) {
+            finalized = Boolean.TRUE.equals(((BlockInfo) result).getFinalized());
+        } else {
+            try {
+                finalized = Boolean.TRUE.equals(getBlockInfo(blockHash).getFinalized());
+            } catch (BlockNotFoundException | StatusRuntimeException e) {
+                return false;
+            }
+        }
+        if (finalized) {
+            responseCache.finalized(blockHash);
+        } else {
+            responseCache.pending(blockHash);
+        }
+        return finalized;
+    }
+
+    /**
+     * Decode a response, reporting the time spent to the {@link Client#metrics}.
+     *
+     * @param method  the method of the response.
+     * @param decoder the decoding of the response.
+     * @return the decoded response.
+     * @throws E if the response could not be decoded.
+     */
+    private <T, E extends Exception> T decode(MethodDescriptor<?, ?> method, Decoder<T, E> decoder) throws E {
+        if (Objects.isNull(metrics)) {
+            return decoder.decode();
+        }
+        val startNanos = System.nanoTime();
+        try {
+            return decoder.decode();
+        } finally {
+            metrics.onResponseDecoded(method.getFullMethodName(), System.nanoTime() - startNanos);
+        }
+    }
+
+    private static ConcordiumP2PRpc.BlockHash toBlockHashRequest(Hash blockHash) {
+        return ConcordiumP2PRpc.BlockHash.getDefaultInstance()
+                .newBuilderForType()
+                .setBlockHashBytes(ByteString.copyFromUtf8(blockHash.asHex()))
+                .build();
+    }
+
+    /**
+     * Get the {@link concordium.P2PGrpc.P2PBlockingStub}.
+     * The timeout of each query is the one of the {@link DeadlinePolicy} of the {@link Connection} used to
+     * initialize `this`, or the timeout of the {@link Connection} if the policy does not cover the query.
+     *
+     * @return The stub.
      */
     private P2PGrpc.P2PBlockingStub server() {
-        return this.blockingStub.withDeadlineAfter(this.timeout, TimeUnit.MILLISECONDS);
+        return this.blockingStub;
+    }
+
+    /**
+     * Get a {@link concordium.P2PGrpc.P2PBlockingStub} with a timeout overriding the {@link DeadlinePolicy}.
+     *
+     * @param timeout the timeout.
+     * @return A new stub with a timeout.
+     */
+    private P2PGrpc.P2PBlockingStub server(Duration timeout) {
+        if (Objects.isNull(timeout) || timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Timeout must be positive");
+        }
+        return this.blockingStub.withDeadlineAfter(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Decodes a gRPC response into its parsed form.
+     */
+    @FunctionalInterface
+    private interface Decoder<T, E extends Exception> {
+        T decode() throws E;
+    }
+
+    /**
+     * Parses a gRPC response of the node.
+     */
+    @FunctionalInterface
+    private interface Parser<R, T, E extends Exception> {
+        T parse(R response) throws E;
     }
 }
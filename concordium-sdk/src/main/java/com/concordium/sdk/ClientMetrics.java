@@ -0,0 +1,47 @@
+package com.concordium.sdk;
+
+import io.grpc.Status;
+
+/**
+ * Receives the measurements of the requests of a {@link Client} or {@link AsyncClient}.
+ * <p>
+ * Implement this for reporting to the metrics library of the application, or use the {@link MetricsRecorder}
+ * which keeps the measurements in memory. The methods are called on the network and calling threads
+ * while the requests are in flight, hence they must be thread safe and return quickly.
+ * <p>
+ * The methods are identified by their full gRPC name e.g. {@code concordium.P2P/GetBlockSummary}.
+ * A request is measured once, regardless of how many nodes of a {@link ClientPool} it was sent to
+ * due to retries or hedging, and queries merged by {@link Connection#isCoalesceRequests()} count as one request.
+ */
+public interface ClientMetrics {
+
+    /**
+     * Called when a request is started.
+     *
+     * @param method the full name of the method.
+     */
+    default void onRequestStarted(String method) {
+    }
+
+    /**
+     * Called when a request is completed, i.e. every started request is completed exactly once.
+     *
+     * @param method        the full name of the method.
+     * @param code          the status code the request completed with, {@link Status.Code#OK} if it succeeded.
+     * @param latencyNanos  the time from the request was started until it completed in nanoseconds.
+     * @param responseBytes the serialized size of the response in bytes, or 0 if there was no response.
+     */
+    default void onRequestCompleted(String method, Status.Code code, long latencyNanos, long responseBytes) {
+    }
+
+    /**
+     * Called when a response has been decoded into its parsed form, e.g. the JSON of a block summary
+     * into a {@link com.concordium.sdk.responses.blocksummary.BlockSummary}.
+     * This is on top of the latency of the request.
+     *
+     * @param method      the full name of the method.
+     * @param decodeNanos the time spent decoding in nanoseconds.
+     */
+    default void onResponseDecoded(String method, long decodeNanos) {
+    }
+}
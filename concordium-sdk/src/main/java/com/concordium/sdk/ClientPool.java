@@ -0,0 +1,195 @@
+package com.concordium.sdk;
+
+import com.concordium.sdk.exceptions.ClientInitializationException;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import io.grpc.MethodDescriptor;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.val;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A pool of connections to several nodes.
+ * <p>
+ * The pool keeps one channel per node and routes each call to the node
+ * with the fewest requests in flight out of two randomly chosen nodes.
+ * The {@link Client} and {@link AsyncClient} obtained from the pool share the underlying channels
+ * and can be used exactly like a client connected to a single node.
+ * Closing a client of the pool has no effect, the channels are only closed by {@link ClientPool#close()}.
+ * <p>
+ * Each node uses the {@link Credentials} of its own {@link Connection}. Settings which apply to the calls themselves,
+ * such as the timeout, are taken from the first {@link Connection} of the pool.
+ * <p>
+ * Idempotent queries can be hedged for reducing the tail latency, see {@link HedgingPolicy}.
+ * Each node is guarded by the {@link CircuitBreakerPolicy} of its {@link Connection} (if any),
+ * and failed queries are retried according to the {@link RetryPolicy} of the first {@link Connection}.
+ * The {@link ConcurrencyLimitPolicy} of the first {@link Connection} limits the requests in flight over the whole pool.
+ */
+public final class ClientPool {
+
+    /**
+     * The channel spreading the calls over the nodes.
+     */
+    private final PooledChannel channel;
+
+    /**
+     * The connection used for the call level settings.
+     */
+    private final Connection primary;
+
+    /**
+     * The client shared by all users of the pool.
+     */
+    private final Client client;
+
+    ClientPool(Connection primary, PooledChannel channel) {
+        this.primary = primary;
+        this.channel = channel;
+        this.client = new Client(primary, new SharedChannel(channel));
+    }
+
+    /**
+     * Create a new {@link ClientPool} with a channel to each of the provided connections.
+     *
+     * @param connections the connections of the nodes to route the requests to.
+     * @return A new {@link ClientPool}
+     * @throws ClientInitializationException if a channel to one of the nodes could not be constructed.
+     */
+    public static ClientPool from(List<Connection> connections) throws ClientInitializationException {
+        return ClientPool.builder().connections(connections).build();
+    }
+
+    /**
+     * Create a new {@link ClientPool}.
+     * Use {@link ClientPool#builder()} for constructing the {@link ClientPool}.
+     *
+     * @param connections the connections of the nodes to route the requests to.
+     * @param hedging     the {@link HedgingPolicy} of each query to hedge.
+     *                    The queries are identified by their method in {@link concordium.P2PGrpc}
+     *                    e.g. {@code P2PGrpc.getGetBlockSummaryMethod()}.
+     *                    Only idempotent queries can be hedged.
+     * @return A new {@link ClientPool}
+     * @throws ClientInitializationException if a channel to one of the nodes could not be constructed.
+     */
+    @Builder
+    private static ClientPool create(
+            @Singular List<Connection> connections,
+            @Singular("hedge") Map<MethodDescriptor<?, ?>, HedgingPolicy> hedging) throws ClientInitializationException {
+        if (Objects.isNull(connections) || connections.isEmpty()) {
+            throw new IllegalArgumentException("A ClientPool requires at least one connection");
+        }
+        val nodes = new ArrayList<PooledChannel.Node>(connections.size());
+        try {
+            for (Connection connection : connections) {
+                nodes.add(PooledChannel.Node.from(connection, connection.newChannel()));
+            }
+        } catch (IOException e) {
+            for (PooledChannel.Node node : nodes) {
+                node.getChannel().shutdownNow();
+            }
+            throw ClientInitializationException.from(e);
+        }
+        val primary = connections.get(0);
+        val channel = new PooledChannel(nodes, hedging, primary.getRetryPolicy(), primary.getConcurrencyLimit());
+        channel.warmUp(connections);
+        return new ClientPool(primary, channel);
+    }
+
+    /**
+     * Get the {@link Client} which routes its requests over the nodes of the pool.
+     *
+     * @return the {@link Client} of the pool.
+     */
+    public Client getClient() {
+        return this.client;
+    }
+
+    /**
+     * Create an {@link AsyncClient} which routes its requests over the nodes of the pool.
+     * The responses are decoded on the {@link ForkJoinPool#commonPool()}.
+     *
+     * @return a new {@link AsyncClient} sharing the channels of the pool.
+     */
+    public AsyncClient newAsyncClient() {
+        return newAsyncClient(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create an {@link AsyncClient} which routes its requests over the nodes of the pool.
+     *
+     * @param decodeExecutor the executor to decode the responses on.
+     * @return a new {@link AsyncClient} sharing the channels of the pool, which are not closed by {@link AsyncClient#close()}.
+     */
+    public AsyncClient newAsyncClient(Executor decodeExecutor) {
+        return new AsyncClient(this.primary, new SharedChannel(this.channel), decodeExecutor);
+    }
+
+    /**
+     * Get the number of requests currently in flight for each node of the pool.
+     *
+     * @return the number of requests in flight, in the order the connections were supplied.
+     */
+    public ImmutableList<Integer> getInFlight() {
+        val builder = ImmutableList.<Integer>builder();
+        for (PooledChannel.Node node : channel.getNodes()) {
+            builder.add(node.getInFlight());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Get the state of the circuit breaker of each node of the pool.
+     * Nodes without a circuit breaker are reported as {@link CircuitBreakerState#CLOSED}.
+     *
+     * @return the states, in the order the connections were supplied.
+     */
+    public ImmutableList<CircuitBreakerState> getCircuitBreakerStates() {
+        val builder = ImmutableList.<CircuitBreakerState>builder();
+        for (PooledChannel.Node node : channel.getNodes()) {
+            builder.add(node.getCircuitBreakerState());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Get the current limit of the number of requests in flight over the pool.
+     *
+     * @return the limit, or empty if the first {@link Connection} has no {@link ConcurrencyLimitPolicy}.
+     */
+    public Optional<Integer> getConcurrencyLimit() {
+        val limiter = channel.getLimiter();
+        return Objects.isNull(limiter) ? Optional.empty() : Optional.of(limiter.getLimit());
+    }
+
+    /**
+     * Get the counters of the hedged queries.
+     *
+     * @return the {@link HedgingStatistics} of each hedged query keyed by its full method name
+     * e.g. 'concordium.P2P/GetBlockSummary'.
+     */
+    public ImmutableMap<String, HedgingStatistics> getHedgingStatistics() {
+        val builder = ImmutableMap.<String, HedgingStatistics>builder();
+        for (Map.Entry<String, HedgingState> entry : channel.getHedging().entrySet()) {
+            builder.put(entry.getKey(), entry.getValue().getStatistics());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Closes the channels to all nodes of the pool.
+     * <p>
+     * Subsequent calls via clients of the pool will throw a {@link io.grpc.StatusRuntimeException}
+     */
+    public void close() {
+        this.channel.shutdown();
+    }
+}
@@ -0,0 +1,100 @@
+package com.concordium.sdk;
+
+import io.grpc.*;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+import lombok.val;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The gRPC message compression of a {@link Connection}.
+ * <p>
+ * The client always advertises the codecs it can decompress (gzip and the {@link CompressionConfig#codecs}),
+ * but whether the responses are compressed is decided by the node, so this configuration does not change the
+ * bytes of the responses. The requests of the SDK are small protobuf messages, which gain little from compression.
+ * <p>
+ * Requests are only compressed if {@link CompressionConfig#requestEncoding} is set. A node which does not
+ * support the encoding rejects the requests with {@link Status.Code#UNIMPLEMENTED},
+ * so only set it if the node is known to accept it.
+ */
+@Getter
+public final class CompressionConfig {
+
+    /**
+     * The encoding of the gzip codec.
+     */
+    public static final String GZIP = "gzip";
+
+    /**
+     * The encoding the requests are compressed with, e.g. {@link CompressionConfig#GZIP}.
+     * If this is not set i.e. 'null' then the requests are not compressed.
+     */
+    private final String requestEncoding;
+
+    /**
+     * Additional codecs to register besides gzip.
+     * The codecs are used for decompressing responses and for compressing requests if
+     * their encoding is the {@link CompressionConfig#requestEncoding}.
+     */
+    private final List<Codec> codecs;
+
+    /**
+     * Create a {@link CompressionConfig}
+     *
+     * @param requestEncoding the encoding the requests are compressed with or 'null' if requests should not be compressed.
+     * @param codecs          additional codecs to register besides gzip.
+     */
+    @Builder
+    public CompressionConfig(String requestEncoding, @Singular List<Codec> codecs) {
+        if (!Objects.isNull(requestEncoding)
+                && !GZIP.equals(requestEncoding)
+                && codecs.stream().noneMatch(codec -> requestEncoding.equals(codec.getMessageEncoding()))) {
+            throw new IllegalArgumentException("No codec is registered for the request encoding " + requestEncoding);
+        }
+        this.requestEncoding = requestEncoding;
+        this.codecs = codecs;
+    }
+
+    /**
+     * @return a {@link CompressionConfig} compressing requests with gzip.
+     */
+    public static CompressionConfig gzip() {
+        return CompressionConfig.builder().requestEncoding(GZIP).build();
+    }
+
+    /**
+     * Register the codecs with a channel builder.
+     *
+     * @param builder the builder to configure.
+     * @return the configured builder.
+     */
+    NettyChannelBuilder configure(NettyChannelBuilder builder) {
+        if (codecs.isEmpty()) {
+            return builder;
+        }
+        // the default compressor registry is shared, hence the codecs are registered with a new one.
+        val compressors = CompressorRegistry.newEmptyInstance();
+        compressors.register(new Codec.Gzip());
+        compressors.register(Codec.Identity.NONE);
+        DecompressorRegistry decompressors = DecompressorRegistry.getDefaultInstance();
+        for (Codec codec : codecs) {
+            compressors.register(codec);
+            decompressors = decompressors.with(codec, true);
+        }
+        return builder.compressorRegistry(compressors).decompressorRegistry(decompressors);
+    }
+
+    /**
+     * Apply the request encoding to the options of a call.
+     *
+     * @param callOptions the options of the call.
+     * @return the options compressing the request if a {@link CompressionConfig#requestEncoding} is set.
+     */
+    CallOptions apply(CallOptions callOptions) {
+        return Objects.isNull(requestEncoding) ? callOptions : callOptions.withCompression(requestEncoding);
+    }
+}
@@ -0,0 +1,124 @@
+package com.concordium.sdk;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Objects;
+
+/**
+ * Policy for adaptively limiting the number of requests in flight.
+ * <p>
+ * The limit follows an AIMD (additive increase, multiplicative decrease) scheme:
+ * it grows by one for every 'limit' successful requests made while at least half of the limit was in use,
+ * and it shrinks by the {@link ConcurrencyLimitPolicy#backoffRatio} when the node signals overload,
+ * i.e. a request fails with 'RESOURCE_EXHAUSTED', 'DEADLINE_EXCEEDED' or 'UNAVAILABLE',
+ * or its latency exceeds {@link ConcurrencyLimitPolicy#latencyTolerance} times the lowest latency observed for the query.
+ * <p>
+ * Requests exceeding the limit either wait in a queue for a request to complete ({@link ConcurrencyLimitPolicy.Mode#BLOCK})
+ * or fail right away with 'RESOURCE_EXHAUSTED' ({@link ConcurrencyLimitPolicy.Mode#FAIL_FAST}).
+ */
+@Getter
+public final class ConcurrencyLimitPolicy {
+
+    /**
+     * What happens to a request exceeding the limit.
+     */
+    public enum Mode {
+        /**
+         * The request waits until it can be sent, at most until the deadline of the request, after which it fails
+         * with 'DEADLINE_EXCEEDED'. The request is queued without blocking the calling thread, e.g. of the
+         * {@link AsyncClient}, while a blocking query of the {@link Client} blocks until the response arrives as usual.
+         */
+        BLOCK,
+        /**
+         * The request fails right away with 'RESOURCE_EXHAUSTED'.
+         */
+        FAIL_FAST
+    }
+
+    /**
+     * The limit until the first adjustment.
+     * Defaults to 20.
+     */
+    private final int initialLimit;
+
+    /**
+     * The lower bound of the limit.
+     * Defaults to 1.
+     */
+    private final int minLimit;
+
+    /**
+     * The upper bound of the limit.
+     * Defaults to 200.
+     */
+    private final int maxLimit;
+
+    /**
+     * The factor (in the range ]0, 1[) the limit is multiplied by on overload.
+     * Defaults to 0.9.
+     */
+    private final double backoffRatio;
+
+    /**
+     * How many times the lowest observed latency of a query its latency may be before it is considered overload.
+     * Defaults to 3.
+     */
+    private final double latencyTolerance;
+
+    /**
+     * What happens to a request exceeding the limit.
+     * Defaults to {@link Mode#BLOCK}.
+     */
+    private final Mode mode;
+
+    /**
+     * Create a {@link ConcurrencyLimitPolicy}.
+     * Unset values (i.e. 'null' or non-positive values) are replaced by their defaults.
+     *
+     * @param initialLimit     the limit until the first adjustment.
+     * @param minLimit         the lower bound of the limit.
+     * @param maxLimit         the upper bound of the limit.
+     * @param backoffRatio     the factor the limit is multiplied by on overload.
+     * @param latencyTolerance how many times the lowest observed latency of a query its latency may be before it is considered overload.
+     * @param mode             what happens to a request exceeding the limit.
+     */
+    @Builder
+    public ConcurrencyLimitPolicy(int initialLimit,
+                                  int minLimit,
+                                  int maxLimit,
+                                  double backoffRatio,
+                                  double latencyTolerance,
+                                  Mode mode) {
+        this.minLimit = minLimit < 1 ? DEFAULT_MIN_LIMIT : minLimit;
+        this.maxLimit = maxLimit < 1 ? Math.max(DEFAULT_MAX_LIMIT, this.minLimit) : maxLimit;
+        this.initialLimit = initialLimit < 1
+                ? Math.max(this.minLimit, Math.min(DEFAULT_INITIAL_LIMIT, this.maxLimit))
+                : initialLimit;
+        this.backoffRatio = backoffRatio <= 0 ? DEFAULT_BACKOFF_RATIO : backoffRatio;
+        this.latencyTolerance = latencyTolerance <= 0 ? DEFAULT_LATENCY_TOLERANCE : latencyTolerance;
+        this.mode = Objects.isNull(mode) ? Mode.BLOCK : mode;
+        if (this.minLimit > this.maxLimit || this.initialLimit < this.minLimit || this.initialLimit > this.maxLimit) {
+            throw new IllegalArgumentException("The limits must satisfy minLimit <= initialLimit <= maxLimit");
+        }
+        if (this.backoffRatio >= 1) {
+            throw new IllegalArgumentException("Backoff ratio must be less than 1");
+        }
+        if (this.latencyTolerance <= 1) {
+            throw new IllegalArgumentException("Latency tolerance must be greater than 1");
+        }
+    }
+
+    /**
+     * @return a {@link ConcurrencyLimitPolicy} with the default values.
+     */
+    public static ConcurrencyLimitPolicy defaults() {
+        return ConcurrencyLimitPolicy.builder().build();
+    }
+
+    private static final int DEFAULT_INITIAL_LIMIT = 20;
+    private static final int DEFAULT_MIN_LIMIT = 1;
+    private static final int DEFAULT_MAX_LIMIT = 200;
+    private static final double DEFAULT_BACKOFF_RATIO = 0.9;
+    private static final double DEFAULT_LATENCY_TOLERANCE = 3;
+}
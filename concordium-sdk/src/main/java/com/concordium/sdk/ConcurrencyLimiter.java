@@ -0,0 +1,178 @@
+package com.concordium.sdk;
+
+import io.grpc.Status;
+import lombok.val;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Adaptive limit of the number of requests in flight, see {@link ConcurrencyLimitPolicy}.
+ * <p>
+ * The lowest observed latency is tracked per query, since queries have very different latencies.
+ * It drifts slowly towards the recent latencies so a single unusually fast response does not mark every later
+ * response as overload.
+ * <p>
+ * Requests waiting for a permit in {@link ConcurrencyLimitPolicy.Mode#BLOCK} are queued and granted permits in order
+ * as permits are released, so no thread is blocked while waiting.
+ */
+final class ConcurrencyLimiter {
+
+    /**
+     * How fast the lowest observed latency of a query drifts towards higher latencies.
+     */
+    private static final double BASELINE_DRIFT = 0.001;
+
+    private final ConcurrencyLimitPolicy policy;
+
+    /**
+     * The lowest observed latency in nanoseconds of each query, keyed by its full method name.
+     */
+    private final ConcurrentHashMap<String, Double> baselines = new ConcurrentHashMap<>();
+
+    /**
+     * The requests waiting for a permit.
+     */
+    private final Deque<Runnable> waiters = new ArrayDeque<>();
+
+    private double limit;
+    private int inFlight;
+
+    ConcurrencyLimiter(ConcurrencyLimitPolicy policy) {
+        this.policy = policy;
+        this.limit = policy.getInitialLimit();
+    }
+
+    /**
+     * @return the current limit.
+     */
+    synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * @return the number of requests in flight.
+     */
+    synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * @return what happens to a request exceeding the limit.
+     */
+    ConcurrencyLimitPolicy.Mode getMode() {
+        return policy.getMode();
+    }
+
+    /**
+     * Acquire a permit for sending a request if the limit is not reached.
+     * A request which acquired a permit must report its outcome via {@link ConcurrencyLimiter#release(String, Status, long)}.
+     *
+     * @return true if the request may be sent.
+     */
+    synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * Acquire a permit for sending a request, or queue the request until a permit is released.
+     * Requests are granted permits in the order they were queued, so a request is never granted a permit before
+     * an earlier queued request.
+     *
+     * @param waiter run with the permit once it is granted to the queued request, by the thread releasing a permit.
+     * @return true if the permit was acquired right away, in which case the waiter is not queued.
+     */
+    synchronized boolean acquireOrQueue(Runnable waiter) {
+        if (waiters.isEmpty() && tryAcquire()) {
+            return true;
+        }
+        waiters.add(waiter);
+        return false;
+    }
+
+    /**
+     * Remove a queued request, e.g. as its deadline passed.
+     *
+     * @return true if the request was removed, false if it was already granted a permit.
+     */
+    synchronized boolean remove(Runnable waiter) {
+        return waiters.remove(waiter);
+    }
+
+    /**
+     * Release the permit of a completed request and adjust the limit according to its outcome.
+     *
+     * @param method       the full method name of the request.
+     * @param status       the status the request was closed with.
+     * @param latencyNanos the latency of the request in nanoseconds.
+     */
+    void release(String method, Status status, long latencyNanos) {
+        val overload = isOverload(status) || (status.isOk() && isSlow(method, latencyNanos));
+        final List<Runnable> granted;
+        synchronized (this) {
+            // only grow the limit while it is actually being used.
+            val saturated = inFlight * 2 >= limit;
+            inFlight--;
+            if (overload) {
+                limit = Math.max(policy.getMinLimit(), limit * policy.getBackoffRatio());
+            } else if (status.isOk() && saturated) {
+                limit = Math.min(policy.getMaxLimit(), limit + 1 / limit);
+            }
+            granted = grant();
+        }
+        granted.forEach(Runnable::run);
+    }
+
+    /**
+     * Release the permit of a request which was not sent, without adjusting the limit.
+     */
+    void cancel() {
+        final List<Runnable> granted;
+        synchronized (this) {
+            inFlight--;
+            granted = grant();
+        }
+        granted.forEach(Runnable::run);
+    }
+
+    /**
+     * Grant the released permits to the queued requests. The returned waiters must be run without holding the lock.
+     */
+    private List<Runnable> grant() {
+        if (waiters.isEmpty() || inFlight >= (int) limit) {
+            return Collections.emptyList();
+        }
+        val granted = new ArrayList<Runnable>();
+        while (!waiters.isEmpty() && inFlight < (int) limit) {
+            inFlight++;
+            granted.add(waiters.poll());
+        }
+        return granted;
+    }
+
+    private boolean isSlow(String method, long latencyNanos) {
+        val baseline = baselines.merge(method, (double) latencyNanos, (previous, latency) -> latency < previous
+                ? latency
+                : previous + (latency - previous) * BASELINE_DRIFT);
+        return latencyNanos > baseline * policy.getLatencyTolerance();
+    }
+
+    private static boolean isOverload(Status status) {
+        switch (status.getCode()) {
+            case RESOURCE_EXHAUSTED:
+            case DEADLINE_EXCEEDED:
+            case UNAVAILABLE:
+                return true;
+            default:
+                return false;
+        }
+    }
+}
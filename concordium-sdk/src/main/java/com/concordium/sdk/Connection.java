@@ -2,6 +2,7 @@ package com.concordium.sdk;
 
 
 import io.grpc.*;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.val;
@@ -23,7 +24,7 @@ public final class Connection {
      */
     private final int port;
     /**
-     * The timeout for each request (in milliseconds).
+     * The timeout for each request (in milliseconds) not covered by the {@link Connection#deadlinePolicy}.
      * The default timeout is 15000 milliseconds if a non-positive value is supplied then
      * the default value will be used.
      */
@@ -44,6 +45,90 @@ public final class Connection {
      */
     private final TLSConfig tlsConfig;
 
+    /**
+     * The {@link RetryPolicy} for failed queries.
+     * If this is not set i.e. 'null' then failed queries are not retried.
+     */
+    private final RetryPolicy retryPolicy;
+
+    /**
+     * The {@link CircuitBreakerPolicy} of the circuit breaker guarding the node.
+     * If this is not set i.e. 'null' then no circuit breaker is used.
+     */
+    private final CircuitBreakerPolicy circuitBreaker;
+
+    /**
+     * The {@link DeadlinePolicy} with the timeouts of specific queries.
+     * Queries not covered by the policy (or all queries if this is 'null') use the {@link Connection#timeout}.
+     */
+    private final DeadlinePolicy deadlinePolicy;
+
+    /**
+     * The {@link TransportConfig} for tuning the underlying transport.
+     * If this is not set i.e. 'null' then the gRPC defaults are used.
+     */
+    private final TransportConfig transport;
+
+    /**
+     * How the channel is warmed up when a client is created.
+     * If this is not set i.e. 'null' then the channel connects on the first request.
+     */
+    private final WarmUp warmUp;
+
+    /**
+     * Whether identical concurrent queries of a {@link Client} are merged into one request.
+     * The callers then share the parsed response, which hence must not be modified.
+     */
+    private final boolean coalesceRequests;
+
+    /**
+     * The {@link ConcurrencyLimitPolicy} for adaptively limiting the number of requests in flight.
+     * If this is not set i.e. 'null' then the requests in flight are not limited.
+     */
+    private final ConcurrencyLimitPolicy concurrencyLimit;
+
+    /**
+     * The {@link CompressionConfig} of the messages.
+     * If this is not set i.e. 'null' then requests are not compressed and only gzip compressed responses are accepted.
+     */
+    private final CompressionConfig compression;
+
+    /**
+     * The {@link ClientMetrics} receiving the measurements of the requests, e.g. a {@link MetricsRecorder}.
+     * If this is not set i.e. 'null' then the requests are not measured.
+     */
+    private final ClientMetrics metrics;
+
+    /**
+     * The {@link TransactionLifecycle} tracking the sent transactions until they are finalized.
+     * If this is not set i.e. 'null' then the transactions are not tracked.
+     */
+    private final TransactionLifecycle lifecycle;
+
+    /**
+     * The {@link ResponseCache} of the queries at finalized blocks.
+     * If this is not set i.e. 'null' then responses are not cached.
+     */
+    private final ResponseCache responseCache;
+
+    /**
+     * The {@link BlockStore} keeping the finalized blocks on disk.
+     * If this is not set i.e. 'null' then blocks are always queried from the node.
+     */
+    private final BlockStore blockStore;
+
+    /**
+     * The {@link ModuleCache} of the sources of smart contract modules.
+     * If this is not set i.e. 'null' then sources are always queried from the node.
+     */
+    private final ModuleCache moduleCache;
+
+    /**
+     * The {@link NegativeCache} of the queries which found nothing.
+     * If this is not set i.e. 'null' then such queries are always sent to the node.
+     */
+    private final NegativeCache negativeCache;
+
     /**
      * Create a {@link Connection}
      *
@@ -55,13 +140,74 @@ public final class Connection {
      *                    possibly additional HTTP headers.
      * @param useTLS      Whether to enforce the usage of TLS and use the specified TLS configuration.
      */
-    @Builder
     public Connection(String host, int port, int timeout, Credentials credentials, TLSConfig useTLS) {
+        this(host, port, timeout, credentials, useTLS, null, null, null, null, null, false, null, null, null, null, null, null, null, null);
+    }
+
+    /**
+     * Create a {@link Connection}
+     *
+     * @param host             the host to connect to.
+     * @param port             the port to use.
+     * @param timeout          the timeout for each request.
+     * @param credentials      The {@link Credentials} to use for the connection.
+     *                         This includes the 'Authentication' header and
+     *                         possibly additional HTTP headers.
+     * @param useTLS           Whether to enforce the usage of TLS and use the specified TLS configuration.
+     * @param retryPolicy      The {@link RetryPolicy} for failed queries or 'null' if queries should not be retried.
+     * @param circuitBreaker   The {@link CircuitBreakerPolicy} for guarding the node or 'null' if no circuit breaker should be used.
+     * @param deadlinePolicy   The {@link DeadlinePolicy} with the timeouts of specific queries or 'null' if all queries use the timeout.
+     * @param transport        The {@link TransportConfig} for tuning the underlying transport or 'null' for the gRPC defaults.
+     * @param warmUp           The {@link WarmUp} of the channel or 'null' if the channel should connect on the first request.
+     * @param coalesceRequests Whether identical concurrent queries of a {@link Client} are merged into one request.
+     * @param concurrencyLimit The {@link ConcurrencyLimitPolicy} for limiting the requests in flight or 'null' if they should not be limited.
+     * @param compression      The {@link CompressionConfig} of the messages or 'null' if requests should not be compressed.
+     * @param metrics          The {@link ClientMetrics} receiving the measurements of the requests or 'null' if they should not be measured.
+     * @param lifecycle        The {@link TransactionLifecycle} tracking the sent transactions or 'null' if they should not be tracked.
+     * @param responseCache    The {@link ResponseCache} of the queries at finalized blocks or 'null' if responses should not be cached.
+     * @param blockStore       The {@link BlockStore} keeping the finalized blocks on disk or 'null' if blocks should not be stored.
+     * @param moduleCache      The {@link ModuleCache} of the sources of modules or 'null' if sources should not be cached.
+     * @param negativeCache    The {@link NegativeCache} of the queries which found nothing or 'null' if they should not be remembered.
+     */
+    @Builder
+    public Connection(String host,
+                      int port,
+                      int timeout,
+                      Credentials credentials,
+                      TLSConfig useTLS,
+                      RetryPolicy retryPolicy,
+                      CircuitBreakerPolicy circuitBreaker,
+                      DeadlinePolicy deadlinePolicy,
+                      TransportConfig transport,
+                      WarmUp warmUp,
+                      boolean coalesceRequests,
+                      ConcurrencyLimitPolicy concurrencyLimit,
+                      CompressionConfig compression,
+                      ClientMetrics metrics,
+                      TransactionLifecycle lifecycle,
+                      ResponseCache responseCache,
+                      BlockStore blockStore,
+                      ModuleCache moduleCache,
+                      NegativeCache negativeCache) {
         this.host = host;
         this.port = port;
         this.timeout = timeout;
         this.credentials = credentials;
         this.tlsConfig = useTLS;
+        this.retryPolicy = retryPolicy;
+        this.circuitBreaker = circuitBreaker;
+        this.deadlinePolicy = deadlinePolicy;
+        this.transport = transport;
+        this.warmUp = warmUp;
+        this.coalesceRequests = coalesceRequests;
+        this.concurrencyLimit = concurrencyLimit;
+        this.compression = compression;
+        this.metrics = metrics;
+        this.lifecycle = lifecycle;
+        this.responseCache = responseCache;
+        this.blockStore = blockStore;
+        this.moduleCache = moduleCache;
+        this.negativeCache = negativeCache;
     }
 
     /**
@@ -109,18 +255,37 @@ public final class Connection {
      * @return a new {@link ManagedChannel}
      */
     ManagedChannel newChannel() throws IOException {
-        ManagedChannel channel;
+        NettyChannelBuilder builder;
         if (enforceTLS()) {
             val tlsConfig = getTlsConfig();
             ChannelCredentials tlsChannel = getTLSChannel(tlsConfig);
-            return Grpc.newChannelBuilderForAddress(getHost(), getPort(), tlsChannel).build();
+            builder = NettyChannelBuilder.forAddress(getHost(), getPort(), tlsChannel);
         } else {
-            channel = ManagedChannelBuilder.
-                    forAddress(getHost(), getPort())
-                    .usePlaintext()
-                    .build();
+            builder = NettyChannelBuilder
+                    .forAddress(getHost(), getPort())
+                    .usePlaintext();
+        }
+        if (!Objects.isNull(transport)) {
+            transport.configure(builder);
+        }
+        if (!Objects.isNull(compression)) {
+            compression.configure(builder);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Intercept a channel with the timeouts and the measurements of the requests configured by the {@link Connection}.
+     *
+     * @param channel the channel to intercept.
+     * @return the intercepted channel.
+     */
+    Channel intercept(Channel channel) {
+        val withDeadlines = ClientInterceptors.intercept(channel, new DeadlineInterceptor(this));
+        if (Objects.isNull(metrics)) {
+            return withDeadlines;
         }
-        return channel;
+        return ClientInterceptors.intercept(withDeadlines, new MetricsInterceptor(metrics));
     }
 
     private ChannelCredentials getTLSChannel(TLSConfig tlsConfig) throws IOException {
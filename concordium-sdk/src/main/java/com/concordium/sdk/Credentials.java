@@ -8,14 +8,21 @@ import java.util.Collections;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.Executor;
-
-@Getter
-@Setter
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The credentials sent with every request, i.e. the 'Authentication' header and possibly additional headers.
+ * <p>
+ * The headers of a request are computed once and shared by all requests, so applying them takes no lock
+ * even when a {@link Client} is shared by many threads. The authentication token can be rotated while
+ * requests are in flight with {@link Credentials#setAuthenticationToken(String)}, which swaps the headers
+ * atomically: a request either uses the old or the new token.
+ */
 public class Credentials extends CallCredentials {
-    private final CallCredentials callCredentials;
+    private final AtomicReference<CallCredentials> callCredentials;
 
     private Credentials(CallCredentials credentials) {
-        this.callCredentials = credentials;
+        this.callCredentials = new AtomicReference<>(credentials);
     }
 
     public static Credentials from(String authenticationToken) {
@@ -32,48 +39,68 @@ public class Credentials extends CallCredentials {
      */
     @Builder
     public Credentials(String authenticationToken, @Singular Set<Header> withAdditionalHeaders) {
-        this.callCredentials = new CallCredentials(authenticationToken, withAdditionalHeaders);
+        this(new CallCredentials(authenticationToken, withAdditionalHeaders));
+    }
+
+    /**
+     * @return the credentials currently applied to the requests.
+     */
+    public io.grpc.CallCredentials getCallCredentials() {
+        return this.callCredentials.get();
+    }
+
+    /**
+     * @return the authentication token currently sent with the requests.
+     */
+    public String getAuthenticationToken() {
+        return this.callCredentials.get().authenticationToken;
+    }
+
+    /**
+     * Replace the authentication token of all subsequent requests, keeping the additional headers.
+     *
+     * @param authenticationToken the new authentication token.
+     */
+    public void setAuthenticationToken(String authenticationToken) {
+        this.callCredentials.updateAndGet(current -> new CallCredentials(authenticationToken, current.additionalHeaders));
     }
 
     @Override
-    public final synchronized void applyRequestMetadata(RequestInfo requestInfo, Executor executor, MetadataApplier metadataApplier) {
-        this.callCredentials.applyRequestMetadata(requestInfo, executor, metadataApplier);
+    public final void applyRequestMetadata(RequestInfo requestInfo, Executor executor, MetadataApplier metadataApplier) {
+        this.callCredentials.get().applyRequestMetadata(requestInfo, executor, metadataApplier);
     }
 
     @Override
     public void thisUsesUnstableApi() {
-        this.callCredentials.thisUsesUnstableApi();
+        this.callCredentials.get().thisUsesUnstableApi();
     }
 
 
     private static final class CallCredentials extends io.grpc.CallCredentials {
+        private static final Metadata.Key<String> AUTHENTICATION_META_DATA_KEY = Metadata.Key.of((Header.AUTHENTICATION_HEADER), Metadata.ASCII_STRING_MARSHALLER);
+
         private final String authenticationToken;
         private final Set<Header> additionalHeaders;
 
-        private Metadata cachedMetadata;
-
-        private final Metadata.Key<String> AUTHENTICATION_META_DATA_KEY = Metadata.Key.of((Header.AUTHENTICATION_HEADER), Metadata.ASCII_STRING_MARSHALLER);
+        /**
+         * The headers of every request. They are only read after construction,
+         * as gRPC merges them into the headers of each call.
+         */
+        private final Metadata metadata;
 
         CallCredentials(final String authenticationToken) {
-            this.authenticationToken = authenticationToken;
-            this.additionalHeaders = Collections.emptySet();
+            this(authenticationToken, Collections.emptySet());
         }
 
         CallCredentials(final String authenticationToken, final Set<Header> additionalHeaders) {
             this.authenticationToken = authenticationToken;
             this.additionalHeaders = additionalHeaders;
+            this.metadata = createMetadata();
         }
 
         @Override
         public void applyRequestMetadata(RequestInfo requestInfo, Executor executor, MetadataApplier metadataApplier) {
-            metadataApplier.apply(getMetadata());
-        }
-
-        private Metadata getMetadata() {
-            if (Objects.isNull(this.cachedMetadata)) {
-                this.cachedMetadata = createMetadata();
-            }
-            return this.cachedMetadata;
+            metadataApplier.apply(this.metadata);
         }
 
         private Metadata createMetadata() {
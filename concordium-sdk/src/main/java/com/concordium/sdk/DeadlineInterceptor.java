@@ -0,0 +1,34 @@
+package com.concordium.sdk;
+
+import io.grpc.*;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sets the deadline of the calls which have not got one already
+ * according to the {@link DeadlinePolicy} of the {@link Connection}.
+ */
+final class DeadlineInterceptor implements ClientInterceptor {
+
+    private final DeadlinePolicy policy;
+
+    /**
+     * The timeout in milliseconds of the queries not covered by the policy.
+     */
+    private final long timeout;
+
+    DeadlineInterceptor(Connection connection) {
+        this.policy = connection.getDeadlinePolicy();
+        this.timeout = connection.getTimeout();
+    }
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+        if (!Objects.isNull(callOptions.getDeadline())) {
+            return next.newCall(method, callOptions);
+        }
+        final long timeoutMillis = Objects.isNull(policy) ? timeout : policy.getTimeoutMillis(method, timeout);
+        return next.newCall(method, callOptions.withDeadlineAfter(timeoutMillis, TimeUnit.MILLISECONDS));
+    }
+}
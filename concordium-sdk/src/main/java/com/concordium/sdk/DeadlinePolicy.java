@@ -0,0 +1,67 @@
+package com.concordium.sdk;
+
+import com.google.common.collect.ImmutableMap;
+import io.grpc.MethodDescriptor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+import lombok.val;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Policy for the deadlines of the queries sent via a {@link Connection}.
+ * <p>
+ * Queries have very different latencies, e.g. {@link Client#getConsensusStatus()}
+ * is answered right away, while the summary of a large block or the source of a large module
+ * may take seconds. The policy allows a timeout per query so fast queries fail (and free their resources) fast,
+ * while slow queries are not killed prematurely.
+ * <pre>
+ * DeadlinePolicy.builder()
+ *     .timeout(P2PGrpc.getGetConsensusStatusMethod(), Duration.ofMillis(200))
+ *     .timeout(P2PGrpc.getGetBlockSummaryMethod(), Duration.ofSeconds(30))
+ *     .build();
+ * </pre>
+ * Queries without a timeout in the policy use the {@link Connection#getTimeout()}.
+ * Overloads taking a timeout (e.g. {@link Client#getBlockSummary(com.concordium.sdk.transactions.Hash, Duration)})
+ * take precedence over the policy.
+ */
+@Getter
+public final class DeadlinePolicy {
+
+    /**
+     * The timeouts keyed by the full method name of the query.
+     */
+    private final ImmutableMap<String, Duration> timeouts;
+
+    /**
+     * Create a {@link DeadlinePolicy}.
+     *
+     * @param timeouts the timeouts of the queries.
+     */
+    @Builder
+    public DeadlinePolicy(@Singular Map<MethodDescriptor<?, ?>, Duration> timeouts) {
+        val builder = ImmutableMap.<String, Duration>builder();
+        for (Map.Entry<MethodDescriptor<?, ?>, Duration> entry : timeouts.entrySet()) {
+            if (Objects.isNull(entry.getValue()) || entry.getValue().isNegative() || entry.getValue().isZero()) {
+                throw new IllegalArgumentException("Timeout must be positive: " + entry.getKey().getFullMethodName());
+            }
+            builder.put(entry.getKey().getFullMethodName(), entry.getValue());
+        }
+        this.timeouts = builder.build();
+    }
+
+    /**
+     * Get the timeout of a query.
+     *
+     * @param method          the query.
+     * @param fallbackTimeout the timeout to use if the policy has no timeout for the query.
+     * @return the timeout of the query in milliseconds.
+     */
+    long getTimeoutMillis(MethodDescriptor<?, ?> method, long fallbackTimeout) {
+        val timeout = timeouts.get(method.getFullMethodName());
+        return Objects.isNull(timeout) ? fallbackTimeout : timeout.toMillis();
+    }
+}
@@ -0,0 +1,251 @@
+package com.concordium.sdk;
+
+import io.grpc.*;
+import lombok.val;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A unary call which is sent to a node of a {@link PooledChannel} and, if that node has not answered within the
+ * hedging delay, duplicated to another node.
+ * <p>
+ * The first successful response is delivered and the outstanding attempt is cancelled.
+ * A failed attempt is delivered as soon as no other attempt is in flight, i.e. hedging only
+ * addresses slow responses, failures are left for the caller (or a retry policy) to handle.
+ */
+final class HedgingCall<ReqT, RespT> extends ClientCall<ReqT, RespT> {
+
+    private final PooledChannel pool;
+    private final MethodDescriptor<ReqT, RespT> method;
+    private final CallOptions callOptions;
+    private final HedgingState state;
+    private final ScheduledExecutorService scheduler;
+
+    private final Object lock = new Object();
+    private final List<Attempt> attempts = new ArrayList<>(2);
+    private Listener<RespT> listener;
+    private Metadata headers;
+    private ReqT message;
+    private PooledChannel.Node primary;
+    private ScheduledFuture<?> hedgeTimer;
+    private int pending;
+    private boolean closed;
+    private boolean cancelled;
+    private String cancelMessage;
+    private Throwable cancelCause;
+
+    HedgingCall(PooledChannel pool,
+                MethodDescriptor<ReqT, RespT> method,
+                CallOptions callOptions,
+                HedgingState state,
+                ScheduledExecutorService scheduler) {
+        this.pool = pool;
+        this.method = method;
+        this.callOptions = callOptions;
+        this.state = state;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void start(Listener<RespT> responseListener, Metadata headers) {
+        this.listener = responseListener;
+        this.headers = headers;
+    }
+
+    @Override
+    public void request(int numMessages) {
+        // The attempts request the (single) response themselves.
+    }
+
+    @Override
+    public void sendMessage(ReqT message) {
+        this.message = message;
+    }
+
+    @Override
+    public void halfClose() {
+        state.onCall();
+        this.primary = pool.pick();
+        startAttempt(primary, false);
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            try {
+                hedgeTimer = scheduler.schedule(this::hedge, state.getDelayNanos(), TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                // The channel is shutting down, so the call is not hedged.
+            }
+        }
+    }
+
+    @Override
+    public void cancel(@Nullable String message, @Nullable Throwable cause) {
+        final List<Attempt> toCancel;
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            cancelHedgeTimer();
+            if (attempts.isEmpty()) {
+                closed = true;
+                toCancel = null;
+            } else {
+                // The attempts which are still being started are cancelled once started.
+                cancelled = true;
+                cancelMessage = message;
+                cancelCause = cause;
+                toCancel = startedAttempts();
+            }
+        }
+        if (Objects.isNull(toCancel)) {
+            if (!Objects.isNull(listener)) {
+                listener.onClose(Status.CANCELLED.withDescription(message).withCause(cause), new Metadata());
+            }
+            return;
+        }
+        for (Attempt attempt : toCancel) {
+            attempt.call.cancel(message, cause);
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return true;
+    }
+
+    private void hedge() {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+        }
+        state.onHedgeFired();
+        startAttempt(pool.pickExcluding(primary), true);
+    }
+
+    private void startAttempt(PooledChannel.Node node, boolean hedge) {
+        val call = node.newCall(method, callOptions);
+        val attempt = new Attempt(call, hedge);
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            attempts.add(attempt);
+            pending++;
+        }
+        val attemptHeaders = new Metadata();
+        attemptHeaders.merge(headers);
+        call.start(attempt, attemptHeaders);
+        call.request(2);
+        call.sendMessage(message);
+        call.halfClose();
+        // A call must not be cancelled before it is started, so an attempt which lost or was cancelled while being
+        // started is skipped by the cancellation and cancelled here.
+        final String reason;
+        final Throwable cause;
+        synchronized (lock) {
+            attempt.started = true;
+            if (cancelled) {
+                reason = cancelMessage;
+                cause = cancelCause;
+            } else if (closed) {
+                reason = "Hedged call was answered by another node";
+                cause = null;
+            } else {
+                return;
+            }
+        }
+        call.cancel(reason, cause);
+    }
+
+    private void onAttemptClosed(Attempt attempt, Status status, Metadata trailers) {
+        final List<Attempt> losers = new ArrayList<>();
+        synchronized (lock) {
+            pending--;
+            if (closed) {
+                return;
+            }
+            if (!status.isOk() && pending > 0) {
+                // another attempt is still in flight.
+                return;
+            }
+            closed = true;
+            cancelHedgeTimer();
+            for (Attempt other : startedAttempts()) {
+                if (other != attempt) {
+                    losers.add(other);
+                }
+            }
+        }
+        for (Attempt loser : losers) {
+            loser.call.cancel("Hedged call was answered by another node", null);
+        }
+        if (status.isOk()) {
+            state.onSuccess(System.nanoTime() - attempt.startNanos, attempt.hedge);
+            listener.onHeaders(Objects.isNull(attempt.responseHeaders) ? new Metadata() : attempt.responseHeaders);
+            if (!Objects.isNull(attempt.response)) {
+                listener.onMessage(attempt.response);
+            }
+        }
+        listener.onClose(status, trailers);
+    }
+
+    private List<Attempt> startedAttempts() {
+        final List<Attempt> started = new ArrayList<>(attempts.size());
+        for (Attempt attempt : attempts) {
+            if (attempt.started) {
+                started.add(attempt);
+            }
+        }
+        return started;
+    }
+
+    private void cancelHedgeTimer() {
+        if (!Objects.isNull(hedgeTimer)) {
+            hedgeTimer.cancel(false);
+        }
+    }
+
+    /**
+     * A single attempt of the call buffering the response until it is known whether the attempt won.
+     */
+    private final class Attempt extends ClientCall.Listener<RespT> {
+        private final ClientCall<ReqT, RespT> call;
+        private final boolean hedge;
+        private final long startNanos = System.nanoTime();
+        /**
+         * Whether the call of the attempt was started, guarded by the lock of the {@link HedgingCall}.
+         */
+        private boolean started;
+        private volatile Metadata responseHeaders;
+        private volatile RespT response;
+
+        Attempt(ClientCall<ReqT, RespT> call, boolean hedge) {
+            this.call = call;
+            this.hedge = hedge;
+        }
+
+        @Override
+        public void onHeaders(Metadata headers) {
+            this.responseHeaders = headers;
+        }
+
+        @Override
+        public void onMessage(RespT message) {
+            this.response = message;
+        }
+
+        @Override
+        public void onClose(Status status, Metadata trailers) {
+            onAttemptClosed(this, status, trailers);
+        }
+    }
+}
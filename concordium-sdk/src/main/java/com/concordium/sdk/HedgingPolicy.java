@@ -0,0 +1,80 @@
+package com.concordium.sdk;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Policy for hedging a query.
+ * <p>
+ * A hedged query is sent to one node and if no response has arrived after the hedging delay,
+ * then a duplicate is sent to another node. The first response is used and the other request is cancelled.
+ * <p>
+ * The hedging delay follows the observed latency of the query i.e. it is the {@link HedgingPolicy#percentile}
+ * of the latest response times, bounded by {@link HedgingPolicy#minDelay} and {@link HedgingPolicy#maxDelay}.
+ * Until enough responses have been observed the {@link HedgingPolicy#initialDelay} is used.
+ */
+@Getter
+public final class HedgingPolicy {
+
+    /**
+     * The percentile (in the range ]0, 100]) of the observed latencies to use as the hedging delay.
+     * Defaults to 95.
+     */
+    private final double percentile;
+
+    /**
+     * The delay used until enough latencies have been observed.
+     * Defaults to 100 milliseconds.
+     */
+    private final Duration initialDelay;
+
+    /**
+     * The lower bound of the hedging delay.
+     * Defaults to 10 milliseconds.
+     */
+    private final Duration minDelay;
+
+    /**
+     * The upper bound of the hedging delay.
+     * Defaults to 5 seconds.
+     */
+    private final Duration maxDelay;
+
+    /**
+     * Create a {@link HedgingPolicy}.
+     * Unset values (i.e. 'null' durations and a non-positive percentile) are replaced by their defaults.
+     *
+     * @param percentile   the percentile of the observed latencies to use as the hedging delay.
+     * @param initialDelay the delay to use until enough latencies have been observed.
+     * @param minDelay     the lower bound of the hedging delay.
+     * @param maxDelay     the upper bound of the hedging delay.
+     */
+    @Builder
+    public HedgingPolicy(double percentile, Duration initialDelay, Duration minDelay, Duration maxDelay) {
+        if (percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be at most 100");
+        }
+        this.percentile = percentile <= 0 ? DEFAULT_PERCENTILE : percentile;
+        this.initialDelay = Objects.isNull(initialDelay) ? DEFAULT_INITIAL_DELAY : initialDelay;
+        this.minDelay = Objects.isNull(minDelay) ? DEFAULT_MIN_DELAY : minDelay;
+        this.maxDelay = Objects.isNull(maxDelay) ? DEFAULT_MAX_DELAY : maxDelay;
+        if (this.minDelay.compareTo(this.maxDelay) > 0) {
+            throw new IllegalArgumentException("Minimum hedging delay cannot exceed the maximum hedging delay");
+        }
+    }
+
+    /**
+     * @return a {@link HedgingPolicy} with the default values.
+     */
+    public static HedgingPolicy defaults() {
+        return HedgingPolicy.builder().build();
+    }
+
+    private static final double DEFAULT_PERCENTILE = 95;
+    private static final Duration DEFAULT_INITIAL_DELAY = Duration.ofMillis(100);
+    private static final Duration DEFAULT_MIN_DELAY = Duration.ofMillis(10);
+    private static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(5);
+}
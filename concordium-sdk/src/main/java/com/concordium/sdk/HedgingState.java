@@ -0,0 +1,60 @@
+package com.concordium.sdk;
+
+import lombok.Getter;
+import lombok.val;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@link HedgingPolicy} of a query together with its observed latencies and counters.
+ */
+final class HedgingState {
+
+    @Getter
+    private final HedgingPolicy policy;
+    private final LatencyWindow latencies;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder hedgesFired = new LongAdder();
+    private final LongAdder hedgesWon = new LongAdder();
+
+    HedgingState(HedgingPolicy policy) {
+        this.policy = policy;
+        this.latencies = new LatencyWindow(policy.getPercentile());
+    }
+
+    /**
+     * @return the delay in nanoseconds to wait for a response before sending a hedge.
+     */
+    long getDelayNanos() {
+        val observed = latencies.getPercentileNanos();
+        if (observed < 0) {
+            return policy.getInitialDelay().toNanos();
+        }
+        val min = policy.getMinDelay().toNanos();
+        val max = policy.getMaxDelay().toNanos();
+        return Math.max(min, Math.min(max, observed));
+    }
+
+    void onCall() {
+        calls.increment();
+    }
+
+    void onHedgeFired() {
+        hedgesFired.increment();
+    }
+
+    void onSuccess(long latencyNanos, boolean hedgeWon) {
+        latencies.record(latencyNanos);
+        if (hedgeWon) {
+            hedgesWon.increment();
+        }
+    }
+
+    HedgingStatistics getStatistics() {
+        return HedgingStatistics.builder()
+                .calls(calls.sum())
+                .hedgesFired(hedgesFired.sum())
+                .hedgesWon(hedgesWon.sum())
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.concordium.sdk;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Counters of a hedged query.
+ */
+@Getter
+@Builder
+@ToString
+public final class HedgingStatistics {
+
+    /**
+     * The number of calls made of the query.
+     */
+    private final long calls;
+
+    /**
+     * The number of calls where a hedge was sent.
+     */
+    private final long hedgesFired;
+
+    /**
+     * The number of calls where the hedge answered first.
+     */
+    private final long hedgesWon;
+}
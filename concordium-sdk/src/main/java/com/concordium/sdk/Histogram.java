@@ -0,0 +1,119 @@
+package com.concordium.sdk;
+
+import lombok.val;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of non-negative values, e.g. latencies in nanoseconds or sizes in bytes.
+ * <p>
+ * The values are counted in buckets growing exponentially with {@link Histogram#SUB_BUCKETS} buckets per power of two,
+ * hence a percentile is reported with a relative error of at most 1/{@link Histogram#SUB_BUCKETS}.
+ * Recording is lock-free and the histogram takes up a fixed amount of memory regardless of the values recorded.
+ * The statistics are read without locking, hence they are approximate while values are recorded concurrently.
+ */
+public final class Histogram {
+
+    /**
+     * The number of buckets per power of two.
+     */
+    public static final int SUB_BUCKETS = 8;
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Record a value. Negative values are recorded as 0.
+     *
+     * @param value the value.
+     */
+    public void record(long value) {
+        val recorded = Math.max(0, value);
+        counts.incrementAndGet(indexOf(recorded));
+        count.incrementAndGet();
+        sum.addAndGet(recorded);
+        long current;
+        while (recorded > (current = max.get())) {
+            if (max.compareAndSet(current, recorded)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * @return the number of recorded values.
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * @return the largest recorded value or 0 if no values are recorded.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * @return the mean of the recorded values or 0 if no values are recorded.
+     */
+    public double getMean() {
+        val observed = count.get();
+        return observed == 0 ? 0 : (double) sum.get() / observed;
+    }
+
+    /**
+     * Get the value at a percentile, e.g. 50 for the median.
+     *
+     * @param percentile the percentile in the range [0; 100].
+     * @return the upper bound of the bucket containing the percentile, at most {@link Histogram#getMax()},
+     * or 0 if no values are recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be in the range [0; 100]");
+        }
+        val observed = count.get();
+        if (observed == 0) {
+            return 0;
+        }
+        val rank = Math.max(1, (long) Math.ceil(percentile / 100 * observed));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Values below {@link Histogram#SUB_BUCKETS} have a bucket each. Above that, the bucket is determined
+     * by the position of the highest bit and the {@link Histogram#SUB_BUCKET_BITS} bits following it.
+     */
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        val magnitude = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        val shift = magnitude - SUB_BUCKET_BITS;
+        val subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBoundOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        val shift = index / SUB_BUCKETS - 1;
+        val subBucket = index % SUB_BUCKETS;
+        return (((long) (SUB_BUCKETS + subBucket)) << shift) + (1L << shift) - 1;
+    }
+}
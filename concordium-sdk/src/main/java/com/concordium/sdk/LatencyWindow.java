@@ -0,0 +1,61 @@
+package com.concordium.sdk;
+
+import lombok.val;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A sliding window of the latest observed latencies.
+ * <p>
+ * Recording is lock free. The requested percentile is recomputed for every {@link LatencyWindow#RECOMPUTE_INTERVAL}
+ * recordings, so reading it is just a volatile read.
+ */
+final class LatencyWindow {
+
+    private static final int SIZE = 256;
+    private static final int RECOMPUTE_INTERVAL = 32;
+
+    private final AtomicLongArray samples = new AtomicLongArray(SIZE);
+    private final AtomicLong count = new AtomicLong();
+    private final double percentile;
+    private volatile long percentileNanos = -1;
+
+    /**
+     * @param percentile the percentile to maintain in the range ]0, 100].
+     */
+    LatencyWindow(double percentile) {
+        this.percentile = percentile;
+    }
+
+    /**
+     * Record an observed latency.
+     *
+     * @param nanos the latency in nanoseconds.
+     */
+    void record(long nanos) {
+        val n = count.getAndIncrement();
+        samples.set((int) (n % SIZE), nanos);
+        if ((n + 1) % RECOMPUTE_INTERVAL == 0) {
+            recompute(Math.min(n + 1, SIZE));
+        }
+    }
+
+    /**
+     * @return the percentile of the window in nanoseconds or -1 if too few latencies have been recorded.
+     */
+    long getPercentileNanos() {
+        return percentileNanos;
+    }
+
+    private void recompute(long filled) {
+        val sorted = new long[(int) filled];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+        val index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        percentileNanos = sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
@@ -0,0 +1,231 @@
+package com.concordium.sdk;
+
+import io.grpc.*;
+import lombok.val;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A call which is only sent once the {@link ConcurrencyLimiter} permits it.
+ * <p>
+ * The limiter is consulted once per call, i.e. retries and hedges of the call do not acquire further permits,
+ * and the latency of the call includes its retries.
+ * <p>
+ * In {@link ConcurrencyLimitPolicy.Mode#BLOCK} a call above the limit is queued rather than blocking the calling thread.
+ * The messages of the call are buffered and the call is started by the thread releasing the permit it is granted,
+ * or failed if its deadline passes or it is cancelled first.
+ */
+final class LimitingCall<ReqT, RespT> extends ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT> {
+
+    private final ConcurrencyLimiter limiter;
+    private final String method;
+    private final Deadline deadline;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * The calls to the delegate made while waiting for a permit, or 'null' once they are passed on right away.
+     */
+    private List<Runnable> pending = new ArrayList<>();
+    private Listener<RespT> listener;
+    private Runnable waiter;
+    private ScheduledFuture<?> deadlineTimer;
+    private volatile boolean rejected;
+
+    LimitingCall(ClientCall<ReqT, RespT> delegate,
+                 ConcurrencyLimiter limiter,
+                 MethodDescriptor<ReqT, RespT> method,
+                 CallOptions callOptions,
+                 ScheduledExecutorService scheduler) {
+        super(delegate);
+        this.limiter = limiter;
+        this.method = method.getFullMethodName();
+        this.deadline = callOptions.getDeadline();
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void start(Listener<RespT> responseListener, Metadata headers) {
+        this.listener = responseListener;
+        if (limiter.getMode() == ConcurrencyLimitPolicy.Mode.FAIL_FAST) {
+            if (limiter.tryAcquire()) {
+                startDelegate(headers);
+            } else {
+                reject(Status.RESOURCE_EXHAUSTED.withDescription("Concurrency limit of " + limiter.getLimit() + " reached"));
+            }
+            return;
+        }
+        if (!Objects.isNull(deadline) && deadline.isExpired()) {
+            reject(Status.DEADLINE_EXCEEDED.withDescription("Deadline exceeded while waiting for the concurrency limit"));
+            return;
+        }
+        final boolean acquired;
+        synchronized (this) {
+            waiter = () -> onPermit(headers);
+            acquired = limiter.acquireOrQueue(waiter);
+            if (acquired) {
+                waiter = null;
+            } else if (scheduleDeadline()) {
+                return;
+            }
+        }
+        if (acquired) {
+            startDelegate(headers);
+        } else if (dequeue()) {
+            // The channel is shutting down, so the call would wait without a deadline.
+            reject(Status.UNAVAILABLE.withDescription("Channel is shutting down"));
+        }
+    }
+
+    @Override
+    public void request(int numMessages) {
+        delayOrExecute(() -> super.request(numMessages));
+    }
+
+    @Override
+    public void sendMessage(ReqT message) {
+        delayOrExecute(() -> super.sendMessage(message));
+    }
+
+    @Override
+    public void halfClose() {
+        delayOrExecute(super::halfClose);
+    }
+
+    @Override
+    public void cancel(String message, Throwable cause) {
+        if (dequeue()) {
+            reject(Status.CANCELLED.withDescription(message).withCause(cause));
+            return;
+        }
+        delayOrExecute(() -> super.cancel(message, cause));
+    }
+
+    @Override
+    public boolean isReady() {
+        synchronized (this) {
+            if (!Objects.isNull(pending)) {
+                return false;
+            }
+        }
+        return !rejected && super.isReady();
+    }
+
+    /**
+     * Start the queued call with the permit it was granted.
+     */
+    private void onPermit(Metadata headers) {
+        synchronized (this) {
+            waiter = null;
+            if (!Objects.isNull(deadlineTimer)) {
+                deadlineTimer.cancel(false);
+            }
+        }
+        try {
+            startDelegate(headers);
+        } catch (RuntimeException e) {
+            // The call is started by the thread releasing a permit, which must not fail because of it.
+            reject(Status.fromThrowable(e));
+        }
+    }
+
+    private void startDelegate(Metadata headers) {
+        val startNanos = System.nanoTime();
+        try {
+            super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(listener) {
+                @Override
+                public void onClose(Status status, Metadata trailers) {
+                    limiter.release(method, status, System.nanoTime() - startNanos);
+                    super.onClose(status, trailers);
+                }
+            }, headers);
+        } catch (RuntimeException e) {
+            limiter.cancel();
+            throw e;
+        }
+        drainPending();
+    }
+
+    /**
+     * @return false if the deadline could not be scheduled as the channel is shutting down.
+     */
+    private boolean scheduleDeadline() {
+        if (Objects.isNull(deadline)) {
+            return true;
+        }
+        try {
+            deadlineTimer = scheduler.schedule(() -> {
+                if (dequeue()) {
+                    reject(Status.DEADLINE_EXCEEDED.withDescription("Deadline exceeded while waiting for the concurrency limit of " + limiter.getLimit()));
+                }
+            }, deadline.timeRemaining(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Remove the call from the queue of the limiter.
+     *
+     * @return whether the call was waiting for a permit, in which case it is never started.
+     */
+    private boolean dequeue() {
+        synchronized (this) {
+            if (Objects.isNull(waiter) || !limiter.remove(waiter)) {
+                return false;
+            }
+            waiter = null;
+            if (!Objects.isNull(deadlineTimer)) {
+                deadlineTimer.cancel(false);
+            }
+            return true;
+        }
+    }
+
+    private void reject(Status status) {
+        synchronized (this) {
+            rejected = true;
+            pending = null;
+        }
+        listener.onClose(status, new Metadata());
+    }
+
+    private void delayOrExecute(Runnable call) {
+        synchronized (this) {
+            if (rejected) {
+                return;
+            }
+            if (!Objects.isNull(pending)) {
+                pending.add(call);
+                return;
+            }
+        }
+        call.run();
+    }
+
+    /**
+     * Pass on the calls made while waiting for the permit, in order, including those made while passing them on.
+     */
+    private void drainPending() {
+        while (true) {
+            final List<Runnable> calls;
+            synchronized (this) {
+                if (Objects.isNull(pending) || pending.isEmpty()) {
+                    pending = null;
+                    return;
+                }
+                calls = pending;
+                pending = new ArrayList<>();
+            }
+            for (Runnable call : calls) {
+                call.run();
+            }
+        }
+    }
+}
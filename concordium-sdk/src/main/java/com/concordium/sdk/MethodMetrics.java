@@ -0,0 +1,99 @@
+package com.concordium.sdk;
+
+import com.google.common.collect.ImmutableMap;
+import io.grpc.Status;
+import lombok.Getter;
+import lombok.val;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The measurements of a single method recorded by a {@link MetricsRecorder}.
+ */
+public final class MethodMetrics {
+
+    /**
+     * The latencies of the completed requests in nanoseconds.
+     */
+    @Getter
+    private final Histogram latency = new Histogram();
+
+    /**
+     * The serialized sizes of the responses in bytes.
+     */
+    @Getter
+    private final Histogram responseSize = new Histogram();
+
+    /**
+     * The time spent decoding the responses in nanoseconds.
+     */
+    @Getter
+    private final Histogram decodeTime = new Histogram();
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLongArray completions = new AtomicLongArray(Status.Code.values().length);
+
+    MethodMetrics() {
+    }
+
+    /**
+     * @return the number of requests currently in flight.
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return the number of completed requests, successful or not.
+     */
+    public long getCompleted() {
+        return latency.getCount();
+    }
+
+    /**
+     * @return the number of completed requests per status code, only including the codes which occurred.
+     */
+    public Map<Status.Code, Long> getStatusCodes() {
+        val codes = new EnumMap<Status.Code, Long>(Status.Code.class);
+        for (Status.Code code : Status.Code.values()) {
+            val count = completions.get(code.ordinal());
+            if (count > 0) {
+                codes.put(code, count);
+            }
+        }
+        return ImmutableMap.copyOf(codes);
+    }
+
+    /**
+     * @return the number of completed requests which failed i.e. completed with another code than {@link Status.Code#OK}.
+     */
+    public long getErrors() {
+        long errors = 0;
+        for (Status.Code code : Status.Code.values()) {
+            if (code != Status.Code.OK) {
+                errors += completions.get(code.ordinal());
+            }
+        }
+        return errors;
+    }
+
+    void started() {
+        inFlight.incrementAndGet();
+    }
+
+    void completed(Status.Code code, long latencyNanos, long responseBytes) {
+        inFlight.decrementAndGet();
+        completions.incrementAndGet(code.ordinal());
+        latency.record(latencyNanos);
+        if (code == Status.Code.OK) {
+            responseSize.record(responseBytes);
+        }
+    }
+
+    void decoded(long decodeNanos) {
+        decodeTime.record(decodeNanos);
+    }
+}
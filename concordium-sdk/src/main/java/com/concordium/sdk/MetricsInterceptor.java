@@ -0,0 +1,54 @@
+package com.concordium.sdk;
+
+import com.google.protobuf.MessageLite;
+import io.grpc.*;
+import lombok.val;
+
+/**
+ * Reports the requests of a client to its {@link ClientMetrics}.
+ * <p>
+ * The latency is measured from the request is started until it is closed,
+ * i.e. it covers the network and the node but not the decoding of the response.
+ */
+final class MetricsInterceptor implements ClientInterceptor {
+
+    private final ClientMetrics metrics;
+
+    MetricsInterceptor(ClientMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+        val name = method.getFullMethodName();
+        return new ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT>(next.newCall(method, callOptions)) {
+            @Override
+            public void start(Listener<RespT> responseListener, Metadata headers) {
+                val startNanos = System.nanoTime();
+                metrics.onRequestStarted(name);
+                try {
+                    super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(responseListener) {
+                        private long responseBytes;
+
+                        @Override
+                        public void onMessage(RespT message) {
+                            if (message instanceof MessageLite) {
+                                responseBytes += ((MessageLite) message).getSerializedSize();
+                            }
+                            super.onMessage(message);
+                        }
+
+                        @Override
+                        public void onClose(Status status, Metadata trailers) {
+                            metrics.onRequestCompleted(name, status.getCode(), System.nanoTime() - startNanos, responseBytes);
+                            super.onClose(status, trailers);
+                        }
+                    }, headers);
+                } catch (RuntimeException e) {
+                    metrics.onRequestCompleted(name, Status.fromThrowable(e).getCode(), System.nanoTime() - startNanos, 0);
+                    throw e;
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package com.concordium.sdk;
+
+import com.google.common.collect.ImmutableMap;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link ClientMetrics} keeping the measurements in memory, per method.
+ * <p>
+ * A recorder can be shared by several clients, in which case their measurements are added up.
+ * <pre>
+ * MetricsRecorder metrics = new MetricsRecorder();
+ * Client client = Client.from(Connection.builder()...metrics(metrics).build());
+ * ...
+ * metrics.get(P2PGrpc.getGetBlockSummaryMethod()).ifPresent(m -> m.getLatency().getValueAtPercentile(99));
+ * </pre>
+ */
+public final class MetricsRecorder implements ClientMetrics {
+
+    private final Map<String, MethodMetrics> methods = new ConcurrentHashMap<>();
+
+    /**
+     * @param method the method.
+     * @return the measurements of the method or {@link Optional#empty()} if no requests of the method were made.
+     */
+    public Optional<MethodMetrics> get(MethodDescriptor<?, ?> method) {
+        return Optional.ofNullable(methods.get(method.getFullMethodName()));
+    }
+
+    /**
+     * @return the measurements of all methods with requests keyed by the full method name.
+     */
+    public Map<String, MethodMetrics> getMethods() {
+        return ImmutableMap.copyOf(methods);
+    }
+
+    @Override
+    public void onRequestStarted(String method) {
+        metricsOf(method).started();
+    }
+
+    @Override
+    public void onRequestCompleted(String method, Status.Code code, long latencyNanos, long responseBytes) {
+        metricsOf(method).completed(code, latencyNanos, responseBytes);
+    }
+
+    @Override
+    public void onResponseDecoded(String method, long decodeNanos) {
+        metricsOf(method).decoded(decodeNanos);
+    }
+
+    private MethodMetrics metricsOf(String method) {
+        return methods.computeIfAbsent(method, m -> new MethodMetrics());
+    }
+}
@@ -0,0 +1,187 @@
+package com.concordium.sdk;
+
+import com.concordium.sdk.crypto.SHA256;
+import com.concordium.sdk.responses.modulelist.ModuleRef;
+import com.concordium.sdk.responses.modulesource.ModuleSource;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.Builder;
+import lombok.val;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches the sources of smart contract modules by their {@link ModuleRef}.
+ * <p>
+ * The source of a module is determined by its reference, so once a module is known to exist the
+ * {@link Client#getModuleSource(ModuleRef, com.concordium.sdk.transactions.Hash)} of a {@link Connection} with the cache
+ * returns the cached source regardless of the block hash of the query.
+ * <p>
+ * The sources are kept in memory, bounded by their total size with the least recently used sources evicted first, and
+ * optionally in a directory, so they survive restarts and can be shared by several processes. A source is only read from
+ * the directory if its SHA256 hash is the reference of the module, and a file which does not match is deleted.
+ * <pre>
+ * ModuleCache cache = ModuleCache.builder().directory(Paths.get("modules")).build();
+ * Client client = Client.from(Connection.builder()...moduleCache(cache).build());
+ * </pre>
+ */
+public final class ModuleCache {
+
+    /**
+     * The default maximum size of the sources kept in memory, 64 MiB.
+     */
+    public static final long DEFAULT_MAXIMUM_WEIGHT = 64 * 1024 * 1024;
+
+    private static final String SUFFIX = ".wasm";
+
+    private final Cache<ModuleRef, ModuleSource> sources;
+
+    /**
+     * The directory of the sources or 'null' if the sources are only kept in memory.
+     */
+    private final Path directory;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Create a new {@link ModuleCache}.
+     *
+     * @param maximumWeight the maximum total size in bytes of the sources kept in memory.
+     *                      Defaults to {@link ModuleCache#DEFAULT_MAXIMUM_WEIGHT}.
+     * @param directory     the directory of the sources, which is created if it does not exist,
+     *                      or 'null' if the sources should only be kept in memory.
+     */
+    @Builder
+    private ModuleCache(long maximumWeight, Path directory) {
+        if (maximumWeight < 0) {
+            throw new IllegalArgumentException("Maximum weight cannot be negative");
+        }
+        this.sources = CacheBuilder.newBuilder()
+                .maximumWeight(maximumWeight == 0 ? DEFAULT_MAXIMUM_WEIGHT : maximumWeight)
+                .weigher((ModuleRef moduleRef, ModuleSource source) -> source.getBytes().length)
+                .build();
+        this.directory = directory;
+        if (!Objects.isNull(directory)) {
+            try {
+                Files.createDirectories(directory);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * @return a cache keeping the sources in memory with the default maximum weight.
+     */
+    public static ModuleCache defaults() {
+        return ModuleCache.builder().build();
+    }
+
+    /**
+     * Get a cached source.
+     *
+     * @param moduleRef the reference of the module.
+     * @return the source or {@link Optional#empty()} if it is not cached.
+     */
+    public Optional<ModuleSource> get(ModuleRef moduleRef) {
+        val cached = sources.getIfPresent(moduleRef);
+        if (!Objects.isNull(cached)) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+        val stored = read(moduleRef);
+        if (stored.isPresent()) {
+            hits.increment();
+            sources.put(moduleRef, stored.get());
+        } else {
+            misses.increment();
+        }
+        return stored;
+    }
+
+    /**
+     * @return the number of sources found in the cache.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of sources not found in the cache.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Remove all sources kept in memory. The sources in the directory are kept.
+     */
+    public void invalidateAll() {
+        sources.invalidateAll();
+    }
+
+    /**
+     * Cache the source of a module which exists on chain.
+     */
+    void put(ModuleRef moduleRef, ModuleSource source) {
+        sources.put(moduleRef, source);
+        write(moduleRef, source);
+    }
+
+    private Optional<ModuleSource> read(ModuleRef moduleRef) {
+        if (Objects.isNull(directory)) {
+            return Optional.empty();
+        }
+        val path = directory.resolve(moduleRef.asHex() + SUFFIX);
+        try {
+            val bytes = Files.readAllBytes(path);
+            if (isSourceOf(moduleRef, bytes)) {
+                return Optional.of(ModuleSource.from(bytes));
+            }
+            // A corrupt or tampered file is replaced by the source queried from the node.
+            Files.deleteIfExists(path);
+            return Optional.empty();
+        } catch (IOException e) {
+            // A missing or unreadable file is queried from the node again.
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @return whether the bytes hash to the reference of the module.
+     */
+    private static boolean isSourceOf(ModuleRef moduleRef, byte[] bytes) {
+        return Arrays.equals(SHA256.hash(bytes), moduleRef.getBytes());
+    }
+
+    private void write(ModuleRef moduleRef, ModuleSource source) {
+        if (Objects.isNull(directory)) {
+            return;
+        }
+        val path = directory.resolve(moduleRef.asHex() + SUFFIX);
+        if (Files.exists(path) || !isSourceOf(moduleRef, source.getBytes())) {
+            return;
+        }
+        try {
+            // Readers never see a partially written source, as the source is moved in place once written.
+            val temp = Files.createTempFile(directory, moduleRef.asHex(), ".tmp");
+            try {
+                Files.write(temp, source.getBytes());
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            // The source remains cached in memory, and is written again the next time it is queried from the node.
+        }
+    }
+}
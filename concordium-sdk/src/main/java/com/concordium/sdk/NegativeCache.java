@@ -0,0 +1,190 @@
+package com.concordium.sdk;
+
+import com.concordium.sdk.transactions.Hash;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.Builder;
+import lombok.val;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers the queries which found nothing, so repeating them fails without a request to the node.
+ * <p>
+ * The cache applies to {@code getTransactionStatus} and {@code getAccountInfo} of a {@link Client}, which fail with
+ * a {@link com.concordium.sdk.exceptions.TransactionNotFoundException} and an
+ * {@link com.concordium.sdk.exceptions.AccountNotFoundException} respectively.
+ * A transaction or account may appear in the next block, so a remembered query expires after a short time to live,
+ * and all remembered queries are forgotten when a new best block is observed. The client observes the best block of
+ * every {@code getConsensusStatus}, e.g. when a {@link NodeHealthMonitor} samples it, and applications following
+ * the chain by other means can report new blocks with {@link NegativeCache#observed(Hash)}.
+ * <pre>
+ * NegativeCache cache = NegativeCache.builder().timeToLive(Duration.ofSeconds(1)).build();
+ * Client client = Client.from(Connection.builder()...negativeCache(cache).build());
+ * </pre>
+ */
+public final class NegativeCache {
+
+    /**
+     * The default time to live of a remembered query.
+     */
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofSeconds(2);
+
+    /**
+     * The default maximum number of remembered queries.
+     */
+    public static final long DEFAULT_MAXIMUM_SIZE = 100_000;
+
+    /**
+     * The remembered queries with the epoch in which they found nothing.
+     */
+    private final Cache<ResponseCache.Key, Long> queries;
+
+    /**
+     * The queries forgotten within the time to live, with the time at which they were forgotten.
+     */
+    private final Cache<ResponseCache.Key, Long> forgotten;
+    private final long timeToLiveNanos;
+
+    /**
+     * The number of best blocks observed, which is incremented when a new best block is observed.
+     */
+    private final AtomicLong epoch = new AtomicLong();
+    private final AtomicReference<Hash> bestBlock = new AtomicReference<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Create a new {@link NegativeCache}.
+     *
+     * @param timeToLive  the time a query is remembered unless a new block is observed.
+     *                    Defaults to {@link NegativeCache#DEFAULT_TIME_TO_LIVE}.
+     * @param maximumSize the maximum number of remembered queries. Defaults to {@link NegativeCache#DEFAULT_MAXIMUM_SIZE}.
+     */
+    @Builder
+    private NegativeCache(Duration timeToLive, long maximumSize) {
+        if (!Objects.isNull(timeToLive) && (timeToLive.isNegative() || timeToLive.isZero())) {
+            throw new IllegalArgumentException("Time to live must be positive");
+        }
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("Maximum size cannot be negative");
+        }
+        this.timeToLiveNanos = Objects.isNull(timeToLive) ? DEFAULT_TIME_TO_LIVE.toNanos() : timeToLive.toNanos();
+        this.queries = CacheBuilder.newBuilder()
+                .expireAfterWrite(timeToLiveNanos, TimeUnit.NANOSECONDS)
+                .maximumSize(maximumSize == 0 ? DEFAULT_MAXIMUM_SIZE : maximumSize)
+                .build();
+        this.forgotten = CacheBuilder.newBuilder()
+                .expireAfterWrite(timeToLiveNanos, TimeUnit.NANOSECONDS)
+                .maximumSize(maximumSize == 0 ? DEFAULT_MAXIMUM_SIZE : maximumSize)
+                .build();
+    }
+
+    /**
+     * @return a cache with the default time to live and maximum size.
+     */
+    public static NegativeCache defaults() {
+        return NegativeCache.builder().build();
+    }
+
+    /**
+     * Report the current best block, forgetting all remembered queries if it is a new block.
+     *
+     * @param blockHash the best block.
+     */
+    public void observed(Hash blockHash) {
+        if (Objects.isNull(blockHash)) {
+            return;
+        }
+        val previous = bestBlock.getAndSet(blockHash);
+        if (!blockHash.equals(previous)) {
+            epoch.incrementAndGet();
+            queries.invalidateAll();
+        }
+    }
+
+    /**
+     * @return the number of queries which failed without a request to the node.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of queries which were sent to the node.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the start of a query, which must be taken before sending it.
+     */
+    Lookup start() {
+        return new Lookup(epoch.get(), System.nanoTime());
+    }
+
+    /**
+     * @return whether the query found nothing since the last new block.
+     */
+    boolean isNotFound(ResponseCache.Key key) {
+        val remembered = queries.getIfPresent(key);
+        if (!Objects.isNull(remembered) && remembered == epoch.get()) {
+            hits.increment();
+            return true;
+        }
+        misses.increment();
+        return false;
+    }
+
+    /**
+     * Forget a query, e.g. as the transaction it looked for was just sent.
+     * A query in flight while it is forgotten is not remembered either.
+     */
+    void forget(ResponseCache.Key key) {
+        forgotten.put(key, System.nanoTime());
+        queries.invalidate(key);
+    }
+
+    /**
+     * Remember a query which found nothing, unless a new block was observed or the query was forgotten while it was
+     * in flight.
+     *
+     * @param lookup the start taken before the query was sent.
+     */
+    void notFound(ResponseCache.Key key, Lookup lookup) {
+        // A query in flight for longer than the time to live may have been forgotten after the record of it expired.
+        if (lookup.epoch != epoch.get() || System.nanoTime() - lookup.startNanos >= timeToLiveNanos) {
+            return;
+        }
+        queries.put(key, lookup.epoch);
+        // The query may be forgotten concurrently, so it is checked after remembering it.
+        if (isForgottenSince(key, lookup)) {
+            queries.invalidate(key);
+        }
+    }
+
+    private boolean isForgottenSince(ResponseCache.Key key, Lookup lookup) {
+        val forgottenAtNanos = forgotten.getIfPresent(key);
+        return !Objects.isNull(forgottenAtNanos) && forgottenAtNanos - lookup.startNanos >= 0;
+    }
+
+    /**
+     * The epoch and time at which a query was sent.
+     */
+    static final class Lookup {
+        private final long epoch;
+        private final long startNanos;
+
+        private Lookup(long epoch, long startNanos) {
+            this.epoch = epoch;
+            this.startNanos = startNanos;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.concordium.sdk;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The health of a node derived by a {@link NodeHealthMonitor} from the samples of the node.
+ */
+@Getter
+@ToString
+public final class NodeHealth {
+
+    /**
+     * The name of the node in the {@link NodeHealthMonitor}.
+     */
+    private final String node;
+
+    /**
+     * The most recent sample or 'null' if the node was not sampled successfully yet.
+     */
+    private final NodeHealthSample latest;
+
+    /**
+     * The number of blocks between the best block and the last finalized block of the node.
+     */
+    private final long finalizationLag;
+
+    /**
+     * The number of blocks the best block of the node is behind the highest best block of all monitored nodes.
+     */
+    private final long blocksBehind;
+
+    /**
+     * The number of blocks arriving per second over the samples kept, or as by the
+     * {@link NodeHealthSample#getBlockArrivePeriodEMA()} of the node if there is only one sample.
+     */
+    private final double blockArrivalRate;
+
+    /**
+     * The time since the last finalized block of the node was seen advancing,
+     * or since the monitor was started if the node was not sampled successfully yet.
+     */
+    private final Duration sinceFinalization;
+
+    /**
+     * Whether the last finalized block has not advanced within the stall timeout of the {@link NodeHealthMonitor}.
+     */
+    private final boolean stalled;
+
+    /**
+     * The number of samples which failed since the last successful one.
+     */
+    private final int consecutiveFailures;
+
+    NodeHealth(String node,
+               NodeHealthSample latest,
+               long finalizationLag,
+               long blocksBehind,
+               double blockArrivalRate,
+               Duration sinceFinalization,
+               boolean stalled,
+               int consecutiveFailures) {
+        this.node = node;
+        this.latest = latest;
+        this.finalizationLag = finalizationLag;
+        this.blocksBehind = blocksBehind;
+        this.blockArrivalRate = blockArrivalRate;
+        this.sinceFinalization = sinceFinalization;
+        this.stalled = stalled;
+        this.consecutiveFailures = consecutiveFailures;
+    }
+
+    /**
+     * @return the most recent sample or {@link Optional#empty()} if the node was not sampled successfully yet.
+     */
+    public Optional<NodeHealthSample> getLatest() {
+        return Optional.ofNullable(latest);
+    }
+
+    /**
+     * @return whether the node has been sampled, its most recent sample succeeded and it is not stalled.
+     */
+    public boolean isHealthy() {
+        return !Objects.isNull(latest) && consecutiveFailures == 0 && !stalled;
+    }
+}
@@ -0,0 +1,176 @@
+package com.concordium.sdk;
+
+import com.concordium.sdk.responses.consensusstatus.ConsensusStatus;
+import com.concordium.sdk.responses.peerStats.PeerStatistics;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.val;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples the {@link ConsensusStatus} and {@link PeerStatistics} of one or more nodes in the background,
+ * keeps the recent samples of each node in memory and derives the health of the nodes from them,
+ * e.g. for routing requests to healthy nodes or alerting.
+ * <pre>
+ * try (NodeHealthMonitor monitor = NodeHealthMonitor.builder()
+ *         .client("node-1", client1)
+ *         .client("node-2", client2)
+ *         .interval(Duration.ofSeconds(5))
+ *         .build()) {
+ *     ...
+ *     monitor.get("node-1").filter(NodeHealth::isHealthy).ifPresent(...);
+ * }
+ * </pre>
+ * The monitor does not close the clients.
+ */
+public final class NodeHealthMonitor implements AutoCloseable {
+
+    static final Duration DEFAULT_INTERVAL = Duration.ofSeconds(10);
+    static final int DEFAULT_HISTORY = 360;
+    static final Duration DEFAULT_STALL_AFTER = Duration.ofMinutes(1);
+
+    private final Map<String, Client> clients;
+    private final Map<String, NodeHealthSeries> series;
+    private final long intervalNanos;
+    private final long stallAfterNanos;
+
+    /**
+     * The scheduler sampling the nodes, or 'null' if the monitor was not started.
+     */
+    private ScheduledExecutorService scheduler;
+
+    NodeHealthMonitor(Map<String, Client> clients, Duration interval, int history, Duration stallAfter) {
+        if (Objects.isNull(clients) || clients.isEmpty()) {
+            throw new IllegalArgumentException("A NodeHealthMonitor requires at least one client");
+        }
+        if (history < 0) {
+            throw new IllegalArgumentException("History cannot be negative");
+        }
+        this.clients = ImmutableMap.copyOf(clients);
+        this.intervalNanos = Objects.isNull(interval) ? DEFAULT_INTERVAL.toNanos() : interval.toNanos();
+        this.stallAfterNanos = Objects.isNull(stallAfter) ? DEFAULT_STALL_AFTER.toNanos() : stallAfter.toNanos();
+        if (intervalNanos <= 0) {
+            throw new IllegalArgumentException("Interval must be positive");
+        }
+        val capacity = history == 0 ? DEFAULT_HISTORY : history;
+        val startNanos = System.nanoTime();
+        val series = new LinkedHashMap<String, NodeHealthSeries>();
+        for (String node : this.clients.keySet()) {
+            series.put(node, new NodeHealthSeries(capacity, startNanos));
+        }
+        this.series = ImmutableMap.copyOf(series);
+    }
+
+    /**
+     * Create and start a new {@link NodeHealthMonitor}.
+     * Use {@link NodeHealthMonitor#builder()} for constructing the {@link NodeHealthMonitor}.
+     *
+     * @param clients    the clients of the nodes to sample keyed by the name of the node.
+     * @param interval   the time between the samples of a node. Defaults to 10 seconds.
+     * @param history    the number of samples kept per node. Defaults to 360, i.e. an hour at the default interval.
+     * @param stallAfter how long the last finalized block of a node may not advance before it is considered stalled.
+     *                   Defaults to 1 minute.
+     * @return the started monitor.
+     */
+    @Builder
+    private static NodeHealthMonitor create(@Singular Map<String, Client> clients,
+                                            Duration interval,
+                                            int history,
+                                            Duration stallAfter) {
+        val monitor = new NodeHealthMonitor(clients, interval, history, stallAfter);
+        monitor.start();
+        return monitor;
+    }
+
+    /**
+     * Get the health of a node.
+     *
+     * @param node the name of the node.
+     * @return the health of the node or {@link Optional#empty()} if the node is not monitored.
+     */
+    public Optional<NodeHealth> get(String node) {
+        val nodeSeries = series.get(node);
+        if (Objects.isNull(nodeSeries)) {
+            return Optional.empty();
+        }
+        return Optional.of(nodeSeries.health(node, System.nanoTime(), stallAfterNanos, highestBestBlock()));
+    }
+
+    /**
+     * @return the health of all monitored nodes keyed by their name, in the order they were supplied.
+     */
+    public Map<String, NodeHealth> getNodes() {
+        val nowNanos = System.nanoTime();
+        val highestBestBlock = highestBestBlock();
+        val nodes = ImmutableMap.<String, NodeHealth>builder();
+        series.forEach((node, nodeSeries) -> nodes.put(node, nodeSeries.health(node, nowNanos, stallAfterNanos, highestBestBlock)));
+        return nodes.build();
+    }
+
+    /**
+     * Get the samples kept of a node.
+     *
+     * @param node the name of the node.
+     * @return the samples, oldest first, or an empty list if the node is not monitored.
+     */
+    public ImmutableList<NodeHealthSample> getSamples(String node) {
+        val nodeSeries = series.get(node);
+        return Objects.isNull(nodeSeries) ? ImmutableList.of() : nodeSeries.getSamples();
+    }
+
+    /**
+     * Stop sampling the nodes.
+     */
+    @Override
+    public synchronized void close() {
+        if (!Objects.isNull(scheduler)) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private synchronized void start() {
+        this.scheduler = Executors.newScheduledThreadPool(clients.size(), r -> {
+            val thread = new Thread(r, "concordium-health-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (String node : clients.keySet()) {
+            scheduler.scheduleWithFixedDelay(() -> sample(node), 0, intervalNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Sample a node, recording a failure if it could not be queried.
+     */
+    void sample(String node) {
+        val client = clients.get(node);
+        val nodeSeries = series.get(node);
+        try {
+            val startNanos = System.nanoTime();
+            val consensusStatus = client.getConsensusStatus();
+            val receivedNanos = System.nanoTime();
+            val peerStatistics = client.getPeerStatistics(false);
+            nodeSeries.add(NodeHealthSample.from(System.currentTimeMillis(), receivedNanos, receivedNanos - startNanos, consensusStatus, peerStatistics));
+        } catch (RuntimeException e) {
+            nodeSeries.failed();
+        }
+    }
+
+    private long highestBestBlock() {
+        long highest = 0;
+        for (NodeHealthSeries nodeSeries : series.values()) {
+            highest = Math.max(highest, nodeSeries.getBestBlockHeight());
+        }
+        return highest;
+    }
+}
@@ -0,0 +1,111 @@
+package com.concordium.sdk;
+
+import com.concordium.sdk.responses.consensusstatus.ConsensusStatus;
+import com.concordium.sdk.responses.peerStats.PeerStat;
+import com.concordium.sdk.responses.peerStats.PeerStatistics;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.val;
+
+/**
+ * A sample of the state of a node taken by a {@link NodeHealthMonitor}.
+ */
+@Getter
+@ToString
+public final class NodeHealthSample {
+
+    /**
+     * When the sample was taken in milliseconds since the epoch.
+     */
+    private final long timestamp;
+
+    /**
+     * When the {@link ConsensusStatus} was received as by {@link System#nanoTime()}, for computing rates.
+     */
+    private final long nanos;
+
+    /**
+     * The time the node took to respond with its {@link ConsensusStatus} in nanoseconds.
+     */
+    private final long responseNanos;
+
+    /**
+     * See {@link ConsensusStatus#getBestBlockHeight()}.
+     */
+    private final long bestBlockHeight;
+
+    /**
+     * See {@link ConsensusStatus#getLastFinalizedBlockHeight()}.
+     */
+    private final long lastFinalizedBlockHeight;
+
+    /**
+     * See {@link ConsensusStatus#getBlockArriveLatencyEMA()}.
+     */
+    private final double blockArriveLatencyEMA;
+
+    /**
+     * See {@link ConsensusStatus#getBlockArrivePeriodEMA()}.
+     */
+    private final double blockArrivePeriodEMA;
+
+    /**
+     * See {@link ConsensusStatus#getFinalizationPeriodEMA()}.
+     */
+    private final double finalizationPeriodEMA;
+
+    /**
+     * The number of peers of the node.
+     */
+    private final int peers;
+
+    /**
+     * The average latency to the peers of the node in milliseconds, or 0 if it has no peers.
+     */
+    private final double averagePeerLatency;
+
+    NodeHealthSample(long timestamp,
+                     long nanos,
+                     long responseNanos,
+                     long bestBlockHeight,
+                     long lastFinalizedBlockHeight,
+                     double blockArriveLatencyEMA,
+                     double blockArrivePeriodEMA,
+                     double finalizationPeriodEMA,
+                     int peers,
+                     double averagePeerLatency) {
+        this.timestamp = timestamp;
+        this.nanos = nanos;
+        this.responseNanos = responseNanos;
+        this.bestBlockHeight = bestBlockHeight;
+        this.lastFinalizedBlockHeight = lastFinalizedBlockHeight;
+        this.blockArriveLatencyEMA = blockArriveLatencyEMA;
+        this.blockArrivePeriodEMA = blockArrivePeriodEMA;
+        this.finalizationPeriodEMA = finalizationPeriodEMA;
+        this.peers = peers;
+        this.averagePeerLatency = averagePeerLatency;
+    }
+
+    static NodeHealthSample from(long timestamp,
+                                 long nanos,
+                                 long responseNanos,
+                                 ConsensusStatus consensusStatus,
+                                 PeerStatistics peerStatistics) {
+        val peers = peerStatistics.getPeerStats();
+        long totalLatency = 0;
+        for (PeerStat peer : peers) {
+            totalLatency += peer.getLatency();
+        }
+        return new NodeHealthSample(
+                timestamp,
+                nanos,
+                responseNanos,
+                consensusStatus.getBestBlockHeight(),
+                consensusStatus.getLastFinalizedBlockHeight(),
+                consensusStatus.getBlockArriveLatencyEMA(),
+                consensusStatus.getBlockArrivePeriodEMA(),
+                consensusStatus.getFinalizationPeriodEMA(),
+                peers.size(),
+                peers.isEmpty() ? 0 : (double) totalLatency / peers.size());
+    }
+}
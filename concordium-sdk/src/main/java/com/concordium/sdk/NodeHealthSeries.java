@@ -0,0 +1,89 @@
+package com.concordium.sdk;
+
+import com.google.common.collect.ImmutableList;
+import lombok.val;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Objects;
+
+/**
+ * The bounded time series of the samples of a node kept by a {@link NodeHealthMonitor}.
+ */
+final class NodeHealthSeries {
+
+    private final int capacity;
+    private final ArrayDeque<NodeHealthSample> samples;
+
+    /**
+     * When the last finalized block was last seen advancing, or when the series was created.
+     */
+    private long progressNanos;
+    private int consecutiveFailures;
+
+    NodeHealthSeries(int capacity, long startNanos) {
+        this.capacity = capacity;
+        this.samples = new ArrayDeque<>(capacity);
+        this.progressNanos = startNanos;
+    }
+
+    synchronized void add(NodeHealthSample sample) {
+        val previous = samples.peekLast();
+        if (Objects.isNull(previous) || sample.getLastFinalizedBlockHeight() > previous.getLastFinalizedBlockHeight()) {
+            progressNanos = sample.getNanos();
+        }
+        if (samples.size() == capacity) {
+            samples.removeFirst();
+        }
+        samples.addLast(sample);
+        consecutiveFailures = 0;
+    }
+
+    synchronized void failed() {
+        consecutiveFailures++;
+    }
+
+    synchronized ImmutableList<NodeHealthSample> getSamples() {
+        return ImmutableList.copyOf(samples);
+    }
+
+    synchronized long getBestBlockHeight() {
+        val latest = samples.peekLast();
+        return Objects.isNull(latest) ? 0 : latest.getBestBlockHeight();
+    }
+
+    /**
+     * @param node             the name of the node.
+     * @param nowNanos         the current time as by {@link System#nanoTime()}.
+     * @param stallAfterNanos  how long the last finalized block may not advance before the node is stalled.
+     * @param highestBestBlock the highest best block height of all monitored nodes.
+     * @return the health of the node.
+     */
+    synchronized NodeHealth health(String node, long nowNanos, long stallAfterNanos, long highestBestBlock) {
+        val latest = samples.peekLast();
+        val sinceFinalizationNanos = nowNanos - progressNanos;
+        val stalled = sinceFinalizationNanos >= stallAfterNanos;
+        if (Objects.isNull(latest)) {
+            return new NodeHealth(node, null, 0, 0, 0, Duration.ofNanos(sinceFinalizationNanos), stalled, consecutiveFailures);
+        }
+        return new NodeHealth(
+                node,
+                latest,
+                latest.getBestBlockHeight() - latest.getLastFinalizedBlockHeight(),
+                Math.max(0, highestBestBlock - latest.getBestBlockHeight()),
+                blockArrivalRate(),
+                Duration.ofNanos(sinceFinalizationNanos),
+                stalled,
+                consecutiveFailures);
+    }
+
+    private double blockArrivalRate() {
+        val first = samples.peekFirst();
+        val last = samples.peekLast();
+        val elapsedNanos = last.getNanos() - first.getNanos();
+        if (elapsedNanos <= 0) {
+            return last.getBlockArrivePeriodEMA() > 0 ? 1 / last.getBlockArrivePeriodEMA() : 0;
+        }
+        return (last.getBestBlockHeight() - first.getBestBlockHeight()) * 1e9 / elapsedNanos;
+    }
+}
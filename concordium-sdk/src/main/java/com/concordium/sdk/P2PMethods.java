@@ -0,0 +1,64 @@
+package com.concordium.sdk;
+
+import com.google.common.collect.ImmutableSet;
+import concordium.P2PGrpc;
+import io.grpc.MethodDescriptor;
+
+/**
+ * Classification of the methods of the {@link P2PGrpc} service.
+ */
+final class P2PMethods {
+
+    private P2PMethods() {
+    }
+
+    /**
+     * The queries which only read the state of the node or the chain.
+     * Any other method, including methods added to the service later, is assumed to change the state, so issuing it
+     * more than once may have a different effect than issuing it once.
+     */
+    private static final ImmutableSet<String> READ_ONLY = ImmutableSet.of(
+            P2PGrpc.getPeerUptimeMethod().getFullMethodName(),
+            P2PGrpc.getPeerTotalSentMethod().getFullMethodName(),
+            P2PGrpc.getPeerTotalReceivedMethod().getFullMethodName(),
+            P2PGrpc.getPeerVersionMethod().getFullMethodName(),
+            P2PGrpc.getPeerStatsMethod().getFullMethodName(),
+            P2PGrpc.getPeerListMethod().getFullMethodName(),
+            P2PGrpc.getNodeInfoMethod().getFullMethodName(),
+            P2PGrpc.getGetConsensusStatusMethod().getFullMethodName(),
+            P2PGrpc.getGetBlockInfoMethod().getFullMethodName(),
+            P2PGrpc.getGetAncestorsMethod().getFullMethodName(),
+            P2PGrpc.getGetBranchesMethod().getFullMethodName(),
+            P2PGrpc.getGetBlocksAtHeightMethod().getFullMethodName(),
+            P2PGrpc.getGetAccountListMethod().getFullMethodName(),
+            P2PGrpc.getGetInstancesMethod().getFullMethodName(),
+            P2PGrpc.getGetAccountInfoMethod().getFullMethodName(),
+            P2PGrpc.getGetInstanceInfoMethod().getFullMethodName(),
+            P2PGrpc.getInvokeContractMethod().getFullMethodName(),
+            P2PGrpc.getGetRewardStatusMethod().getFullMethodName(),
+            P2PGrpc.getGetBirkParametersMethod().getFullMethodName(),
+            P2PGrpc.getGetModuleListMethod().getFullMethodName(),
+            P2PGrpc.getGetModuleSourceMethod().getFullMethodName(),
+            P2PGrpc.getGetIdentityProvidersMethod().getFullMethodName(),
+            P2PGrpc.getGetAnonymityRevokersMethod().getFullMethodName(),
+            P2PGrpc.getGetCryptographicParametersMethod().getFullMethodName(),
+            P2PGrpc.getGetBannedPeersMethod().getFullMethodName(),
+            P2PGrpc.getGetTransactionStatusMethod().getFullMethodName(),
+            P2PGrpc.getGetTransactionStatusInBlockMethod().getFullMethodName(),
+            P2PGrpc.getGetAccountNonFinalizedTransactionsMethod().getFullMethodName(),
+            P2PGrpc.getGetBlockSummaryMethod().getFullMethodName(),
+            P2PGrpc.getGetNextAccountNonceMethod().getFullMethodName(),
+            P2PGrpc.getGetPoolStatusMethod().getFullMethodName(),
+            P2PGrpc.getGetBakerListMethod().getFullMethodName());
+
+    /**
+     * Whether the method can safely be issued more than once e.g. for hedging or retrying.
+     *
+     * @param method the method.
+     * @return true if the method is a unary query without side effects.
+     */
+    static boolean isIdempotent(MethodDescriptor<?, ?> method) {
+        return method.getType() == MethodDescriptor.MethodType.UNARY
+                && READ_ONLY.contains(method.getFullMethodName());
+    }
+}
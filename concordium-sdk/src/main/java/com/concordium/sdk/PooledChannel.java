@@ -0,0 +1,520 @@
+package com.concordium.sdk;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import concordium.ConcordiumP2PRpc;
+import concordium.P2PGrpc;
+import io.grpc.*;
+import lombok.Getter;
+import lombok.val;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link ManagedChannel} spreading the calls over a set of nodes.
+ * <p>
+ * Each call is routed by the 'power of two choices':
+ * two distinct nodes are drawn at random and the one with the fewest requests in flight is used.
+ * This keeps the load even across the nodes without the cost of coordinating a global ordering.
+ * Nodes whose {@link CircuitBreaker} is open are avoided.
+ * <p>
+ * Queries with a {@link HedgingPolicy} are hedged via {@link HedgingCall} and idempotent queries
+ * are retried via {@link RetryingCall} if a {@link RetryPolicy} is present.
+ * The number of calls in flight is limited via {@link LimitingCall} if a {@link ConcurrencyLimitPolicy} is present.
+ */
+final class PooledChannel extends ManagedChannel {
+
+    @Getter
+    private final ImmutableList<Node> nodes;
+
+    /**
+     * The hedging state of the hedged queries keyed by their full method name.
+     */
+    @Getter
+    private final ImmutableMap<String, HedgingState> hedging;
+
+    /**
+     * The policy for retrying idempotent queries. Queries are not retried if this is 'null'.
+     */
+    private final RetryPolicy retryPolicy;
+
+    /**
+     * The limiter of the number of calls in flight. Calls are not limited if this is 'null'.
+     */
+    @Getter
+    private final ConcurrencyLimiter limiter;
+
+    /**
+     * The scheduler of the hedges, retries and the deadlines of calls waiting for the concurrency limit.
+     * This is only present if any queries are hedged or retried or calls above the concurrency limit wait.
+     */
+    private final ScheduledExecutorService scheduler;
+
+    PooledChannel(List<Node> nodes) {
+        this(nodes, ImmutableMap.of(), null);
+    }
+
+    PooledChannel(List<Node> nodes, Map<MethodDescriptor<?, ?>, HedgingPolicy> hedgingPolicies) {
+        this(nodes, hedgingPolicies, null);
+    }
+
+    PooledChannel(List<Node> nodes, Map<MethodDescriptor<?, ?>, HedgingPolicy> hedgingPolicies, RetryPolicy retryPolicy) {
+        this(nodes, hedgingPolicies, retryPolicy, null);
+    }
+
+    PooledChannel(List<Node> nodes,
+                  Map<MethodDescriptor<?, ?>, HedgingPolicy> hedgingPolicies,
+                  RetryPolicy retryPolicy,
+                  ConcurrencyLimitPolicy concurrencyLimitPolicy) {
+        if (Objects.isNull(nodes) || nodes.isEmpty()) {
+            throw new IllegalArgumentException("A pooled channel requires at least one node");
+        }
+        this.nodes = ImmutableList.copyOf(nodes);
+        val hedgingBuilder = ImmutableMap.<String, HedgingState>builder();
+        for (Map.Entry<MethodDescriptor<?, ?>, HedgingPolicy> entry : hedgingPolicies.entrySet()) {
+            if (!P2PMethods.isIdempotent(entry.getKey())) {
+                throw new IllegalArgumentException("Only idempotent queries can be hedged: " + entry.getKey().getFullMethodName());
+            }
+            hedgingBuilder.put(entry.getKey().getFullMethodName(), new HedgingState(entry.getValue()));
+        }
+        this.hedging = hedgingBuilder.build();
+        this.retryPolicy = retryPolicy;
+        this.limiter = Objects.isNull(concurrencyLimitPolicy) ? null : new ConcurrencyLimiter(concurrencyLimitPolicy);
+        val waiting = !Objects.isNull(concurrencyLimitPolicy) && concurrencyLimitPolicy.getMode() == ConcurrencyLimitPolicy.Mode.BLOCK;
+        this.scheduler = this.hedging.isEmpty() && Objects.isNull(retryPolicy) && !waiting ? null : Executors.newSingleThreadScheduledExecutor(r -> {
+            val thread = new Thread(r, "concordium-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Create a {@link PooledChannel} consisting of the single node of the {@link Connection}.
+     *
+     * @param connection the connection of the node.
+     * @return a new {@link PooledChannel}
+     * @throws IOException if the channel to the node could not be constructed.
+     */
+    static PooledChannel from(Connection connection) throws IOException {
+        val channel = new PooledChannel(
+                Collections.singletonList(Node.from(connection, connection.newChannel())),
+                ImmutableMap.of(),
+                connection.getRetryPolicy(),
+                connection.getConcurrencyLimit());
+        channel.warmUp(Collections.singletonList(connection));
+        return channel;
+    }
+
+    /**
+     * Warm up the nodes according to the {@link WarmUp} of their {@link Connection}.
+     * The nodes connect and are probed concurrently, and the warm-up of a node gives up after the timeout of its
+     * {@link Connection}.
+     *
+     * @param connections the connections of the nodes, in the order of the nodes.
+     */
+    void warmUp(List<Connection> connections) {
+        val startNanos = System.nanoTime();
+        val warmUps = new ArrayList<Runnable>(nodes.size());
+        for (int i = 0; i < nodes.size(); i++) {
+            val connection = connections.get(i);
+            if (!isWarmedUp(connection)) {
+                continue;
+            }
+            val node = nodes.get(i);
+            node.getChannel().getState(true);
+            val deadlineNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(connection.getTimeout());
+            warmUps.add(() -> {
+                if (awaitReady(node.getChannel(), deadlineNanos) && connection.getWarmUp() == WarmUp.PROBE) {
+                    node.probe(connection);
+                }
+            });
+        }
+        if (warmUps.size() <= 1) {
+            warmUps.forEach(Runnable::run);
+            return;
+        }
+        val executor = Executors.newFixedThreadPool(warmUps.size(), r -> {
+            val thread = new Thread(r, "concordium-warm-up");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            val futures = new ArrayList<Future<?>>(warmUps.size());
+            for (Runnable warmUp : warmUps) {
+                futures.add(executor.submit(warmUp));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // the warm-up is best effort.
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static boolean isWarmedUp(Connection connection) {
+        return !Objects.isNull(connection.getWarmUp()) && connection.getWarmUp() != WarmUp.NONE;
+    }
+
+    /**
+     * Wait for the channel to be connected.
+     *
+     * @param channel       the channel.
+     * @param deadlineNanos the {@link System#nanoTime()} to wait until.
+     * @return true if the channel is connected, false if it failed to connect or did not connect in time.
+     */
+    private static boolean awaitReady(ManagedChannel channel, long deadlineNanos) {
+        try {
+            while (true) {
+                val state = channel.getState(true);
+                if (state == ConnectivityState.READY) {
+                    return true;
+                }
+                if (state == ConnectivityState.TRANSIENT_FAILURE || state == ConnectivityState.SHUTDOWN) {
+                    return false;
+                }
+                val changed = new CountDownLatch(1);
+                channel.notifyWhenStateChanged(state, changed::countDown);
+                val remaining = deadlineNanos - System.nanoTime();
+                if (remaining <= 0 || !changed.await(remaining, TimeUnit.NANOSECONDS)) {
+                    return false;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(MethodDescriptor<ReqT, RespT> methodDescriptor, CallOptions callOptions) {
+        final ClientCall<ReqT, RespT> call;
+        if (!Objects.isNull(retryPolicy) && P2PMethods.isIdempotent(methodDescriptor)) {
+            call = new RetryingCall<>(this, methodDescriptor, callOptions, retryPolicy, scheduler);
+        } else {
+            call = newAttemptCall(methodDescriptor, callOptions);
+        }
+        return Objects.isNull(limiter) ? call : new LimitingCall<>(call, limiter, methodDescriptor, callOptions, scheduler);
+    }
+
+    /**
+     * Create a call without retrying it.
+     *
+     * @return a hedged call if the query is hedged, otherwise a call to the node picked by {@link PooledChannel#pick()}.
+     */
+    <ReqT, RespT> ClientCall<ReqT, RespT> newAttemptCall(MethodDescriptor<ReqT, RespT> methodDescriptor, CallOptions callOptions) {
+        val hedgingState = hedging.get(methodDescriptor.getFullMethodName());
+        if (!Objects.isNull(hedgingState)) {
+            return new HedgingCall<>(this, methodDescriptor, callOptions, hedgingState, scheduler);
+        }
+        return pick().newCall(methodDescriptor, callOptions);
+    }
+
+    @Override
+    public String authority() {
+        return nodes.get(0).getChannel().authority();
+    }
+
+    /**
+     * Pick the node to use for the next call.
+     *
+     * @return the least loaded of two randomly drawn nodes.
+     */
+    Node pick() {
+        return pick(nodes);
+    }
+
+    /**
+     * Pick a node other than the provided one.
+     * If the pool only consists of one node then that node is returned.
+     *
+     * @param excluded the node not to pick.
+     * @return the least loaded of two randomly drawn nodes different from the excluded one.
+     */
+    Node pickExcluding(Node excluded) {
+        val others = new ArrayList<Node>(nodes.size());
+        for (Node node : nodes) {
+            if (node != excluded) {
+                others.add(node);
+            }
+        }
+        return others.isEmpty() ? pick(nodes) : pick(others);
+    }
+
+    private static Node pick(List<Node> candidates) {
+        val size = candidates.size();
+        if (size == 1) {
+            return candidates.get(0);
+        }
+        val random = ThreadLocalRandom.current();
+        val first = random.nextInt(size);
+        // draw the second node among the remaining ones so the two choices are distinct.
+        val second = (first + 1 + random.nextInt(size - 1)) % size;
+        val a = candidates.get(first);
+        val b = candidates.get(second);
+        if (a.isAvailable() != b.isAvailable()) {
+            return a.isAvailable() ? a : b;
+        }
+        return a.getInFlight() <= b.getInFlight() ? a : b;
+    }
+
+    @Override
+    public ManagedChannel shutdown() {
+        if (!Objects.isNull(scheduler)) {
+            scheduler.shutdown();
+        }
+        for (Node node : nodes) {
+            node.getChannel().shutdown();
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        for (Node node : nodes) {
+            if (!node.getChannel().isShutdown()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        for (Node node : nodes) {
+            if (!node.getChannel().isTerminated()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public ManagedChannel shutdownNow() {
+        if (!Objects.isNull(scheduler)) {
+            scheduler.shutdownNow();
+        }
+        for (Node node : nodes) {
+            node.getChannel().shutdownNow();
+        }
+        return this;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        val deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (Node node : nodes) {
+            val remaining = deadline - System.nanoTime();
+            if (!node.getChannel().awaitTermination(Math.max(remaining, 0), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A single node of the pool together with the number of requests currently in flight to it.
+     */
+    static final class Node {
+
+        /**
+         * The channel to the node.
+         */
+        @Getter
+        private final ManagedChannel channel;
+
+        /**
+         * The credentials to use for calls towards this node.
+         */
+        private final CallCredentials credentials;
+
+        /**
+         * A human-readable name of the node i.e. 'host:port'.
+         */
+        @Getter
+        private final String name;
+
+        /**
+         * The circuit breaker guarding the node. This is 'null' if the node is not guarded.
+         */
+        private final CircuitBreaker circuitBreaker;
+
+        /**
+         * The compression of the requests to the node. This is 'null' if the requests are not compressed.
+         */
+        private final CompressionConfig compression;
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        /**
+         * The calls to the node, see {@link Node#newCall(MethodDescriptor, CallOptions)}.
+         */
+        private final Channel calls = new Channel() {
+            @Override
+            public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(MethodDescriptor<ReqT, RespT> methodDescriptor, CallOptions callOptions) {
+                return Node.this.newCall(methodDescriptor, callOptions);
+            }
+
+            @Override
+            public String authority() {
+                return channel.authority();
+            }
+        };
+
+        Node(String name, ManagedChannel channel, CallCredentials credentials) {
+            this(name, channel, credentials, null);
+        }
+
+        Node(String name, ManagedChannel channel, CallCredentials credentials, CircuitBreakerPolicy circuitBreakerPolicy) {
+            this(name, channel, credentials, circuitBreakerPolicy, null);
+        }
+
+        Node(String name,
+             ManagedChannel channel,
+             CallCredentials credentials,
+             CircuitBreakerPolicy circuitBreakerPolicy,
+             CompressionConfig compression) {
+            this.name = name;
+            this.channel = channel;
+            this.credentials = credentials;
+            this.circuitBreaker = Objects.isNull(circuitBreakerPolicy) ? null : new CircuitBreaker(circuitBreakerPolicy);
+            this.compression = compression;
+        }
+
+        static Node from(Connection connection, ManagedChannel channel) {
+            return new Node(
+                    connection.getHost() + ":" + connection.getPort(),
+                    channel,
+                    connection.getCredentials(),
+                    connection.getCircuitBreaker(),
+                    connection.getCompression());
+        }
+
+        /**
+         * @return the number of requests currently in flight to this node.
+         */
+        int getInFlight() {
+            return inFlight.get();
+        }
+
+        /**
+         * @return the state of the circuit breaker of the node, {@link CircuitBreakerState#CLOSED} if the node is not guarded.
+         */
+        CircuitBreakerState getCircuitBreakerState() {
+            return Objects.isNull(circuitBreaker) ? CircuitBreakerState.CLOSED : circuitBreaker.getState();
+        }
+
+        /**
+         * @return whether a call to the node would currently be let through by its circuit breaker.
+         */
+        boolean isAvailable() {
+            return Objects.isNull(circuitBreaker) || circuitBreaker.isAvailable();
+        }
+
+        /**
+         * Probe the node with a consensus status request, ignoring the outcome.
+         * The request is sent like the requests of a client, i.e. through the interceptors of the {@link Connection}
+         * and with the credentials and compression of the node.
+         *
+         * @param connection the connection of the node, whose timeout is the timeout of the request.
+         */
+        void probe(Connection connection) {
+            try {
+                P2PGrpc.newBlockingStub(connection.intercept(calls))
+                        .withDeadlineAfter(connection.getTimeout(), TimeUnit.MILLISECONDS)
+                        .getConsensusStatus(ConcordiumP2PRpc.Empty.getDefaultInstance());
+            } catch (StatusRuntimeException ignored) {
+                // the warm-up is best effort.
+            }
+        }
+
+        <ReqT, RespT> ClientCall<ReqT, RespT> newCall(MethodDescriptor<ReqT, RespT> methodDescriptor, CallOptions callOptions) {
+            val withCredentials = Objects.isNull(credentials) ? callOptions : callOptions.withCallCredentials(credentials);
+            val options = Objects.isNull(compression) ? withCredentials : compression.apply(withCredentials);
+            return new InFlightTrackingCall<>(channel.newCall(methodDescriptor, options));
+        }
+
+        /**
+         * Counts the call as in flight from it is started until it is closed
+         * and reports its outcome to the circuit breaker of the node.
+         */
+        private final class InFlightTrackingCall<ReqT, RespT> extends ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT> {
+
+            private boolean rejected;
+
+            InFlightTrackingCall(ClientCall<ReqT, RespT> delegate) {
+                super(delegate);
+            }
+
+            @Override
+            public void start(Listener<RespT> responseListener, Metadata headers) {
+                if (!Objects.isNull(circuitBreaker) && !circuitBreaker.tryAcquire()) {
+                    rejected = true;
+                    responseListener.onClose(Status.UNAVAILABLE.withDescription("Circuit breaker is open for node " + name), new Metadata());
+                    return;
+                }
+                val startNanos = System.nanoTime();
+                inFlight.incrementAndGet();
+                try {
+                    super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(responseListener) {
+                        @Override
+                        public void onClose(Status status, Metadata trailers) {
+                            inFlight.decrementAndGet();
+                            if (!Objects.isNull(circuitBreaker)) {
+                                circuitBreaker.record(status, System.nanoTime() - startNanos);
+                            }
+                            super.onClose(status, trailers);
+                        }
+                    }, headers);
+                } catch (RuntimeException e) {
+                    inFlight.decrementAndGet();
+                    throw e;
+                }
+            }
+
+            @Override
+            public void request(int numMessages) {
+                if (!rejected) {
+                    super.request(numMessages);
+                }
+            }
+
+            @Override
+            public void sendMessage(ReqT message) {
+                if (!rejected) {
+                    super.sendMessage(message);
+                }
+            }
+
+            @Override
+            public void halfClose() {
+                if (!rejected) {
+                    super.halfClose();
+                }
+            }
+
+            @Override
+            public void cancel(String message, Throwable cause) {
+                if (!rejected) {
+                    super.cancel(message, cause);
+                }
+            }
+        }
+    }
+}
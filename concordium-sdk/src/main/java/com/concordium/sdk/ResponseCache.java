@@ -0,0 +1,216 @@
+package com.concordium.sdk;
+
+import com.concordium.sdk.transactions.Hash;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.MessageLite;
+import io.grpc.MethodDescriptor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches the parsed responses of queries at a finalized block, which never change.
+ * <p>
+ * The cache applies to the queries of a {@link Client} taking a block hash: {@code getBlockSummary}, {@code getBlockInfo},
+ * {@code getAccountInfo}, {@code getInstanceInfo}, {@code getRewardStatus}, {@code getBirkParameters} and
+ * {@code getModuleList}. A response is identified by the method and the request, i.e. the block hash and the other
+ * arguments of the query. Responses of blocks which are not finalized are not cached; a block is known to be finalized
+ * from its {@link com.concordium.sdk.responses.blockinfo.BlockInfo}, which the client queries (and caches) the first
+ * time a response of the block is about to be cached, or from the last finalized block of a {@code getConsensusStatus}.
+ * A block which is not finalized yet is remembered for {@link ResponseCache#PENDING_BLOCK_TIME_TO_LIVE}, or until a new
+ * last finalized block is observed, so the responses of a recent block do not each cost an extra query.
+ * <p>
+ * The cache is bounded by the total weight of the responses, which is their serialized size in bytes as received from
+ * the node, and the least recently used responses are evicted first. The parsed form of a response is typically a small
+ * multiple of its serialized size. A cache can be shared by the connections of several clients.
+ * <pre>
+ * ResponseCache cache = ResponseCache.builder().maximumWeight(256 * 1024 * 1024).build();
+ * Client client = Client.from(Connection.builder()...responseCache(cache).build());
+ * ...
+ * cache.getStatistics().getHits();
+ * </pre>
+ */
+public final class ResponseCache {
+
+    /**
+     * The default maximum weight of the cached responses, 64 MiB.
+     */
+    public static final long DEFAULT_MAXIMUM_WEIGHT = 64 * 1024 * 1024;
+
+    /**
+     * The maximum number of finalized blocks remembered.
+     */
+    static final int FINALIZED_BLOCKS = 100_000;
+
+    /**
+     * How long a block is remembered as not finalized, during which the responses of the block are not cached.
+     */
+    static final Duration PENDING_BLOCK_TIME_TO_LIVE = Duration.ofSeconds(1);
+
+    private final Cache<Key, Entry> responses;
+
+    /**
+     * The blocks known to be finalized.
+     */
+    private final Cache<Hash, Boolean> finalizedBlocks = CacheBuilder.newBuilder()
+            .maximumSize(FINALIZED_BLOCKS)
+            .build();
+
+    /**
+     * The blocks recently known not to be finalized.
+     */
+    private final Cache<Hash, Boolean> pendingBlocks = CacheBuilder.newBuilder()
+            .maximumSize(FINALIZED_BLOCKS)
+            .expireAfterWrite(PENDING_BLOCK_TIME_TO_LIVE.toNanos(), TimeUnit.NANOSECONDS)
+            .build();
+    private final AtomicReference<Hash> lastFinalizedBlock = new AtomicReference<>();
+
+    private final AtomicLong weight = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Create a new {@link ResponseCache}.
+     *
+     * @param maximumWeight the maximum total weight of the cached responses, i.e. their serialized size in bytes.
+     *                      Defaults to {@link ResponseCache#DEFAULT_MAXIMUM_WEIGHT}.
+     */
+    @Builder
+    private ResponseCache(long maximumWeight) {
+        if (maximumWeight < 0) {
+            throw new IllegalArgumentException("Maximum weight cannot be negative");
+        }
+        this.responses = CacheBuilder.newBuilder()
+                .maximumWeight(maximumWeight == 0 ? DEFAULT_MAXIMUM_WEIGHT : maximumWeight)
+                .weigher((Key key, Entry entry) -> entry.weight)
+                .<Key, Entry>removalListener(notification -> {
+                    weight.addAndGet(-notification.getValue().weight);
+                    if (notification.getCause() == RemovalCause.SIZE) {
+                        evictions.increment();
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * @return a cache with the default maximum weight.
+     */
+    public static ResponseCache defaults() {
+        return ResponseCache.builder().build();
+    }
+
+    /**
+     * @return the counters of the cache.
+     */
+    public ResponseCacheStatistics getStatistics() {
+        return ResponseCacheStatistics.builder()
+                .hits(hits.sum())
+                .misses(misses.sum())
+                .rejected(rejected.sum())
+                .evictions(evictions.sum())
+                .entries(responses.size())
+                .weight(weight.get())
+                .build();
+    }
+
+    /**
+     * Remove all cached responses.
+     */
+    public void invalidateAll() {
+        responses.invalidateAll();
+    }
+
+    static Key key(MethodDescriptor<?, ?> method, MessageLite request) {
+        return new Key(method.getFullMethodName(), request.toByteString());
+    }
+
+    /**
+     * @return the cached response or 'null' if it is not cached.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T get(Key key) {
+        val entry = responses.getIfPresent(key);
+        if (Objects.isNull(entry)) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return (T) entry.value;
+    }
+
+    /**
+     * Cache a response of a finalized block.
+     *
+     * @param weight the serialized size of the response in bytes.
+     */
+    void put(Key key, Object value, int weight) {
+        this.weight.addAndGet(weight);
+        responses.put(key, new Entry(value, weight));
+    }
+
+    /**
+     * Record a response which was not cached as its block is not finalized.
+     */
+    void rejected() {
+        rejected.increment();
+    }
+
+    boolean isFinalized(Hash blockHash) {
+        return !Objects.isNull(finalizedBlocks.getIfPresent(blockHash));
+    }
+
+    void finalized(Hash blockHash) {
+        finalizedBlocks.put(blockHash, Boolean.TRUE);
+        pendingBlocks.invalidate(blockHash);
+    }
+
+    /**
+     * @return whether the block was recently known not to be finalized.
+     */
+    boolean isPending(Hash blockHash) {
+        return !Objects.isNull(pendingBlocks.getIfPresent(blockHash));
+    }
+
+    void pending(Hash blockHash) {
+        pendingBlocks.put(blockHash, Boolean.TRUE);
+    }
+
+    /**
+     * Report the last finalized block, forgetting the blocks known not to be finalized if it is a new block.
+     */
+    void observedLastFinalized(Hash blockHash) {
+        if (Objects.isNull(blockHash)) {
+            return;
+        }
+        finalized(blockHash);
+        if (!blockHash.equals(lastFinalizedBlock.getAndSet(blockHash))) {
+            pendingBlocks.invalidateAll();
+        }
+    }
+
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    static final class Key {
+        private final String method;
+        private final ByteString request;
+    }
+
+    @RequiredArgsConstructor
+    private static final class Entry {
+        private final Object value;
+        private final int weight;
+    }
+}
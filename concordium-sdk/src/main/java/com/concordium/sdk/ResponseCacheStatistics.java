@@ -0,0 +1,44 @@
+package com.concordium.sdk;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Counters of a {@link ResponseCache}.
+ */
+@Getter
+@Builder
+@ToString
+public final class ResponseCacheStatistics {
+
+    /**
+     * The number of queries answered from the cache.
+     */
+    private final long hits;
+
+    /**
+     * The number of queries which were sent to the node as their response was not cached.
+     */
+    private final long misses;
+
+    /**
+     * The number of responses which were not cached as their block was not finalized.
+     */
+    private final long rejected;
+
+    /**
+     * The number of responses removed from the cache to make room for other responses.
+     */
+    private final long evictions;
+
+    /**
+     * The number of responses currently cached.
+     */
+    private final long entries;
+
+    /**
+     * The total weight of the responses currently cached, i.e. the sum of their serialized sizes in bytes.
+     */
+    private final long weight;
+}
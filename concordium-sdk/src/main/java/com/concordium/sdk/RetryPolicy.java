@@ -0,0 +1,121 @@
+package com.concordium.sdk;
+
+import com.google.common.collect.ImmutableSet;
+import io.grpc.Status;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.val;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Policy for retrying failed queries.
+ * <p>
+ * Only idempotent queries are retried. A transaction sent via {@link Client#sendTransaction(com.concordium.sdk.transactions.Transaction)}
+ * is only sent again if the node reports that it does not know the transaction.
+ * <p>
+ * The backoff between two attempts is drawn uniformly at random between zero and
+ * {@code min(maxBackoff, initialBackoff * backoffMultiplier^(attempt - 1))} ('full jitter'),
+ * so clients failing at the same time do not retry in lockstep.
+ */
+@Getter
+public final class RetryPolicy {
+
+    /**
+     * The maximum number of attempts including the first one.
+     * Defaults to 3.
+     */
+    private final int maxAttempts;
+
+    /**
+     * The upper bound of the backoff before the first retry.
+     * Defaults to 100 milliseconds.
+     */
+    private final Duration initialBackoff;
+
+    /**
+     * The upper bound of any backoff.
+     * Defaults to 5 seconds.
+     */
+    private final Duration maxBackoff;
+
+    /**
+     * The factor the backoff bound grows with for each retry.
+     * Defaults to 2.
+     */
+    private final double backoffMultiplier;
+
+    /**
+     * The status codes which are retried.
+     * Defaults to {@link Status.Code#UNAVAILABLE}, {@link Status.Code#RESOURCE_EXHAUSTED} and {@link Status.Code#ABORTED}.
+     */
+    private final ImmutableSet<Status.Code> retryableStatusCodes;
+
+    /**
+     * Create a {@link RetryPolicy}.
+     * Unset values (i.e. 'null' or non-positive values) are replaced by their defaults.
+     *
+     * @param maxAttempts          the maximum number of attempts including the first one.
+     * @param initialBackoff       the upper bound of the backoff before the first retry.
+     * @param maxBackoff           the upper bound of any backoff.
+     * @param backoffMultiplier    the factor the backoff bound grows with for each retry.
+     * @param retryableStatusCodes the status codes which are retried.
+     */
+    @Builder
+    public RetryPolicy(int maxAttempts,
+                       Duration initialBackoff,
+                       Duration maxBackoff,
+                       double backoffMultiplier,
+                       Set<Status.Code> retryableStatusCodes) {
+        this.maxAttempts = maxAttempts < 1 ? DEFAULT_MAX_ATTEMPTS : maxAttempts;
+        this.initialBackoff = Objects.isNull(initialBackoff) ? DEFAULT_INITIAL_BACKOFF : initialBackoff;
+        this.maxBackoff = Objects.isNull(maxBackoff) ? DEFAULT_MAX_BACKOFF : maxBackoff;
+        this.backoffMultiplier = backoffMultiplier <= 0 ? DEFAULT_BACKOFF_MULTIPLIER : backoffMultiplier;
+        this.retryableStatusCodes = Objects.isNull(retryableStatusCodes) || retryableStatusCodes.isEmpty()
+                ? DEFAULT_RETRYABLE_STATUS_CODES
+                : ImmutableSet.copyOf(retryableStatusCodes);
+    }
+
+    /**
+     * @return a {@link RetryPolicy} with the default values.
+     */
+    public static RetryPolicy defaults() {
+        return RetryPolicy.builder().build();
+    }
+
+    /**
+     * Whether a failed attempt should be retried.
+     *
+     * @param status   the status the attempt failed with.
+     * @param attempts the number of attempts made so far.
+     * @return true if another attempt should be made.
+     */
+    boolean shouldRetry(Status status, int attempts) {
+        return attempts < maxAttempts && retryableStatusCodes.contains(status.getCode());
+    }
+
+    /**
+     * Draw the backoff before the next attempt.
+     *
+     * @param attempts the number of attempts made so far.
+     * @return the backoff in nanoseconds.
+     */
+    long backoffNanos(int attempts) {
+        val bound = Math.min(
+                (double) maxBackoff.toNanos(),
+                initialBackoff.toNanos() * Math.pow(backoffMultiplier, Math.max(0, attempts - 1)));
+        return (long) (ThreadLocalRandom.current().nextDouble() * bound);
+    }
+
+    private static final int DEFAULT_MAX_ATTEMPTS = 3;
+    private static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofMillis(100);
+    private static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(5);
+    private static final double DEFAULT_BACKOFF_MULTIPLIER = 2;
+    private static final ImmutableSet<Status.Code> DEFAULT_RETRYABLE_STATUS_CODES = ImmutableSet.of(
+            Status.Code.UNAVAILABLE,
+            Status.Code.RESOURCE_EXHAUSTED,
+            Status.Code.ABORTED);
+}
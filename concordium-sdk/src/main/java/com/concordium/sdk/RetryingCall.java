@@ -0,0 +1,179 @@
+package com.concordium.sdk;
+
+import io.grpc.*;
+import lombok.val;
+
+import javax.annotation.Nullable;
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A unary idempotent call which is retried according to a {@link RetryPolicy}.
+ * <p>
+ * Each attempt is routed by the {@link PooledChannel} on its own, so a retry is likely to go to another
+ * node than the failed attempt if the pool consists of several nodes.
+ * No retry is scheduled if the backoff would exceed the deadline of the call.
+ */
+final class RetryingCall<ReqT, RespT> extends ClientCall<ReqT, RespT> {
+
+    private final PooledChannel pool;
+    private final MethodDescriptor<ReqT, RespT> method;
+    private final CallOptions callOptions;
+    private final RetryPolicy policy;
+    private final ScheduledExecutorService scheduler;
+
+    private final Object lock = new Object();
+    private Listener<RespT> listener;
+    private Metadata headers;
+    private ReqT message;
+    private ClientCall<ReqT, RespT> current;
+    private ScheduledFuture<?> backoffTimer;
+    private int attempts;
+    private boolean closed;
+
+    RetryingCall(PooledChannel pool,
+                 MethodDescriptor<ReqT, RespT> method,
+                 CallOptions callOptions,
+                 RetryPolicy policy,
+                 ScheduledExecutorService scheduler) {
+        this.pool = pool;
+        this.method = method;
+        this.callOptions = callOptions;
+        this.policy = policy;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void start(Listener<RespT> responseListener, Metadata headers) {
+        this.listener = responseListener;
+        this.headers = headers;
+    }
+
+    @Override
+    public void request(int numMessages) {
+        // The attempts request the (single) response themselves.
+    }
+
+    @Override
+    public void sendMessage(ReqT message) {
+        this.message = message;
+    }
+
+    @Override
+    public void halfClose() {
+        startAttempt();
+    }
+
+    @Override
+    public void cancel(@Nullable String message, @Nullable Throwable cause) {
+        final ClientCall<ReqT, RespT> toCancel;
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            if (!Objects.isNull(backoffTimer)) {
+                backoffTimer.cancel(false);
+            }
+            toCancel = current;
+            if (Objects.isNull(toCancel)) {
+                closed = true;
+            }
+        }
+        if (Objects.isNull(toCancel)) {
+            if (!Objects.isNull(listener)) {
+                listener.onClose(Status.CANCELLED.withDescription(message).withCause(cause), new Metadata());
+            }
+            return;
+        }
+        toCancel.cancel(message, cause);
+    }
+
+    @Override
+    public boolean isReady() {
+        return true;
+    }
+
+    private void startAttempt() {
+        val call = pool.newAttemptCall(method, callOptions);
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            current = call;
+            backoffTimer = null;
+            attempts++;
+        }
+        val attemptHeaders = new Metadata();
+        attemptHeaders.merge(headers);
+        call.start(new Attempt(), attemptHeaders);
+        call.request(2);
+        call.sendMessage(message);
+        call.halfClose();
+    }
+
+    private void onAttemptClosed(Attempt attempt, Status status, Metadata trailers) {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            current = null;
+            if (!status.isOk() && policy.shouldRetry(status, attempts) && scheduleRetry()) {
+                return;
+            }
+            closed = true;
+        }
+        if (status.isOk()) {
+            listener.onHeaders(Objects.isNull(attempt.responseHeaders) ? new Metadata() : attempt.responseHeaders);
+            if (!Objects.isNull(attempt.response)) {
+                listener.onMessage(attempt.response);
+            }
+        }
+        listener.onClose(status, trailers);
+    }
+
+    /**
+     * Schedule the next attempt. Must be called while holding the lock.
+     *
+     * @return true if the next attempt was scheduled.
+     */
+    private boolean scheduleRetry() {
+        val backoff = policy.backoffNanos(attempts);
+        val deadline = callOptions.getDeadline();
+        if (!Objects.isNull(deadline) && deadline.timeRemaining(TimeUnit.NANOSECONDS) <= backoff) {
+            return false;
+        }
+        try {
+            backoffTimer = scheduler.schedule(this::startAttempt, backoff, TimeUnit.NANOSECONDS);
+            return true;
+        } catch (RejectedExecutionException e) {
+            // The channel is shutting down.
+            return false;
+        }
+    }
+
+    /**
+     * A single attempt of the call buffering the response until it is known whether it is delivered.
+     */
+    private final class Attempt extends ClientCall.Listener<RespT> {
+        private volatile Metadata responseHeaders;
+        private volatile RespT response;
+
+        @Override
+        public void onHeaders(Metadata headers) {
+            this.responseHeaders = headers;
+        }
+
+        @Override
+        public void onMessage(RespT message) {
+            this.response = message;
+        }
+
+        @Override
+        public void onClose(Status status, Metadata trailers) {
+            onAttemptClosed(this, status, trailers);
+        }
+    }
+}
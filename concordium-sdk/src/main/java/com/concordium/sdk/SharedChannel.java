@@ -0,0 +1,64 @@
+package com.concordium.sdk;
+
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A view of a channel which is owned by someone else, e.g. the {@link ClientPool}.
+ * Calls are forwarded to the channel, but shutting down the view leaves the channel open for its other users.
+ */
+final class SharedChannel extends ManagedChannel {
+
+    private final ManagedChannel channel;
+
+    SharedChannel(ManagedChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Does nothing, as the channel is shut down by its owner.
+     */
+    @Override
+    public ManagedChannel shutdown() {
+        return this;
+    }
+
+    /**
+     * Does nothing, as the channel is shut down by its owner.
+     */
+    @Override
+    public ManagedChannel shutdownNow() {
+        return this;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return channel.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return channel.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return channel.awaitTermination(timeout, unit);
+    }
+
+    @Override
+    public <RequestT, ResponseT> ClientCall<RequestT, ResponseT> newCall(
+            MethodDescriptor<RequestT, ResponseT> methodDescriptor,
+            CallOptions callOptions) {
+        return channel.newCall(methodDescriptor, callOptions);
+    }
+
+    @Override
+    public String authority() {
+        return channel.authority();
+    }
+}
@@ -0,0 +1,98 @@
+package com.concordium.sdk;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.MessageLite;
+import io.grpc.MethodDescriptor;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Merges identical concurrent queries into one.
+ * <p>
+ * The first caller of a query (identified by its method and serialized request) performs it,
+ * while callers of an identical query arriving before it completes wait for its outcome instead of
+ * performing the query themselves. All callers receive the same parsed result or the same exception.
+ */
+final class SingleFlight {
+
+    private final ConcurrentHashMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * The number of queries answered by the outcome of an identical query.
+     */
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Perform the query or wait for the outcome of an identical query in flight.
+     *
+     * @param method  the method of the query.
+     * @param request the request of the query.
+     * @param query   the query.
+     * @return the result of the query.
+     * @throws E if the query failed.
+     */
+    <T, E extends Exception> T execute(MethodDescriptor<?, ?> method, MessageLite request, Query<T, E> query) throws E {
+        val key = new Key(method.getFullMethodName(), request.toByteString());
+        val own = new CompletableFuture<Object>();
+        val existing = inFlight.putIfAbsent(key, own);
+        if (!Objects.isNull(existing)) {
+            coalesced.increment();
+            return await(existing);
+        }
+        try {
+            val result = query.run();
+            own.complete(result);
+            return result;
+        } catch (Throwable e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    /**
+     * @return the number of queries answered by the outcome of an identical query.
+     */
+    long getCoalesced() {
+        return coalesced.sum();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, E extends Exception> T await(CompletableFuture<Object> future) throws E {
+        try {
+            return (T) future.join();
+        } catch (CompletionException e) {
+            val cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw (E) cause;
+        }
+    }
+
+    /**
+     * A query which may fail with a checked exception.
+     */
+    @FunctionalInterface
+    interface Query<T, E extends Exception> {
+        T run() throws E;
+    }
+
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class Key {
+        private final String method;
+        private final ByteString request;
+    }
+}
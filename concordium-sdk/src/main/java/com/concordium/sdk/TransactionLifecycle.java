@@ -0,0 +1,162 @@
+package com.concordium.sdk;
+
+import com.concordium.sdk.exceptions.TransactionCreationException;
+import com.concordium.sdk.responses.transactionstatus.Status;
+import com.concordium.sdk.transactions.Hash;
+import com.concordium.sdk.transactions.Transaction;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.val;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Tracks transactions from being signed until they are finalized, reporting the events to a {@link TransactionLifecycleListener}.
+ * <p>
+ * Transactions are signed by wrapping the builders of {@link com.concordium.sdk.transactions.TransactionFactory}
+ * with {@link TransactionLifecycle#sign(Signing)}. Sending and querying the status of transactions is tracked by the
+ * clients of a {@link Connection} with the lifecycle, i.e. {@link Client#sendTransaction(Transaction)} and
+ * {@link Client#getTransactionStatus(Hash)} or their {@link AsyncClient} counterparts.
+ * A lifecycle can be shared by the connections of several clients, e.g. when transactions are sent via one node
+ * and their status is queried via another.
+ * <pre>
+ * TransactionLifecycleRecorder recorder = new TransactionLifecycleRecorder();
+ * TransactionLifecycle lifecycle = TransactionLifecycle.from(recorder);
+ * Client client = Client.from(Connection.builder()...lifecycle(lifecycle).build());
+ * Transaction transaction = lifecycle.sign(() -> TransactionFactory.newTransfer()...build());
+ * Hash hash = client.sendTransaction(transaction);
+ * client.getTransactionStatus(hash); // until it is finalized
+ * </pre>
+ * The SDK does not poll the status of the transactions by itself, so a transaction is seen in a block or finalized
+ * when the application queries its status, i.e. the durations are as precise as the interval of the queries.
+ * If a transaction is first seen finalized, it is reported as committed at the same time.
+ * <p>
+ * At most {@link TransactionLifecycle#MAX_TRACKED} sent transactions are tracked at a time, and the least recently
+ * sent or observed ones are no longer tracked when more are sent. A transaction is also no longer tracked when it is finalized or
+ * {@link TransactionLifecycle#MAX_AGE} after it was sent, i.e. after it would have expired.
+ */
+public final class TransactionLifecycle {
+
+    /**
+     * The maximum number of sent transactions which are tracked at a time.
+     */
+    public static final int MAX_TRACKED = 100_000;
+
+    /**
+     * How long a sent transaction is tracked if it is not seen finalized.
+     */
+    public static final Duration MAX_AGE = Duration.ofHours(2);
+
+    private final TransactionLifecycleListener listener;
+
+    /**
+     * The tracked transactions, evicted when they are older than {@link TransactionLifecycle#MAX_AGE} or when
+     * more than {@link TransactionLifecycle#MAX_TRACKED} are tracked, without scanning the others.
+     */
+    private final Cache<Hash, Tracked> sent = CacheBuilder.newBuilder()
+            .expireAfterWrite(MAX_AGE.toNanos(), TimeUnit.NANOSECONDS)
+            .maximumSize(MAX_TRACKED)
+            .build();
+
+    private TransactionLifecycle(TransactionLifecycleListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Create a new {@link TransactionLifecycle}
+     *
+     * @param listener the {@link TransactionLifecycleListener} receiving the events, e.g. a {@link TransactionLifecycleRecorder}.
+     * @return the lifecycle.
+     */
+    public static TransactionLifecycle from(TransactionLifecycleListener listener) {
+        if (Objects.isNull(listener)) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        return new TransactionLifecycle(listener);
+    }
+
+    /**
+     * Build and sign a transaction, reporting the time spent to the listener.
+     *
+     * @param signing builds the transaction e.g. {@code () -> TransactionFactory.newTransfer()...build()}.
+     * @param <T>     the type of the transaction.
+     * @return the signed transaction.
+     * @throws TransactionCreationException if the transaction could not be built.
+     */
+    public <T extends Transaction> T sign(Signing<T> signing) throws TransactionCreationException {
+        val startNanos = System.nanoTime();
+        val transaction = signing.build();
+        val signingNanos = System.nanoTime() - startNanos;
+        listener.onSigned(transaction.getHash(), System.currentTimeMillis(), signingNanos);
+        return transaction;
+    }
+
+    /**
+     * @return the number of sent transactions currently tracked.
+     */
+    public int getTracked() {
+        sent.cleanUp();
+        return (int) sent.size();
+    }
+
+    /**
+     * Called when a transaction was accepted by the node.
+     */
+    void sent(Hash transactionHash, long sendNanos) {
+        val now = System.nanoTime();
+        listener.onSent(transactionHash, System.currentTimeMillis(), sendNanos);
+        sent.asMap().putIfAbsent(transactionHash, new Tracked(now));
+    }
+
+    /**
+     * Called when the status of a transaction was queried.
+     */
+    void observed(Hash transactionHash, Status status) {
+        if (status == Status.COMMITTED) {
+            val tracked = sent.getIfPresent(transactionHash);
+            if (!Objects.isNull(tracked) && tracked.commit()) {
+                listener.onCommitted(transactionHash, System.currentTimeMillis(), System.nanoTime() - tracked.sentNanos);
+            }
+        } else if (status == Status.FINALIZED) {
+            val tracked = sent.asMap().remove(transactionHash);
+            if (!Objects.isNull(tracked)) {
+                val timestamp = System.currentTimeMillis();
+                val sinceSentNanos = System.nanoTime() - tracked.sentNanos;
+                if (tracked.commit()) {
+                    listener.onCommitted(transactionHash, timestamp, sinceSentNanos);
+                }
+                listener.onFinalized(transactionHash, timestamp, sinceSentNanos);
+            }
+        }
+    }
+
+    /**
+     * Builds a transaction, typically the {@code build()} of a builder of
+     * {@link com.concordium.sdk.transactions.TransactionFactory}.
+     *
+     * @param <T> the type of the transaction.
+     */
+    @FunctionalInterface
+    public interface Signing<T extends Transaction> {
+        T build() throws TransactionCreationException;
+    }
+
+    private static final class Tracked {
+        private final long sentNanos;
+        private final AtomicBoolean committed = new AtomicBoolean();
+
+        private Tracked(long sentNanos) {
+            this.sentNanos = sentNanos;
+        }
+
+        /**
+         * @return whether this is the first time the transaction was seen in a block.
+         */
+        private boolean commit() {
+            return committed.compareAndSet(false, true);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.concordium.sdk;
+
+import com.concordium.sdk.transactions.Hash;
+
+/**
+ * Receives the events of the lifecycle of transactions tracked by a {@link TransactionLifecycle},
+ * from being signed until they are finalized.
+ * <p>
+ * Implement this for reporting to the metrics library of the application, or use the {@link TransactionLifecycleRecorder}
+ * which keeps histograms of the durations in memory. The methods are called on the threads signing, sending
+ * and querying the transactions, hence they must be thread safe and return quickly.
+ * <p>
+ * The timestamps are milliseconds since the epoch, i.e. as by {@link System#currentTimeMillis()}.
+ */
+public interface TransactionLifecycleListener {
+
+    /**
+     * Called when a transaction has been built and signed by {@link TransactionLifecycle#sign(TransactionLifecycle.Signing)}.
+     *
+     * @param transactionHash the hash of the transaction.
+     * @param timestamp       when the transaction was signed.
+     * @param signingNanos    the time spent building and signing the transaction in nanoseconds.
+     */
+    default void onSigned(Hash transactionHash, long timestamp, long signingNanos) {
+    }
+
+    /**
+     * Called when a transaction has been accepted by the node.
+     *
+     * @param transactionHash the hash of the transaction.
+     * @param timestamp       when the node accepted the transaction.
+     * @param sendNanos       the time the {@code sendTransaction} call took in nanoseconds, including any retries.
+     */
+    default void onSent(Hash transactionHash, long timestamp, long sendNanos) {
+    }
+
+    /**
+     * Called when a sent transaction is first seen in a block.
+     *
+     * @param transactionHash the hash of the transaction.
+     * @param timestamp       when the transaction was seen in a block.
+     * @param sinceSentNanos  the time from the transaction was accepted by the node in nanoseconds.
+     */
+    default void onCommitted(Hash transactionHash, long timestamp, long sinceSentNanos) {
+    }
+
+    /**
+     * Called when a sent transaction is first seen finalized.
+     *
+     * @param transactionHash the hash of the transaction.
+     * @param timestamp       when the transaction was seen finalized.
+     * @param sinceSentNanos  the time from the transaction was accepted by the node in nanoseconds.
+     */
+    default void onFinalized(Hash transactionHash, long timestamp, long sinceSentNanos) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.concordium.sdk;
+
+import com.concordium.sdk.transactions.Hash;
+import lombok.Getter;
+
+/**
+ * A {@link TransactionLifecycleListener} keeping histograms of the durations of the lifecycle of transactions in memory.
+ * <pre>
+ * TransactionLifecycleRecorder recorder = new TransactionLifecycleRecorder();
+ * TransactionLifecycle lifecycle = TransactionLifecycle.from(recorder);
+ * ...
+ * recorder.getTimeToFinalization().getValueAtPercentile(99);
+ * </pre>
+ */
+public final class TransactionLifecycleRecorder implements TransactionLifecycleListener {
+
+    /**
+     * The time spent building and signing the transactions in nanoseconds.
+     */
+    @Getter
+    private final Histogram signing = new Histogram();
+
+    /**
+     * The time the {@code sendTransaction} calls took in nanoseconds.
+     */
+    @Getter
+    private final Histogram sending = new Histogram();
+
+    /**
+     * The time from the transactions were sent until they were seen in a block in nanoseconds.
+     */
+    @Getter
+    private final Histogram timeToBlock = new Histogram();
+
+    /**
+     * The time from the transactions were sent until they were seen finalized in nanoseconds.
+     */
+    @Getter
+    private final Histogram timeToFinalization = new Histogram();
+
+    @Override
+    public void onSigned(Hash transactionHash, long timestamp, long signingNanos) {
+        signing.record(signingNanos);
+    }
+
+    @Override
+    public void onSent(Hash transactionHash, long timestamp, long sendNanos) {
+        sending.record(sendNanos);
+    }
+
+    @Override
+    public void onCommitted(Hash transactionHash, long timestamp, long sinceSentNanos) {
+        timeToBlock.record(sinceSentNanos);
+    }
+
+    @Override
+    public void onFinalized(Hash transactionHash, long timestamp, long sinceSentNanos) {
+        timeToFinalization.record(sinceSentNanos);
+    }
+}
@@ -0,0 +1,184 @@
+package com.concordium.sdk;
+
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.grpc.netty.shaded.io.netty.channel.EventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.epoll.Epoll;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollSocketChannel;
+import io.grpc.netty.shaded.io.netty.util.concurrent.DefaultThreadFactory;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tuning of the transport underlying a {@link Connection}.
+ * <p>
+ * The defaults are the ones of gRPC: responses are handled on a shared cached thread pool,
+ * the network I/O is done by the NIO event loop of Netty and the flow-control window
+ * and maximum inbound message size are the ones of Netty.
+ */
+@Getter
+public final class TransportConfig {
+
+    /**
+     * The executor the responses are handled on.
+     * If this is not set i.e. 'null' then the shared cached thread pool of gRPC is used.
+     * On JDK 21 and later a virtual thread per task executor
+     * (i.e. {@code Executors.newVirtualThreadPerTaskExecutor()}) can be used.
+     * The executor is not shut down when the client is closed.
+     */
+    private final Executor executor;
+
+    /**
+     * Whether the responses are handled directly on the network threads instead of via the {@link TransportConfig#executor}.
+     * This saves a thread hop per response, but the network threads are blocked while a response is handled.
+     * The blocking {@link Client} parses responses on the calling thread and the {@link AsyncClient}
+     * parses them on its decode executor, hence this is only unsafe if the responses
+     * are consumed by custom code on the network threads.
+     */
+    private final boolean directExecutor;
+
+    /**
+     * Whether to use the native epoll transport instead of the NIO transport.
+     * This is only available on Linux, on other platforms the NIO transport is used regardless.
+     */
+    private final boolean epoll;
+
+    /**
+     * The HTTP/2 flow-control window in bytes.
+     * If this is not set i.e. non-positive then the Netty default (1 MiB) is used.
+     * Larger windows improve the throughput of large responses (e.g. block summaries) on high latency links.
+     */
+    private final int flowControlWindow;
+
+    /**
+     * The maximum size in bytes of a response.
+     * If this is not set i.e. non-positive then the gRPC default (4 MiB) is used.
+     */
+    private final int maxInboundMessageSize;
+
+    /**
+     * The interval of the HTTP/2 keepalive pings.
+     * If this is not set i.e. 'null' then no keepalive pings are sent.
+     * Pings keep connections behind load balancers and NATs from being dropped silently while idle.
+     * Note. the node may close connections pinging more often than it permits.
+     */
+    private final Duration keepAliveTime;
+
+    /**
+     * How long to wait for the acknowledgement of a keepalive ping before the connection is considered dead.
+     * If this is not set i.e. 'null' then the gRPC default (20 seconds) is used.
+     */
+    private final Duration keepAliveTimeout;
+
+    /**
+     * Whether keepalive pings are sent while there are no requests in flight.
+     */
+    private final boolean keepAliveWithoutCalls;
+
+    /**
+     * How long the channel may be without requests before it disconnects.
+     * If this is not set i.e. 'null' then the gRPC default (30 minutes) is used.
+     * The first request after the channel has disconnected pays for setting up the connection again.
+     */
+    private final Duration idleTimeout;
+
+    /**
+     * Create a {@link TransportConfig}
+     *
+     * @param executor              the executor the responses are handled on or 'null' for the gRPC default.
+     * @param directExecutor        whether the responses are handled directly on the network threads.
+     * @param epoll                 whether to use the native epoll transport if available.
+     * @param flowControlWindow     the HTTP/2 flow-control window in bytes or a non-positive value for the default.
+     * @param maxInboundMessageSize the maximum size in bytes of a response or a non-positive value for the default.
+     * @param keepAliveTime         the interval of the keepalive pings or 'null' for no keepalive pings.
+     * @param keepAliveTimeout      the timeout of the keepalive pings or 'null' for the default.
+     * @param keepAliveWithoutCalls whether keepalive pings are sent while there are no requests in flight.
+     * @param idleTimeout           how long the channel may be without requests before it disconnects or 'null' for the default.
+     */
+    @Builder
+    public TransportConfig(Executor executor,
+                           boolean directExecutor,
+                           boolean epoll,
+                           int flowControlWindow,
+                           int maxInboundMessageSize,
+                           Duration keepAliveTime,
+                           Duration keepAliveTimeout,
+                           boolean keepAliveWithoutCalls,
+                           Duration idleTimeout) {
+        if (directExecutor && !Objects.isNull(executor)) {
+            throw new IllegalArgumentException("An executor cannot be set together with direct execution");
+        }
+        this.executor = executor;
+        this.directExecutor = directExecutor;
+        this.epoll = epoll;
+        this.flowControlWindow = flowControlWindow;
+        this.maxInboundMessageSize = maxInboundMessageSize;
+        this.keepAliveTime = keepAliveTime;
+        this.keepAliveTimeout = keepAliveTimeout;
+        this.keepAliveWithoutCalls = keepAliveWithoutCalls;
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * @return a {@link TransportConfig} with the gRPC defaults.
+     */
+    public static TransportConfig defaults() {
+        return TransportConfig.builder().build();
+    }
+
+    /**
+     * Whether the native epoll transport is available on this platform.
+     *
+     * @return true if {@link TransportConfig#epoll} has an effect.
+     */
+    public static boolean isEpollAvailable() {
+        return Epoll.isAvailable();
+    }
+
+    /**
+     * Apply the configuration to a channel builder.
+     *
+     * @param builder the builder to configure.
+     * @return the configured builder.
+     */
+    NettyChannelBuilder configure(NettyChannelBuilder builder) {
+        if (directExecutor) {
+            builder.directExecutor();
+        } else if (!Objects.isNull(executor)) {
+            builder.executor(executor);
+        }
+        if (epoll && isEpollAvailable()) {
+            builder.eventLoopGroup(EpollEventLoop.GROUP).channelType(EpollSocketChannel.class);
+        }
+        if (flowControlWindow > 0) {
+            builder.flowControlWindow(flowControlWindow);
+        }
+        if (maxInboundMessageSize > 0) {
+            builder.maxInboundMessageSize(maxInboundMessageSize);
+        }
+        if (!Objects.isNull(keepAliveTime)) {
+            builder.keepAliveTime(keepAliveTime.toNanos(), TimeUnit.NANOSECONDS);
+            builder.keepAliveWithoutCalls(keepAliveWithoutCalls);
+        }
+        if (!Objects.isNull(keepAliveTimeout)) {
+            builder.keepAliveTimeout(keepAliveTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        if (!Objects.isNull(idleTimeout)) {
+            builder.idleTimeout(idleTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        return builder;
+    }
+
+    /**
+     * The epoll event loop shared by all connections using the epoll transport.
+     * The threads are daemons, hence the group lives as long as the application, just like the default NIO event loop.
+     */
+    private static final class EpollEventLoop {
+        private static final EventLoopGroup GROUP = new EpollEventLoopGroup(0, new DefaultThreadFactory("concordium-epoll", true));
+    }
+}
@@ -0,0 +1,25 @@
+package com.concordium.sdk;
+
+/**
+ * How the channel to a node is warmed up when a client is created.
+ * <p>
+ * Channels connect lazily, so without a warm-up the first request pays for the DNS lookup,
+ * the TCP and TLS handshakes and the HTTP/2 setup within its deadline.
+ * The warm-up is best effort: the client is created even if the node could not be reached
+ * within the timeout of the {@link Connection}.
+ */
+public enum WarmUp {
+    /**
+     * The channel connects on the first request.
+     */
+    NONE,
+    /**
+     * The channel connects when the client is created.
+     */
+    CONNECT,
+    /**
+     * The channel connects when the client is created and the node is probed
+     * with a {@link Client#getConsensusStatus()} request, which also warms up the request path of the client.
+     */
+    PROBE
+}
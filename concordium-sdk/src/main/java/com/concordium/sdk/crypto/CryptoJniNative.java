@@ -56,5 +56,44 @@ public class CryptoJniNative {
      */
     public static native String generateEncryptedTransfer(String input);
 
+    /**
+     * Parses a global context and builds its table for decrypting amounts, so they can be used by several transfers
+     * without parsing and building them again.
+     *
+     * @param global The global context as a JSON string.
+     * @return A handle to the context, or 0 if the input is not a valid context.
+     * The context must be freed with {@link CryptoJniNative#freeGlobalContext(long)}.
+     */
+    public static native long createGlobalContext(String global);
+
+    /**
+     * Frees a global context created by {@link CryptoJniNative#createGlobalContext(String)}.
+     * The handle must not be used afterwards.
+     *
+     * @param global The handle of the context.
+     */
+    public static native void freeGlobalContext(long global);
+
+    /**
+     * Creates a transfer from the encrypted amount to a public account payload, like
+     * {@link CryptoJniNative#createSecToPubTransfer(String)}, using a global context created by
+     * {@link CryptoJniNative#createGlobalContext(String)} instead of one in the input string.
+     *
+     * @param global The handle of the global context.
+     * @param input The input string without the global context to use for creating the transfer.
+     * @return The transfer data as a JSON string.
+     */
+    public static native String createSecToPubTransferWithContext(long global, String input);
+
+    /**
+     * Generates an encrypted transfer payload, like {@link CryptoJniNative#generateEncryptedTransfer(String)}, using a
+     * global context created by {@link CryptoJniNative#createGlobalContext(String)} instead of one in the input string.
+     *
+     * @param global The handle of the global context.
+     * @param input The input string without the global context to use for generating the encrypted transfer.
+     * @return The encrypted transfer data as a JSON string.
+     */
+    public static native String generateEncryptedTransferWithContext(long global, String input);
+
 
 }
@@ -5,46 +5,184 @@ import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.io.IOUtils;
 
 import java.io.File;
-import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipalNotFoundException;
+import java.util.Arrays;
 import java.util.Locale;
 import java.util.Objects;
-import java.util.Random;
 
+/**
+ * Loads the native library of the SDK.
+ * <p>
+ * The library is loaded lazily, i.e. the first time a native function is used, and at most once per JVM.
+ * It is extracted from the jar to a directory named by the hash of its content, which is reused by later JVMs
+ * running the same version of the SDK instead of writing the library again on every start.
+ * The directory is created in the directory set by the system property {@link NativeResolver#CACHE_DIR_PROPERTY}
+ * or in the cache directory of the user if it is not set.
+ * <p>
+ * The directory is created accessible to its owner only, and the library is only reused if the directory and the library
+ * are owned by the current user, so other users cannot replace the library which is loaded. Otherwise the library is
+ * extracted to a new temporary file, which is deleted when the JVM exits.
+ */
 public class NativeResolver {
 
+    /**
+     * The system property with the directory the native library is extracted to.
+     * Defaults to {@code concordium-sdk} in {@code %LOCALAPPDATA%}, {@code $XDG_CACHE_HOME} or {@code ~/.cache}.
+     */
+    public static final String CACHE_DIR_PROPERTY = "concordium.sdk.native.dir";
+
     private static final String BASE_LIB_NAME = "crypto_jni";
-    private static boolean LOADED;
-    private static final Random random = new Random();
+    private static volatile boolean LOADED;
 
     public static void loadLib() {
         if (!LOADED) {
-            try {
-                val os = NativeResolver.OS.from(System.getProperty("os.name"));
-                val libName = os.getPrefix() + BASE_LIB_NAME + os.getExtension();
-                val libPath = "/native/" + libName;
-
-                val resourceAsStream = NativeResolver.class.getResourceAsStream(libPath);
-                if (Objects.isNull(resourceAsStream)) {
-                    throw new RuntimeException("FAILED LOADING LIB");
+            synchronized (NativeResolver.class) {
+                if (!LOADED) {
+                    try {
+                        val os = NativeResolver.OS.from(System.getProperty("os.name"));
+                        val libName = os.getPrefix() + BASE_LIB_NAME + os.getExtension();
+                        val lib = extract("/native/" + libName, libName, cacheDir());
+                        System.load(lib.getAbsolutePath());
+                        LOADED = true;
+                    } catch (Exception e) {
+                        throw new IllegalStateException("Could not load native dependencies", e);
+                    }
                 }
-                val tempLib = File.createTempFile(getRandomPrefix(), libName + os.getExtension());
-                tempLib.deleteOnExit();
+            }
+        }
+    }
 
-                try (FileOutputStream fos = new FileOutputStream(tempLib)) {
-                    IOUtils.copy(resourceAsStream, fos);
-                }
-                System.load(tempLib.getAbsolutePath());
-                LOADED = true;
-            } catch (Exception e) {
-                throw new IllegalStateException("Could not load native dependencies", e);
+    /**
+     * @return whether the native library has been loaded by this JVM.
+     */
+    public static boolean isLoaded() {
+        return LOADED;
+    }
+
+    /**
+     * Extract a library from the class path, unless it was extracted before.
+     * The content of a previously extracted library is verified, so a damaged or replaced file is extracted again.
+     * If the directory of the library is not private to the current user, the library is extracted to a temporary file.
+     *
+     * @param resource the path of the library on the class path.
+     * @param libName  the file name of the library.
+     * @param cacheDir the directory to extract the library to.
+     * @return the extracted library.
+     * @throws IOException if the library could not be extracted.
+     */
+    static File extract(String resource, String libName, File cacheDir) throws IOException {
+        final byte[] content;
+        try (InputStream resourceAsStream = NativeResolver.class.getResourceAsStream(resource)) {
+            if (Objects.isNull(resourceAsStream)) {
+                throw new RuntimeException("FAILED LOADING LIB");
             }
+            content = IOUtils.toByteArray(resourceAsStream);
+        }
+        val hash = SHA256.hash(content);
+        val dir = new File(cacheDir, "concordium-sdk-" + Hex.encodeHexString(hash));
+        if (!isPrivate(createPrivateDirectory(dir.toPath()))) {
+            return extractTemporary(libName, content);
         }
+        val lib = new File(dir, libName);
+        if (isValid(lib, hash)) {
+            return lib;
+        }
+        // written to a temporary file first, so other JVMs extracting the library at the same time never see a partial file.
+        val tempLib = File.createTempFile(libName, ".tmp", dir);
+        try {
+            Files.write(tempLib.toPath(), content);
+            Files.move(tempLib.toPath(), lib.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // e.g. the library is in use by another process on Windows, in which case the existing file is used.
+            if (!isValid(lib, hash)) {
+                throw e;
+            }
+        } finally {
+            Files.deleteIfExists(tempLib.toPath());
+        }
+        return lib;
     }
 
-    private static String getRandomPrefix() {
-        val buffer = new byte[6];
-        random.nextBytes(buffer);
-        return Hex.encodeHexString(buffer);
+    /**
+     * @return whether the file is the library with the hash, owned by the current user.
+     */
+    private static boolean isValid(File lib, byte[] hash) throws IOException {
+        return Files.isRegularFile(lib.toPath(), LinkOption.NOFOLLOW_LINKS)
+                && isOwned(lib.toPath())
+                && Arrays.equals(hash, SHA256.hash(Files.readAllBytes(lib.toPath())));
+    }
+
+    private static Path createPrivateDirectory(Path dir) throws IOException {
+        Files.createDirectories(dir.getParent());
+        try {
+            if (dir.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+                Files.createDirectory(dir, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+            } else {
+                Files.createDirectory(dir);
+            }
+        } catch (FileAlreadyExistsException e) {
+            // created before, which is verified by the caller.
+        }
+        return dir;
+    }
+
+    /**
+     * @return whether the directory is owned by the current user and cannot be written by other users.
+     */
+    private static boolean isPrivate(Path dir) throws IOException {
+        if (!Files.isDirectory(dir, LinkOption.NOFOLLOW_LINKS) || !isOwned(dir)) {
+            return false;
+        }
+        if (!dir.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            return true;
+        }
+        val permissions = Files.getPosixFilePermissions(dir, LinkOption.NOFOLLOW_LINKS);
+        return !permissions.contains(PosixFilePermission.GROUP_WRITE) && !permissions.contains(PosixFilePermission.OTHERS_WRITE);
+    }
+
+    private static boolean isOwned(Path path) throws IOException {
+        try {
+            val currentUser = path.getFileSystem().getUserPrincipalLookupService()
+                    .lookupPrincipalByName(System.getProperty("user.name"));
+            return currentUser.equals(Files.getOwner(path, LinkOption.NOFOLLOW_LINKS));
+        } catch (UserPrincipalNotFoundException | UnsupportedOperationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Extract a library to a new temporary file, which is private to the current user and deleted when the JVM exits.
+     */
+    private static File extractTemporary(String libName, byte[] content) throws IOException {
+        val tempLib = Files.createTempFile("concordium-sdk-", "-" + libName).toFile();
+        tempLib.deleteOnExit();
+        Files.write(tempLib.toPath(), content);
+        return tempLib;
+    }
+
+    private static File cacheDir() {
+        val configured = System.getProperty(CACHE_DIR_PROPERTY);
+        if (!Objects.isNull(configured)) {
+            return new File(configured);
+        }
+        val localAppData = System.getenv("LOCALAPPDATA");
+        if (!Objects.isNull(localAppData)) {
+            return new File(localAppData, "concordium-sdk");
+        }
+        val xdgCache = System.getenv("XDG_CACHE_HOME");
+        if (!Objects.isNull(xdgCache)) {
+            return new File(xdgCache, "concordium-sdk");
+        }
+        return new File(new File(System.getProperty("user.home"), ".cache"), "concordium-sdk");
     }
 
     enum OS {
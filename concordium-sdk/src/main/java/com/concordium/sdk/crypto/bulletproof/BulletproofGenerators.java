@@ -2,12 +2,14 @@ package com.concordium.sdk.crypto.bulletproof;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.EqualsAndHashCode;
 import org.apache.commons.codec.DecoderException;
 import org.apache.commons.codec.binary.Hex;
 
 /**
  * Generators for the bulletproofs used for range proofs.
  */
+@EqualsAndHashCode
 public class BulletproofGenerators {
     private final byte[] bytes;
 
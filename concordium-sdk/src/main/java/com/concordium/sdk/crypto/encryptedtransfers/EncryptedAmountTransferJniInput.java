@@ -3,6 +3,7 @@ package com.concordium.sdk.crypto.encryptedtransfers;
 import com.concordium.sdk.crypto.elgamal.ElgamalPublicKey;
 import com.concordium.sdk.crypto.elgamal.ElgamalSecretKey;
 import com.concordium.sdk.transactions.CCDAmount;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Data;
 
@@ -10,8 +11,10 @@ import lombok.Data;
 @Builder
 public class EncryptedAmountTransferJniInput {
     /**
-     * Global context with parameters for generating proofs, and generators for encrypting amounts
+     * Global context with parameters for generating proofs, and generators for encrypting amounts.
+     * It is passed to the native library by its handle, see {@link GlobalContext#acquire()}.
      */
+    @JsonIgnore
     private final GlobalContext global;
     /**
      * Public key of the receiver of the transfer
@@ -51,7 +51,14 @@ public final class EncryptedTransfers {
         TransferToPublicJniResult result = null;
         try {
             val inputJsonString = JsonMapper.INSTANCE.writeValueAsString(jniInput);
-            val jsonStr = CryptoJniNative.createSecToPubTransfer(inputJsonString);
+            String jsonStr;
+            val global = jniInput.getGlobal();
+            val handle = global.acquire();
+            try {
+                jsonStr = CryptoJniNative.createSecToPubTransferWithContext(handle, inputJsonString);
+            } finally {
+                global.release();
+            }
             result = JsonMapper.INSTANCE.readValue(jsonStr, TransferToPublicJniResult.class);
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
@@ -87,7 +94,14 @@ public final class EncryptedTransfers {
         EncryptedAmountTransferJniResult result = null;
         try {
             val inputJsonString = JsonMapper.INSTANCE.writeValueAsString(jniInput);
-            val jsonStr = CryptoJniNative.generateEncryptedTransfer(inputJsonString);
+            String jsonStr;
+            val global = jniInput.getGlobal();
+            val handle = global.acquire();
+            try {
+                jsonStr = CryptoJniNative.generateEncryptedTransferWithContext(handle, inputJsonString);
+            } finally {
+                global.release();
+            }
             result = JsonMapper.INSTANCE.readValue(jsonStr, EncryptedAmountTransferJniResult.class);
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
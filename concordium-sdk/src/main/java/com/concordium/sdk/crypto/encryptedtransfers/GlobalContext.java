@@ -1,18 +1,54 @@
 package com.concordium.sdk.crypto.encryptedtransfers;
 
+import com.concordium.sdk.crypto.CryptoJniNative;
+import com.concordium.sdk.crypto.CryptoJniResultCode;
 import com.concordium.sdk.crypto.bulletproof.BulletproofGenerators;
 import com.concordium.sdk.crypto.pedersencommitment.PedersenCommitmentKey;
+import com.concordium.sdk.exceptions.CryptoJniException;
 import com.concordium.sdk.responses.cryptographicparameters.CryptographicParameters;
+import com.concordium.sdk.serializing.JsonMapper;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.Value;
+import lombok.val;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * A Set of Cryptographic parameters that are particular to the chain and
  * shared by everybody who interacts with the chain.
+ * <p>
+ * The bulletproof generators make up most of the input of an encrypted transfer, so the context is only serialized and
+ * parsed by the native library once, and {@link GlobalContext#from(CryptographicParameters)} returns the same context for
+ * the same parameters. The native library keeps the parsed context together with the table for decrypting amounts, and
+ * the transfers pass the handle of it to the native library.
  */
 @Data
 @Builder
+@JsonSerialize(using = GlobalContext.Serializer.class)
 class GlobalContext {
+
+    /**
+     * The maximum number of cached contexts, i.e. of distinct chains in use at the same time.
+     */
+    static final int MAX_CACHED = 16;
+
+    private static final Map<CacheKey, GlobalContext> CACHE = new ConcurrentHashMap<>();
+
     /**
      * A shared commitment key known to the chain and the account holder (and therefore it is public).
      * The account holder uses this commitment key to generate commitments to values in the attribute list.
@@ -30,15 +66,138 @@ class GlobalContext {
     private final String genesisString;
 
     /**
-     * Converts {@link CryptographicParameters} to {@link GlobalContext}
+     * The JSON of the context as passed to the native library.
+     */
+    @Getter(lazy = true)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final String json = toJson();
+
+    /**
+     * The context parsed by the native library.
+     */
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final NativeContext nativeContext = new NativeContext();
+
+    /**
+     * Converts {@link CryptographicParameters} to {@link GlobalContext}.
+     * The context of the same parameters is cached, keyed by the genesis string and version of the parameters.
      * @param cryptographicParameters input {@link CryptographicParameters}
      * @return Instance of {@link GlobalContext}
      */
     public static GlobalContext from(CryptographicParameters cryptographicParameters) {
-        return new GlobalContext(
+        val key = new CacheKey(cryptographicParameters.getGenesisString(), cryptographicParameters.getVersion());
+        val cached = CACHE.get(key);
+        if (!Objects.isNull(cached)
+                && Objects.equals(cached.onChainCommitmentKey, cryptographicParameters.getOnChainCommitmentKey())
+                && Objects.equals(cached.bulletproofGenerators, cryptographicParameters.getBulletproofGenerators())) {
+            return cached;
+        }
+        val context = new GlobalContext(
                 cryptographicParameters.getOnChainCommitmentKey(),
                 cryptographicParameters.getBulletproofGenerators(),
                 cryptographicParameters.getGenesisString()
         );
+        context.nativeContext.retain();
+        synchronized (CACHE) {
+            // The evicted contexts are freed by the native library once no transfer uses them.
+            if (CACHE.size() >= MAX_CACHED) {
+                CACHE.values().forEach(evicted -> evicted.nativeContext.evict());
+                CACHE.clear();
+            }
+            val previous = CACHE.put(key, context);
+            if (!Objects.isNull(previous)) {
+                previous.nativeContext.evict();
+            }
+        }
+        return context;
+    }
+
+    /**
+     * Get the handle of the context parsed by the native library, parsing it if needed.
+     * The handle remains valid until it is released with {@link GlobalContext#release()}.
+     *
+     * @return the handle.
+     */
+    long acquire() {
+        return nativeContext.acquire(this::getJson);
+    }
+
+    /**
+     * Release the handle acquired by {@link GlobalContext#acquire()}.
+     */
+    void release() {
+        nativeContext.release();
+    }
+
+    private String toJson() {
+        val fields = new LinkedHashMap<String, Object>();
+        fields.put("onChainCommitmentKey", onChainCommitmentKey);
+        fields.put("bulletproofGenerators", bulletproofGenerators);
+        fields.put("genesisString", genesisString);
+        try {
+            return JsonMapper.INSTANCE.writeValueAsString(fields);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * The handle of a context parsed by the native library, which is freed once it is neither cached nor in use.
+     */
+    private static final class NativeContext {
+        private long handle;
+        private int users;
+        private boolean cached;
+
+        synchronized void retain() {
+            cached = true;
+        }
+
+        synchronized void evict() {
+            cached = false;
+            freeIfUnused();
+        }
+
+        synchronized long acquire(Supplier<String> json) {
+            if (handle == 0) {
+                handle = CryptoJniNative.createGlobalContext(json.get());
+                if (handle == 0) {
+                    throw CryptoJniException.from(CryptoJniResultCode.JSON_DESERIALIZATION_ERROR);
+                }
+            }
+            users++;
+            return handle;
+        }
+
+        synchronized void release() {
+            users--;
+            freeIfUnused();
+        }
+
+        private void freeIfUnused() {
+            if (!cached && users == 0 && handle != 0) {
+                CryptoJniNative.freeGlobalContext(handle);
+                handle = 0;
+            }
+        }
+    }
+
+    @Value
+    private static class CacheKey {
+        String genesisString;
+        int version;
+    }
+
+    /**
+     * Writes the JSON computed by {@link GlobalContext#getJson()}.
+     */
+    static final class Serializer extends JsonSerializer<GlobalContext> {
+        @Override
+        public void serialize(GlobalContext value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeRawValue(value.getJson());
+        }
     }
 }
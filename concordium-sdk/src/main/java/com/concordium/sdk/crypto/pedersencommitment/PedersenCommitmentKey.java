@@ -2,6 +2,7 @@ package com.concordium.sdk.crypto.pedersencommitment;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.EqualsAndHashCode;
 import org.apache.commons.codec.DecoderException;
 import org.apache.commons.codec.binary.Hex;
 
@@ -10,6 +11,7 @@ import org.apache.commons.codec.binary.Hex;
     * The account holder uses this commitment key to generate commitments to values in the attribute list.
  */
 
+@EqualsAndHashCode
 public class PedersenCommitmentKey {
     private final byte[] bytes;
 
@@ -12,4 +12,21 @@ public final class JsonMapper {
                     .registerModule(new JavaTimeModule())
                     // Needed to deserialize Optional Fields
                     .registerModule(new Jdk8Module());
+
+    /**
+     * Build the deserializers of the provided types up front, instead of when the first response of each type is decoded.
+     * Building a deserializer introspects the type and the types of its fields, which can take as long as
+     * the request itself for a large response like a {@link com.concordium.sdk.responses.blocksummary.BlockSummary}.
+     * <p>
+     * This is meant for short-lived applications which care about the latency of their first requests,
+     * e.g. calling it on a background thread while the application connects to the node.
+     *
+     * @param types the types of the responses to decode, e.g. {@code AccountInfo.class}.
+     */
+    public static void prewarm(Class<?>... types) {
+        for (Class<?> type : types) {
+            // the reader fetches the deserializer of its type eagerly, which is then cached by the mapper.
+            INSTANCE.readerFor(type);
+        }
+    }
 }
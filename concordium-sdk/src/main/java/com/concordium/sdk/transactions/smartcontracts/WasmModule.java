@@ -34,6 +34,13 @@ public class WasmModule {
      */
     private final WasmModuleSource source;
 
+    /**
+     * The identifier of the WasmModule.
+     * The identifier is a SHA256 hash of the raw module bytes, which is computed the first time it is requested.
+     */
+    @Getter(lazy = true)
+    private final ModuleRef identifier = ModuleRef.from(SHA256.hash(this.getBytes()));
+
     WasmModule(final WasmModuleSource source, final WasmModuleVersion version) {
         this.source = source;
         this.version = version;
@@ -77,16 +84,6 @@ public class WasmModule {
         return from(moduleBytes, version);
     }
 
-    /**
-     * Get the identifier of the WasmModule.
-     * The identifier is a SHA256 hash of the raw module bytes.
-     *
-     * @return the identifier of the Module.
-     */
-    public ModuleRef getIdentifier() {
-        return ModuleRef.from(SHA256.hash(this.getBytes()));
-    }
-
     /**
      * Get the raw serialized bytes of the concrete {@link WasmModule}.
      *
@@ -0,0 +1,111 @@
+package com.concordium.sdk;
+
+import com.concordium.sdk.exceptions.BlockNotFoundException;
+import com.concordium.sdk.transactions.Hash;
+import concordium.ConcordiumP2PRpc;
+import concordium.P2PGrpc;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class AsyncClientTest {
+
+    private static final Hash BLOCK_HASH = Hash.from("9741d166fdc9b70a183d6c22f79e6f87c236f56c545c9b5f1114847fecc7ba39");
+    private static final String DECODE_THREAD_NAME = "decode-thread";
+
+    private Server server;
+    private ManagedChannel channel;
+    private ExecutorService decodeExecutor;
+    private AsyncClient client;
+
+    @Before
+    @SneakyThrows
+    public void setUp() {
+        val serverName = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(serverName)
+                .directExecutor()
+                .addService(new P2PGrpc.P2PImplBase() {
+                    @Override
+                    public void getAncestors(ConcordiumP2PRpc.BlockHashAndAmount request, StreamObserver<ConcordiumP2PRpc.JsonResponse> responseObserver) {
+                        responseObserver.onNext(ConcordiumP2PRpc.JsonResponse.newBuilder()
+                                .setValue("[\"" + request.getBlockHash() + "\"]")
+                                .build());
+                        responseObserver.onCompleted();
+                    }
+
+                    @Override
+                    public void getBlockInfo(ConcordiumP2PRpc.BlockHash request, StreamObserver<ConcordiumP2PRpc.JsonResponse> responseObserver) {
+                        responseObserver.onNext(ConcordiumP2PRpc.JsonResponse.newBuilder().setValue("null").build());
+                        responseObserver.onCompleted();
+                    }
+                })
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(serverName).directExecutor().build();
+        decodeExecutor = Executors.newSingleThreadExecutor(r -> new Thread(r, DECODE_THREAD_NAME));
+        val connection = Connection.builder()
+                .host("localhost")
+                .port(10000)
+                .credentials(Credentials.from("rpcadmin"))
+                .build();
+        client = new AsyncClient(connection, channel, decodeExecutor);
+    }
+
+    @After
+    public void tearDown() {
+        client.close();
+        server.shutdownNow();
+        decodeExecutor.shutdownNow();
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldDecodeOnProvidedExecutor() {
+        // hold the decode executor, so the future cannot complete before the stage is attached.
+        val hold = new CountDownLatch(1);
+        decodeExecutor.execute(() -> {
+            try {
+                hold.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        val decodedOn = new AtomicReference<String>();
+        val future = client.getAncestors(BLOCK_HASH, 1)
+                .thenApply(hashes -> {
+                    decodedOn.set(Thread.currentThread().getName());
+                    return hashes;
+                });
+        hold.countDown();
+        val ancestors = future.join();
+
+        assertEquals(1, ancestors.size());
+        assertEquals(BLOCK_HASH, ancestors.get(0));
+        assertEquals(DECODE_THREAD_NAME, decodedOn.get());
+    }
+
+    @Test
+    public void testShouldCompleteExceptionallyWhenNotFound() {
+        try {
+            client.getBlockInfo(BLOCK_HASH).join();
+            fail("Expected BlockNotFoundException");
+        } catch (CompletionException e) {
+            assertTrue(e.getCause() instanceof BlockNotFoundException);
+        }
+    }
+}
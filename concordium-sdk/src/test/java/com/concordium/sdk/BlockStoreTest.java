@@ -0,0 +1,183 @@
+package com.concordium.sdk;
+
+import com.concordium.sdk.responses.blocksatheight.BlocksAtHeightRequest;
+import com.concordium.sdk.transactions.Hash;
+import concordium.ConcordiumP2PRpc;
+import concordium.P2PGrpc;
+import io.grpc.ManagedChannel;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+public class BlockStoreTest {
+
+    private static final Hash BLOCK = Hash.from("9741d166fdc9b70a183d6c22f79e6f87c236f56c545c9b5f1114847fecc7ba39");
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private final List<FakeNode> nodes = new ArrayList<>();
+    private final List<ManagedChannel> channels = new ArrayList<>();
+
+    @After
+    public void tearDown() {
+        channels.forEach(ManagedChannel::shutdownNow);
+        nodes.forEach(FakeNode::close);
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldNotOpenStoreTwice() {
+        val directory = folder.getRoot().toPath();
+        try (BlockStore store = BlockStore.builder().directory(directory).build()) {
+            try {
+                BlockStore.builder().directory(directory).build();
+                fail("Expected the store to be locked");
+            } catch (IOException e) {
+                assertTrue(e.getMessage().contains("already open"));
+            }
+        }
+        // The lock is released when the store is closed.
+        BlockStore.builder().directory(directory).build().close();
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldReadRecordsAfterReopening() {
+        val directory = folder.getRoot().toPath();
+        try (BlockStore store = BlockStore.builder().directory(directory).build()) {
+            store.put(BlockStore.height(42), json("[\"" + BLOCK.asHex() + "\"]"));
+            store.put(BlockStore.blockInfo(BLOCK), json("{\"finalized\":true}"));
+            store.put(BlockStore.blockInfo(BLOCK), json("{\"finalized\":false}"));
+            assertEquals(2, store.size());
+        }
+        try (BlockStore store = BlockStore.builder().directory(directory).build()) {
+            assertEquals(2, store.size());
+            assertEquals("[\"" + BLOCK.asHex() + "\"]", store.get(BlockStore.height(42)).getValue());
+            assertEquals("{\"finalized\":true}", store.get(BlockStore.blockInfo(BLOCK)).getValue());
+            assertNull(store.get(BlockStore.blockSummary(BLOCK)));
+            assertNull(store.get(BlockStore.height(43)));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldRollSegments() {
+        val directory = folder.getRoot().toPath();
+        try (BlockStore store = BlockStore.builder().directory(directory).segmentSize(128).build()) {
+            for (int i = 0; i < 10; i++) {
+                store.put(BlockStore.height(i), json("[\"" + String.format("%064x", i) + "\"]"));
+            }
+            // Larger than a segment.
+            store.put(BlockStore.blockSummary(BLOCK), json(String.format("%0500d", 0)));
+        }
+        assertEquals(11, segments(directory).size());
+        try (BlockStore store = BlockStore.builder().directory(directory).segmentSize(128).build()) {
+            assertEquals(11, store.size());
+            for (int i = 0; i < 10; i++) {
+                assertEquals("[\"" + String.format("%064x", i) + "\"]", store.get(BlockStore.height(i)).getValue());
+            }
+            assertEquals(500, store.get(BlockStore.blockSummary(BLOCK)).getValue().length());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldDiscardPartiallyWrittenRecords() {
+        val directory = folder.getRoot().toPath();
+        try (BlockStore store = BlockStore.builder().directory(directory).build()) {
+            store.put(BlockStore.height(1), json("first"));
+            store.put(BlockStore.height(2), json("second"));
+        }
+        try (RandomAccessFile file = new RandomAccessFile(segments(directory).get(0).toFile(), "rw")) {
+            // Corrupt the last byte of the value of the second record.
+            val length = 2 * (1 + 8 + 4 + 4) + json("first").getSerializedSize() + json("second").getSerializedSize();
+            file.seek(length - 1);
+            file.write('x');
+        }
+        try (BlockStore store = BlockStore.builder().directory(directory).build()) {
+            assertEquals(1, store.size());
+            assertNull(store.get(BlockStore.height(2)));
+            store.put(BlockStore.height(3), json("third"));
+        }
+        try (BlockStore store = BlockStore.builder().directory(directory).build()) {
+            assertEquals("first", store.get(BlockStore.height(1)).getValue());
+            assertEquals("third", store.get(BlockStore.height(3)).getValue());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void testClientShouldReadThroughStore() {
+        try (BlockStore store = BlockStore.builder().directory(folder.getRoot().toPath()).build()) {
+            val node = FakeNode.builder()
+                    .json(P2PGrpc.getGetBlocksAtHeightMethod(), "[\"" + BLOCK.asHex() + "\"]")
+                    .json(P2PGrpc.getGetBlockInfoMethod(), "{\"finalized\":true,\"blockHeight\":42}")
+                    .build();
+            val online = client(node, store);
+            assertEquals(BLOCK, online.getBlocksAtHeight(BlocksAtHeightRequest.newAbsolute(42)).getBlocks().get(0));
+            assertEquals(42, (int) online.getBlockInfo(BLOCK).getBlockHeight());
+            // The blocks at the height and the block info establishing that the block is finalized.
+            assertEquals(2, node.getRequests());
+            assertEquals(2, store.size());
+
+            val offline = client(FakeNode.builder().build(), store);
+            assertEquals(BLOCK, offline.getBlocksAtHeight(BlocksAtHeightRequest.newAbsolute(42)).getBlocks().get(0));
+            assertTrue(offline.getBlockInfo(BLOCK).getFinalized());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void testClientShouldNotStorePendingBlocks() {
+        try (BlockStore store = BlockStore.builder().directory(folder.getRoot().toPath()).build()) {
+            val node = FakeNode.builder()
+                    .json(P2PGrpc.getGetBlocksAtHeightMethod(), "[\"" + BLOCK.asHex() + "\"]")
+                    .json(P2PGrpc.getGetBlockInfoMethod(), "{\"finalized\":false}")
+                    .build();
+            val client = client(node, store);
+            client.getBlocksAtHeight(BlocksAtHeightRequest.newAbsolute(42));
+            client.getBlockInfo(BLOCK);
+            assertEquals(0, store.size());
+        }
+    }
+
+    private Client client(FakeNode node, BlockStore store) {
+        nodes.add(node);
+        val channel = node.newChannel();
+        channels.add(channel);
+        return new Client(Connection.builder()
+                .host("localhost")
+                .port(10000)
+                .credentials(Credentials.from("rpcadmin"))
+                .blockStore(store)
+                .build(), channel);
+    }
+
+    private static ConcordiumP2PRpc.JsonResponse json(String value) {
+        return ConcordiumP2PRpc.JsonResponse.newBuilder().setValue(value).build();
+    }
+
+    @SneakyThrows
+    private static List<Path> segments(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("segment-"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.concordium.sdk;
+
+import io.grpc.Status;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static org.junit.Assert.*;
+
+public class CircuitBreakerTest {
+
+    private final CircuitBreakerPolicy policy = CircuitBreakerPolicy.builder()
+            .windowSize(10)
+            .minimumCalls(4)
+            .failureRateThreshold(0.5)
+            .openDuration(Duration.ofMillis(50))
+            .halfOpenProbes(2)
+            .build();
+
+    @Test
+    public void testShouldOpenWhenFailureRateIsExceeded() {
+        val breaker = new CircuitBreaker(policy);
+        breaker.record(Status.OK, 0);
+        breaker.record(Status.UNAVAILABLE, 0);
+        breaker.record(Status.OK, 0);
+        assertEquals(CircuitBreakerState.CLOSED, breaker.getState());
+        breaker.record(Status.DEADLINE_EXCEEDED, 0);
+        assertEquals(CircuitBreakerState.OPEN, breaker.getState());
+        assertFalse(breaker.isAvailable());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    public void testShouldIgnoreCancelledAndApplicationErrors() {
+        val breaker = new CircuitBreaker(policy);
+        for (int i = 0; i < 10; i++) {
+            breaker.record(Status.CANCELLED, 0);
+            breaker.record(Status.NOT_FOUND, 0);
+        }
+        assertEquals(CircuitBreakerState.CLOSED, breaker.getState());
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldCloseAfterSuccessfulProbes() {
+        val breaker = open();
+        Thread.sleep(60);
+        assertTrue(breaker.isAvailable());
+        assertTrue(breaker.tryAcquire());
+        assertEquals(CircuitBreakerState.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+        breaker.record(Status.OK, 0);
+        assertEquals(CircuitBreakerState.HALF_OPEN, breaker.getState());
+        breaker.record(Status.OK, 0);
+        assertEquals(CircuitBreakerState.CLOSED, breaker.getState());
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldCloseAfterCancelledProbeAndRejectedCalls() {
+        val breaker = open(3);
+        Thread.sleep(60);
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+        breaker.record(Status.CANCELLED, 0);
+        assertTrue(breaker.isAvailable());
+        breaker.record(Status.OK, 0);
+        breaker.record(Status.OK, 0);
+        assertEquals(CircuitBreakerState.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+        breaker.record(Status.OK, 0);
+        assertEquals(CircuitBreakerState.CLOSED, breaker.getState());
+        assertTrue(breaker.isAvailable());
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldReopenWhenProbeFails() {
+        val breaker = open();
+        Thread.sleep(60);
+        assertTrue(breaker.tryAcquire());
+        breaker.record(Status.UNAVAILABLE, 0);
+        assertEquals(CircuitBreakerState.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    public void testShouldOpenOnSlowCalls() {
+        val breaker = new CircuitBreaker(CircuitBreakerPolicy.builder()
+                .windowSize(4)
+                .minimumCalls(4)
+                .slowCallDuration(Duration.ofMillis(100))
+                .slowCallRateThreshold(0.5)
+                .build());
+        val slow = Duration.ofMillis(200).toNanos();
+        breaker.record(Status.OK, slow);
+        breaker.record(Status.OK, 0);
+        breaker.record(Status.OK, 0);
+        breaker.record(Status.OK, slow);
+        assertEquals(CircuitBreakerState.OPEN, breaker.getState());
+    }
+
+    private CircuitBreaker open() {
+        return open(policy);
+    }
+
+    private CircuitBreaker open(int halfOpenProbes) {
+        return open(CircuitBreakerPolicy.builder()
+                .windowSize(10)
+                .minimumCalls(4)
+                .failureRateThreshold(0.5)
+                .openDuration(Duration.ofMillis(50))
+                .halfOpenProbes(halfOpenProbes)
+                .build());
+    }
+
+    private static CircuitBreaker open(CircuitBreakerPolicy policy) {
+        val breaker = new CircuitBreaker(policy);
+        for (int i = 0; i < 4; i++) {
+            breaker.record(Status.UNAVAILABLE, 0);
+        }
+        assertEquals(CircuitBreakerState.OPEN, breaker.getState());
+        return breaker;
+    }
+}
@@ -0,0 +1,129 @@
+package com.concordium.sdk;
+
+import concordium.ConcordiumP2PRpc;
+import concordium.P2PGrpc;
+import io.grpc.*;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.stub.StreamObserver;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class CompressionConfigTest {
+
+    private static final String VERSION = "4.2.1";
+
+    private static final Metadata.Key<String> ENCODING = Metadata.Key.of("grpc-encoding", Metadata.ASCII_STRING_MARSHALLER);
+    private static final Metadata.Key<String> ACCEPT_ENCODING = Metadata.Key.of("grpc-accept-encoding", Metadata.ASCII_STRING_MARSHALLER);
+
+    private final AtomicReference<String> requestEncoding = new AtomicReference<>();
+    private final AtomicReference<String> acceptEncoding = new AtomicReference<>();
+    private Server server;
+
+    @Before
+    @SneakyThrows
+    public void setUp() {
+        val service = new P2PGrpc.P2PImplBase() {
+            @Override
+            public void peerVersion(ConcordiumP2PRpc.Empty request, StreamObserver<ConcordiumP2PRpc.StringResponse> responseObserver) {
+                responseObserver.onNext(ConcordiumP2PRpc.StringResponse.newBuilder().setValue(VERSION).build());
+                responseObserver.onCompleted();
+            }
+        };
+        server = NettyServerBuilder.forAddress(new InetSocketAddress("localhost", 0))
+                .decompressorRegistry(DecompressorRegistry.getDefaultInstance().with(new Identical(), true))
+                .addService(ServerInterceptors.intercept(service, new ServerInterceptor() {
+                    @Override
+                    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+                        requestEncoding.set(headers.get(ENCODING));
+                        acceptEncoding.set(headers.get(ACCEPT_ENCODING));
+                        call.setCompression(CompressionConfig.GZIP);
+                        return next.startCall(call, headers);
+                    }
+                }))
+                .build()
+                .start();
+    }
+
+    @After
+    public void tearDown() {
+        server.shutdownNow();
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldNotCompressRequestsByDefault() {
+        val client = Client.from(connection(null));
+        assertEquals(VERSION, client.getVersion().toString());
+        assertNull(requestEncoding.get());
+        assertTrue(acceptEncoding.get().contains(CompressionConfig.GZIP));
+        client.close();
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldCompressRequestsWithGzip() {
+        val client = Client.from(connection(CompressionConfig.gzip()));
+        assertEquals(VERSION, client.getVersion().toString());
+        assertEquals(CompressionConfig.GZIP, requestEncoding.get());
+        client.close();
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldRegisterCustomCodec() {
+        val client = Client.from(connection(CompressionConfig.builder()
+                .requestEncoding(Identical.ENCODING)
+                .codec(new Identical())
+                .build()));
+        assertEquals(VERSION, client.getVersion().toString());
+        assertEquals(Identical.ENCODING, requestEncoding.get());
+        assertTrue(acceptEncoding.get().contains(Identical.ENCODING));
+        client.close();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testShouldRejectUnregisteredRequestEncoding() {
+        CompressionConfig.builder().requestEncoding(Identical.ENCODING).build();
+    }
+
+    private Connection connection(CompressionConfig compression) {
+        return Connection.builder()
+                .host("localhost")
+                .port(server.getPort())
+                .credentials(Credentials.from("rpcadmin"))
+                .compression(compression)
+                .build();
+    }
+
+    /**
+     * A codec which does not change the messages, standing in for a custom codec.
+     */
+    private static final class Identical implements Codec {
+        private static final String ENCODING = "x-identical";
+
+        @Override
+        public String getMessageEncoding() {
+            return ENCODING;
+        }
+
+        @Override
+        public OutputStream compress(OutputStream os) {
+            return os;
+        }
+
+        @Override
+        public InputStream decompress(InputStream is) {
+            return is;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.concordium.sdk;
+
+import com.google.common.collect.ImmutableMap;
+import concordium.ConcordiumP2PRpc;
+import concordium.P2PGrpc;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class ConcurrencyLimiterTest {
+
+    private static final String FAST_METHOD = P2PGrpc.getGetConsensusStatusMethod().getFullMethodName();
+    private static final String SLOW_METHOD = P2PGrpc.getGetBlockSummaryMethod().getFullMethodName();
+    private static final long MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    @SneakyThrows
+    public void testShouldFailFastAboveLimit() {
+        val limiter = new ConcurrencyLimiter(policy(2, ConcurrencyLimitPolicy.Mode.FAIL_FAST));
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        limiter.release(FAST_METHOD, Status.OK, MILLISECOND);
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    public void testShouldQueueUntilPermitIsReleased() {
+        val limiter = new ConcurrencyLimiter(policy(1, ConcurrencyLimitPolicy.Mode.BLOCK));
+        assertTrue(limiter.tryAcquire());
+        val granted = new AtomicInteger();
+        assertFalse(limiter.acquireOrQueue(granted::incrementAndGet));
+        assertEquals(0, granted.get());
+        limiter.release(FAST_METHOD, Status.OK, MILLISECOND);
+        assertEquals(1, granted.get());
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    public void testShouldNotGrantRemovedWaiter() {
+        val limiter = new ConcurrencyLimiter(policy(1, ConcurrencyLimitPolicy.Mode.BLOCK));
+        assertTrue(limiter.tryAcquire());
+        val granted = new AtomicInteger();
+        Runnable waiter = granted::incrementAndGet;
+        assertFalse(limiter.acquireOrQueue(waiter));
+        assertTrue(limiter.remove(waiter));
+        limiter.release(FAST_METHOD, Status.OK, MILLISECOND);
+        assertEquals(0, granted.get());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldDecreaseLimitOnOverload() {
+        val limiter = new ConcurrencyLimiter(policy(10, ConcurrencyLimitPolicy.Mode.FAIL_FAST));
+        assertTrue(limiter.tryAcquire());
+        limiter.release(FAST_METHOD, Status.RESOURCE_EXHAUSTED, MILLISECOND);
+        assertEquals(9, limiter.getLimit());
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldIncreaseLimitWhileSaturated() {
+        val limiter = new ConcurrencyLimiter(policy(2, ConcurrencyLimitPolicy.Mode.FAIL_FAST));
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limiter.tryAcquire());
+            assertTrue(limiter.tryAcquire());
+            limiter.release(FAST_METHOD, Status.OK, MILLISECOND);
+            limiter.release(FAST_METHOD, Status.OK, MILLISECOND);
+        }
+        assertTrue(limiter.getLimit() > 2);
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldTrackLatencyPerQuery() {
+        val limiter = new ConcurrencyLimiter(policy(10, ConcurrencyLimitPolicy.Mode.FAIL_FAST));
+        assertTrue(limiter.tryAcquire());
+        limiter.release(FAST_METHOD, Status.OK, MILLISECOND);
+        // a slow query is not overload by itself.
+        assertTrue(limiter.tryAcquire());
+        limiter.release(SLOW_METHOD, Status.OK, 100 * MILLISECOND);
+        assertEquals(10, limiter.getLimit());
+        // but a fast query becoming slow is.
+        assertTrue(limiter.tryAcquire());
+        limiter.release(FAST_METHOD, Status.OK, 100 * MILLISECOND);
+        assertEquals(9, limiter.getLimit());
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldRejectCallsAboveLimit() {
+        val release = new CountDownLatch(1);
+        val started = new CountDownLatch(1);
+        val name = InProcessServerBuilder.generateName();
+        val server = startServer(name, release, started);
+        val channel = limitedChannel(name, ConcurrencyLimitPolicy.Mode.FAIL_FAST);
+        val stub = P2PGrpc.newFutureStub(channel);
+        val first = stub.peerUptime(ConcordiumP2PRpc.Empty.getDefaultInstance());
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        try {
+            P2PGrpc.newBlockingStub(channel).peerUptime(ConcordiumP2PRpc.Empty.getDefaultInstance());
+            fail("Expected the call to be rejected");
+        } catch (StatusRuntimeException e) {
+            assertEquals(Status.Code.RESOURCE_EXHAUSTED, e.getStatus().getCode());
+        }
+        release.countDown();
+        assertEquals(1, first.get(5, TimeUnit.SECONDS).getValue());
+        assertEquals(0, channel.getLimiter().getInFlight());
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldQueueCallsAboveLimitWithoutBlockingCaller() {
+        val release = new CountDownLatch(1);
+        val started = new CountDownLatch(1);
+        val name = InProcessServerBuilder.generateName();
+        val server = startServer(name, release, started);
+        val channel = limitedChannel(name, ConcurrencyLimitPolicy.Mode.BLOCK);
+        val stub = P2PGrpc.newFutureStub(channel).withDeadlineAfter(5, TimeUnit.SECONDS);
+        val first = stub.peerUptime(ConcordiumP2PRpc.Empty.getDefaultInstance());
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        val before = System.nanoTime();
+        val second = stub.peerUptime(ConcordiumP2PRpc.Empty.getDefaultInstance());
+        assertTrue(System.nanoTime() - before < TimeUnit.SECONDS.toNanos(1));
+        assertFalse(second.isDone());
+        release.countDown();
+        assertEquals(1, first.get(5, TimeUnit.SECONDS).getValue());
+        assertEquals(1, second.get(5, TimeUnit.SECONDS).getValue());
+        assertEquals(0, channel.getLimiter().getInFlight());
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldGiveUpWaitingAtDeadline() {
+        val release = new CountDownLatch(1);
+        val started = new CountDownLatch(1);
+        val name = InProcessServerBuilder.generateName();
+        val server = startServer(name, release, started);
+        val channel = limitedChannel(name, ConcurrencyLimitPolicy.Mode.BLOCK);
+        val stub = P2PGrpc.newFutureStub(channel);
+        val first = stub.peerUptime(ConcordiumP2PRpc.Empty.getDefaultInstance());
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        val second = stub.withDeadlineAfter(20, TimeUnit.MILLISECONDS).peerUptime(ConcordiumP2PRpc.Empty.getDefaultInstance());
+        try {
+            second.get(5, TimeUnit.SECONDS);
+            fail("Expected the call to exceed its deadline");
+        } catch (ExecutionException e) {
+            assertEquals(Status.Code.DEADLINE_EXCEEDED, Status.fromThrowable(e.getCause()).getCode());
+        }
+        release.countDown();
+        assertEquals(1, first.get(5, TimeUnit.SECONDS).getValue());
+        assertEquals(0, channel.getLimiter().getInFlight());
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @SneakyThrows
+    private static Server startServer(String name, CountDownLatch release, CountDownLatch started) {
+        return InProcessServerBuilder.forName(name)
+                .executor(Executors.newCachedThreadPool())
+                .addService(new P2PGrpc.P2PImplBase() {
+                    @Override
+                    @SneakyThrows
+                    public void peerUptime(ConcordiumP2PRpc.Empty request, StreamObserver<ConcordiumP2PRpc.NumberResponse> responseObserver) {
+                        started.countDown();
+                        release.await(5, TimeUnit.SECONDS);
+                        responseObserver.onNext(ConcordiumP2PRpc.NumberResponse.newBuilder().setValue(1).build());
+                        responseObserver.onCompleted();
+                    }
+                })
+                .build()
+                .start();
+    }
+
+    private static PooledChannel limitedChannel(String name, ConcurrencyLimitPolicy.Mode mode) {
+        val node = new PooledChannel.Node(name, InProcessChannelBuilder.forName(name).build(), null);
+        return new PooledChannel(Collections.singletonList(node), ImmutableMap.of(), null, policy(1, mode));
+    }
+
+    private static ConcurrencyLimitPolicy policy(int initialLimit, ConcurrencyLimitPolicy.Mode mode) {
+        return ConcurrencyLimitPolicy.builder()
+                .initialLimit(initialLimit)
+                .mode(mode)
+                .build();
+    }
+}
@@ -0,0 +1,142 @@
+package com.concordium.sdk;
+
+import io.grpc.CallCredentials;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class CredentialsTest {
+
+    private static final Metadata.Key<String> AUTHENTICATION = Metadata.Key.of(Header.AUTHENTICATION_HEADER, Metadata.ASCII_STRING_MARSHALLER);
+    private static final Metadata.Key<String> HEADER = Metadata.Key.of("header", Metadata.ASCII_STRING_MARSHALLER);
+
+    @Test
+    public void testShouldApplyHeaders() {
+        val credentials = Credentials.builder()
+                .authenticationToken("rpcadmin")
+                .withAdditionalHeader(Header.from("header", "value"))
+                .build();
+        val metadata = apply(credentials);
+        assertEquals("rpcadmin", metadata.get(AUTHENTICATION));
+        assertEquals("value", metadata.get(HEADER));
+    }
+
+    @Test
+    public void testShouldRotateAuthenticationToken() {
+        val credentials = Credentials.builder()
+                .authenticationToken("old")
+                .withAdditionalHeader(Header.from("header", "value"))
+                .build();
+        credentials.setAuthenticationToken("new");
+        val metadata = apply(credentials);
+        assertEquals("new", credentials.getAuthenticationToken());
+        assertEquals("new", metadata.get(AUTHENTICATION));
+        assertEquals("value", metadata.get(HEADER));
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldApplyConsistentTokensWhileRotating() {
+        val credentials = Credentials.from("token-0");
+        val rotations = 1000;
+        val running = new AtomicBoolean(true);
+        val failure = new AtomicReference<String>();
+        val threads = 8;
+        val done = new CountDownLatch(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int t = 0; t < threads; t++) {
+                executor.execute(() -> {
+                    while (running.get()) {
+                        val token = apply(credentials).get(AUTHENTICATION);
+                        if (token == null || !token.startsWith("token-")) {
+                            failure.set(token);
+                        }
+                    }
+                    done.countDown();
+                });
+            }
+            for (int i = 1; i <= rotations; i++) {
+                credentials.setAuthenticationToken("token-" + i);
+            }
+            running.set(false);
+            done.await();
+        } finally {
+            executor.shutdownNow();
+        }
+        assertNull(failure.get());
+        assertEquals("token-" + rotations, apply(credentials).get(AUTHENTICATION));
+    }
+
+    /**
+     * Applying the credentials to a request must not wait for other requests, nor for a rotation of the token,
+     * so a shared {@link Client} does not serialize its requests on the credentials.
+     */
+    @Test
+    @SneakyThrows
+    public void testShouldApplyWhileOtherRequestIsBeingApplied() {
+        val credentials = Credentials.from("old");
+        val applying = new CountDownLatch(1);
+        val release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            // A request whose headers are being applied, e.g. by a slow interceptor.
+            executor.execute(() -> credentials.applyRequestMetadata(null, Runnable::run, new CallCredentials.MetadataApplier() {
+                @Override
+                @SneakyThrows
+                public void apply(Metadata headers) {
+                    applying.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                }
+
+                @Override
+                public void fail(Status status) {
+                }
+            }));
+            assertTrue(applying.await(5, TimeUnit.SECONDS));
+
+            val others = new ArrayList<Future<String>>();
+            for (int i = 0; i < 8; i++) {
+                others.add(executor.submit(() -> apply(credentials).get(AUTHENTICATION)));
+            }
+            val rotation = executor.submit(() -> credentials.setAuthenticationToken("new"));
+            for (Future<String> other : others) {
+                assertTrue(other.get(1, TimeUnit.SECONDS).matches("old|new"));
+            }
+            rotation.get(1, TimeUnit.SECONDS);
+            assertEquals("new", apply(credentials).get(AUTHENTICATION));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static Metadata apply(Credentials credentials) {
+        val applied = new AtomicReference<Metadata>();
+        credentials.applyRequestMetadata(null, Runnable::run, new CallCredentials.MetadataApplier() {
+            @Override
+            public void apply(Metadata headers) {
+                applied.set(headers);
+            }
+
+            @Override
+            public void fail(Status status) {
+                throw status.asRuntimeException();
+            }
+        });
+        return applied.get();
+    }
+}
@@ -0,0 +1,113 @@
+package com.concordium.sdk;
+
+import com.concordium.sdk.exceptions.BlockNotFoundException;
+import com.concordium.sdk.transactions.Hash;
+import concordium.ConcordiumP2PRpc;
+import concordium.P2PGrpc;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.*;
+
+public class DeadlinePolicyTest {
+
+    private static final Hash BLOCK_HASH = Hash.from("9741d166fdc9b70a183d6c22f79e6f87c236f56c545c9b5f1114847fecc7ba39");
+    private static final long RESPONSE_DELAY_MS = 300;
+
+    private Server server;
+    private ExecutorService serverExecutor;
+    private Client client;
+
+    @Before
+    @SneakyThrows
+    public void setUp() {
+        val serverName = InProcessServerBuilder.generateName();
+        serverExecutor = Executors.newCachedThreadPool();
+        server = InProcessServerBuilder.forName(serverName)
+                .executor(serverExecutor)
+                .addService(new P2PGrpc.P2PImplBase() {
+                    @Override
+                    @SneakyThrows
+                    public void getConsensusStatus(ConcordiumP2PRpc.Empty request, StreamObserver<ConcordiumP2PRpc.JsonResponse> responseObserver) {
+                        Thread.sleep(RESPONSE_DELAY_MS);
+                        responseObserver.onNext(ConcordiumP2PRpc.JsonResponse.newBuilder().setValue("null").build());
+                        responseObserver.onCompleted();
+                    }
+
+                    @Override
+                    @SneakyThrows
+                    public void getBlockSummary(ConcordiumP2PRpc.BlockHash request, StreamObserver<ConcordiumP2PRpc.JsonResponse> responseObserver) {
+                        Thread.sleep(RESPONSE_DELAY_MS);
+                        responseObserver.onNext(ConcordiumP2PRpc.JsonResponse.newBuilder().setValue("null").build());
+                        responseObserver.onCompleted();
+                    }
+                })
+                .build()
+                .start();
+        val connection = Connection.builder()
+                .host("localhost")
+                .port(10000)
+                .timeout(5000)
+                .credentials(Credentials.from("rpcadmin"))
+                .deadlinePolicy(DeadlinePolicy.builder()
+                        .timeout(P2PGrpc.getGetConsensusStatusMethod(), Duration.ofMillis(50))
+                        .build())
+                .build();
+        client = new Client(connection, InProcessChannelBuilder.forName(serverName).build());
+    }
+
+    @After
+    public void tearDown() {
+        client.close();
+        server.shutdownNow();
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testShouldApplyTimeoutOfPolicy() {
+        try {
+            client.getConsensusStatus();
+            fail("Expected the deadline to be exceeded");
+        } catch (StatusRuntimeException e) {
+            assertEquals(Status.Code.DEADLINE_EXCEEDED, e.getStatus().getCode());
+        }
+    }
+
+    @Test
+    public void testShouldOverrideTimeoutOfPolicy() {
+        assertNull(client.getConsensusStatus(Duration.ofSeconds(5)));
+    }
+
+    @Test(expected = BlockNotFoundException.class)
+    public void testShouldFallBackToTimeoutOfConnection() throws BlockNotFoundException {
+        client.getBlockSummary(BLOCK_HASH);
+    }
+
+    @Test
+    public void testShouldApplyTimeoutOfOverload() throws BlockNotFoundException {
+        try {
+            client.getBlockSummary(BLOCK_HASH, Duration.ofMillis(50));
+            fail("Expected the deadline to be exceeded");
+        } catch (StatusRuntimeException e) {
+            assertEquals(Status.Code.DEADLINE_EXCEEDED, e.getStatus().getCode());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testShouldRejectNonPositiveTimeouts() {
+        DeadlinePolicy.builder().timeout(P2PGrpc.getGetConsensusStatusMethod(), Duration.ZERO).build();
+    }
+}
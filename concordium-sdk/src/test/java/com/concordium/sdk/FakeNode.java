@@ -0,0 +1,153 @@
+package com.concordium.sdk;
+
+import concordium.ConcordiumP2PRpc;
+import concordium.P2PGrpc;
+import io.grpc.*;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.SneakyThrows;
+import lombok.val;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A fake node serving canned responses over the in-process transport, for testing {@link Client} and
+ * {@link AsyncClient} under load without a live node.
+ * <p>
+ * Every response is delayed by the latency plus a random jitter, without blocking the threads of the server,
+ * and fails with the error at the error rate. Methods without a response fail with {@link Status#UNIMPLEMENTED}.
+ * <pre>
+ * try (FakeNode node = FakeNode.builder()
+ *         .json(P2PGrpc.getGetAncestorsMethod(), "[...]")
+ *         .latency(Duration.ofMillis(5))
+ *         .errorRate(0.01)
+ *         .build()) {
+ *     Client client = new Client(connection, node.newChannel());
+ *     ...
+ * }
+ * </pre>
+ */
+final class FakeNode implements AutoCloseable {
+
+    private final Map<String, Object> responses = new HashMap<>();
+    private final long latencyNanos;
+    private final long jitterNanos;
+    private final double errorRate;
+    private final Status error;
+    private final String name = InProcessServerBuilder.generateName();
+    private final ScheduledExecutorService scheduler;
+    private final Server server;
+    private final AtomicLong requests = new AtomicLong();
+
+    /**
+     * @param responses the response of each method.
+     * @param latency   the delay of every response. Defaults to none.
+     * @param jitter    the maximum random delay added to the latency. Defaults to none.
+     * @param errorRate the fraction of the requests failing with the error. Defaults to none.
+     * @param error     the status of the failing requests. Defaults to {@link Status#UNAVAILABLE}.
+     */
+    @Builder
+    @SneakyThrows
+    FakeNode(@Singular Map<MethodDescriptor<?, ?>, Object> responses,
+             Duration latency,
+             Duration jitter,
+             double errorRate,
+             Status error) {
+        responses.forEach((method, response) -> this.responses.put(method.getFullMethodName(), response));
+        this.latencyNanos = Objects.isNull(latency) ? 0 : latency.toNanos();
+        this.jitterNanos = Objects.isNull(jitter) ? 0 : jitter.toNanos();
+        this.errorRate = errorRate;
+        this.error = Objects.isNull(error) ? Status.UNAVAILABLE : error;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            val thread = new Thread(r, "fake-node-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        val service = ServerServiceDefinition.builder(P2PGrpc.getServiceDescriptor());
+        for (MethodDescriptor<?, ?> method : P2PGrpc.getServiceDescriptor().getMethods()) {
+            service.addMethod(handle(method));
+        }
+        this.server = InProcessServerBuilder.forName(name)
+                .addService(service.build())
+                .build()
+                .start();
+    }
+
+    /**
+     * @return a new channel to the node. The caller must shut it down.
+     */
+    ManagedChannel newChannel() {
+        return InProcessChannelBuilder.forName(name).build();
+    }
+
+    /**
+     * @return the number of requests received by the node.
+     */
+    long getRequests() {
+        return requests.get();
+    }
+
+    @Override
+    public void close() {
+        server.shutdownNow();
+        scheduler.shutdownNow();
+    }
+
+    private <ReqT, RespT> ServerMethodDefinition<ReqT, RespT> handle(MethodDescriptor<ReqT, RespT> method) {
+        return ServerMethodDefinition.create(method, ServerCalls.asyncUnaryCall(
+                (request, responseObserver) -> respond(method.getFullMethodName(), responseObserver)));
+    }
+
+    private <RespT> void respond(String method, StreamObserver<RespT> responseObserver) {
+        requests.incrementAndGet();
+        val random = ThreadLocalRandom.current();
+        val delayNanos = latencyNanos + (jitterNanos > 0 ? random.nextLong(jitterNanos) : 0);
+        val fail = random.nextDouble() < errorRate;
+        Runnable reply = () -> {
+            if (((ServerCallStreamObserver<RespT>) responseObserver).isCancelled()) {
+                return;
+            }
+            @SuppressWarnings("unchecked")
+            val response = (RespT) responses.get(method);
+            if (Objects.isNull(response)) {
+                responseObserver.onError(Status.UNIMPLEMENTED.withDescription("No response for " + method).asRuntimeException());
+            } else if (fail) {
+                responseObserver.onError(error.asRuntimeException());
+            } else {
+                responseObserver.onNext(response);
+                responseObserver.onCompleted();
+            }
+        };
+        if (delayNanos > 0) {
+            scheduler.schedule(reply, delayNanos, TimeUnit.NANOSECONDS);
+        } else {
+            reply.run();
+        }
+    }
+
+    static class FakeNodeBuilder {
+        /**
+         * Respond to the method with the JSON.
+         *
+         * @param method a method responding with JSON.
+         * @param json   the JSON.
+         * @return this builder.
+         */
+        FakeNodeBuilder json(MethodDescriptor<?, ConcordiumP2PRpc.JsonResponse> method, String json) {
+            return response(method, ConcordiumP2PRpc.JsonResponse.newBuilder().setValue(json).build());
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.concordium.sdk;
+
+import com.concordium.sdk.transactions.Hash;
+import concordium.P2PGrpc;
+import io.grpc.ManagedChannel;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class FakeNodeTest {
+
+    private static final Hash BLOCK_HASH = Hash.from("9741d166fdc9b70a183d6c22f79e6f87c236f56c545c9b5f1114847fecc7ba39");
+    private static final String ANCESTORS = "[\"" + BLOCK_HASH.asHex() + "\"]";
+    private static final Duration LATENCY = Duration.ofMillis(5);
+
+    private final Connection connection = Connection.builder()
+            .host("localhost")
+            .port(10000)
+            .credentials(Credentials.from("rpcadmin"))
+            .build();
+    private FakeNode node;
+    private ManagedChannel channel;
+
+    @After
+    public void tearDown() {
+        channel.shutdownNow();
+        node.close();
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldServeResponsesAfterLatency() {
+        start(FakeNode.builder()
+                .json(P2PGrpc.getGetAncestorsMethod(), ANCESTORS)
+                .latency(Duration.ofMillis(50)));
+        val client = new Client(connection, channel);
+
+        val startNanos = System.nanoTime();
+        assertEquals(BLOCK_HASH, client.getAncestors(BLOCK_HASH, 1).get(0));
+        assertTrue(System.nanoTime() - startNanos >= Duration.ofMillis(50).toNanos());
+        assertEquals(1, node.getRequests());
+    }
+
+    @Test
+    public void testShouldInjectErrors() {
+        start(FakeNode.builder()
+                .json(P2PGrpc.getGetAncestorsMethod(), ANCESTORS)
+                .errorRate(1)
+                .error(Status.RESOURCE_EXHAUSTED));
+        val client = new Client(connection, channel);
+        try {
+            client.getAncestors(BLOCK_HASH, 1);
+            fail("Expected the request to fail");
+        } catch (StatusRuntimeException e) {
+            assertEquals(Status.Code.RESOURCE_EXHAUSTED, e.getStatus().getCode());
+        } catch (Exception e) {
+            fail("Unexpected " + e);
+        }
+    }
+
+    @Test
+    public void testShouldRejectMethodsWithoutResponse() {
+        start(FakeNode.builder());
+        val client = new Client(connection, channel);
+        try {
+            client.getVersion();
+            fail("Expected the request to fail");
+        } catch (StatusRuntimeException e) {
+            assertEquals(Status.Code.UNIMPLEMENTED, e.getStatus().getCode());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldDriveClientAtTargetRate() {
+        start(FakeNode.builder()
+                .json(P2PGrpc.getGetAncestorsMethod(), ANCESTORS)
+                .latency(LATENCY)
+                .jitter(LATENCY)
+                .errorRate(0.1));
+        val client = new Client(connection, channel);
+
+        val report = LoadGenerator.builder()
+                .requestsPerSecond(200)
+                .duration(Duration.ofSeconds(1))
+                .threads(4)
+                .build()
+                .run(() -> client.getAncestors(BLOCK_HASH, 1));
+
+        assertEquals(200, report.getCompleted());
+        assertEquals(200, node.getRequests());
+        assertTrue(report.getErrors() > 0 && report.getErrors() < 60);
+        assertTrue(report.getLatencyAtPercentile(50).compareTo(LATENCY) >= 0);
+        assertTrue(report.getThroughput() > 100);
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldDriveAsyncClientAtTargetRate() {
+        start(FakeNode.builder()
+                .json(P2PGrpc.getGetAncestorsMethod(), ANCESTORS)
+                .latency(LATENCY));
+        val client = new AsyncClient(connection, channel, ForkJoinPool.commonPool());
+
+        val report = LoadGenerator.builder()
+                .requestsPerSecond(200)
+                .duration(Duration.ofSeconds(1))
+                .build()
+                .runAsync(() -> client.getAncestors(BLOCK_HASH, 1));
+
+        assertEquals(200, report.getCompleted());
+        assertEquals(0, report.getErrors());
+        assertTrue(report.getLatencyAtPercentile(50).compareTo(LATENCY) >= 0);
+    }
+
+    private void start(FakeNode.FakeNodeBuilder builder) {
+        node = builder.build();
+        channel = node.newChannel();
+    }
+}
@@ -0,0 +1,157 @@
+package com.concordium.sdk;
+
+import com.google.common.collect.ImmutableMap;
+import concordium.ConcordiumP2PRpc;
+import concordium.P2PGrpc;
+import io.grpc.*;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class HedgingCallTest {
+
+    private final List<Server> servers = new ArrayList<>();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PooledChannel channel;
+
+    @Before
+    @SneakyThrows
+    public void setUp() {
+        val nodes = new ArrayList<PooledChannel.Node>();
+        nodes.add(startNode(true));
+        nodes.add(startNode(false));
+        val policy = HedgingPolicy.builder().initialDelay(Duration.ofMillis(20)).build();
+        channel = new PooledChannel(nodes, ImmutableMap.of(P2PGrpc.getPeerUptimeMethod(), policy));
+    }
+
+    @After
+    public void tearDown() {
+        release.countDown();
+        channel.shutdownNow();
+        for (Server server : servers) {
+            server.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testShouldAnswerFromFastNode() {
+        val stub = P2PGrpc.newBlockingStub(channel);
+        for (int i = 0; i < 20; i++) {
+            val response = stub.withDeadlineAfter(2, TimeUnit.SECONDS).peerUptime(ConcordiumP2PRpc.Empty.getDefaultInstance());
+            assertEquals(1, response.getValue());
+        }
+        val statistics = channel.getHedging().get(P2PGrpc.getPeerUptimeMethod().getFullMethodName()).getStatistics();
+        assertEquals(20, statistics.getCalls());
+        assertTrue(statistics.getHedgesFired() > 0);
+        assertTrue(statistics.getHedgesWon() > 0);
+        assertTrue(statistics.getHedgesWon() <= statistics.getHedgesFired());
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldNotCancelHedgeBeforeItIsStarted() {
+        val starts = new AtomicInteger();
+        val answered = new CountDownLatch(1);
+        val failure = new AtomicReference<Throwable>();
+        // The primary is answered while the hedge is being started.
+        val interceptor = new ClientInterceptor() {
+            @Override
+            public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+                return new ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT>(next.newCall(method, callOptions)) {
+                    @Override
+                    @SneakyThrows
+                    public void start(Listener<RespT> responseListener, Metadata headers) {
+                        if (starts.incrementAndGet() == 2) {
+                            release.countDown();
+                            answered.await(2, TimeUnit.SECONDS);
+                        }
+                        try {
+                            super.start(responseListener, headers);
+                        } catch (RuntimeException e) {
+                            failure.set(e);
+                            throw e;
+                        }
+                    }
+                };
+            }
+        };
+        val nodes = new ArrayList<PooledChannel.Node>();
+        nodes.add(startNode(true, interceptor));
+        nodes.add(startNode(true, interceptor));
+        val policy = HedgingPolicy.builder().initialDelay(Duration.ofMillis(20)).build();
+        val racing = new PooledChannel(nodes, ImmutableMap.of(P2PGrpc.getPeerUptimeMethod(), policy));
+        try {
+            val response = new AtomicReference<ConcordiumP2PRpc.NumberResponse>();
+            P2PGrpc.newStub(racing).withDeadlineAfter(2, TimeUnit.SECONDS).peerUptime(
+                    ConcordiumP2PRpc.Empty.getDefaultInstance(),
+                    new StreamObserver<ConcordiumP2PRpc.NumberResponse>() {
+                        @Override
+                        public void onNext(ConcordiumP2PRpc.NumberResponse value) {
+                            response.set(value);
+                        }
+
+                        @Override
+                        public void onError(Throwable t) {
+                            answered.countDown();
+                        }
+
+                        @Override
+                        public void onCompleted() {
+                            answered.countDown();
+                        }
+                    });
+            assertTrue(answered.await(2, TimeUnit.SECONDS));
+            assertEquals(1, response.get().getValue());
+            // The hedge is started and then cancelled.
+            Thread.sleep(100);
+            assertEquals(2, starts.get());
+            assertNull(failure.get());
+            assertEquals(0, nodes.get(0).getInFlight() + nodes.get(1).getInFlight());
+        } finally {
+            racing.shutdownNow();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testShouldRejectHedgingOfNonIdempotentMethods() {
+        new PooledChannel(channel.getNodes(), ImmutableMap.<MethodDescriptor<?, ?>, HedgingPolicy>of(
+                P2PGrpc.getSendTransactionMethod(), HedgingPolicy.defaults()));
+    }
+
+    @SneakyThrows
+    private PooledChannel.Node startNode(boolean slow, ClientInterceptor... interceptors) {
+        val name = InProcessServerBuilder.generateName();
+        servers.add(InProcessServerBuilder.forName(name)
+                .executor(Executors.newCachedThreadPool())
+                .addService(new P2PGrpc.P2PImplBase() {
+                    @Override
+                    @SneakyThrows
+                    public void peerUptime(ConcordiumP2PRpc.Empty request, StreamObserver<ConcordiumP2PRpc.NumberResponse> responseObserver) {
+                        if (slow) {
+                            release.await(5, TimeUnit.SECONDS);
+                        }
+                        responseObserver.onNext(ConcordiumP2PRpc.NumberResponse.newBuilder().setValue(1).build());
+                        responseObserver.onCompleted();
+                    }
+                })
+                .build()
+                .start());
+        return new PooledChannel.Node(name, InProcessChannelBuilder.forName(name).intercept(interceptors).build(), null);
+    }
+}
@@ -0,0 +1,205 @@
+package com.concordium.sdk;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.val;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Starts requests at a target rate for a duration and reports their latencies and the throughput,
+ * e.g. against a {@link FakeNode}.
+ * <p>
+ * The requests are started at fixed intervals whether or not the earlier ones have completed, like requests from
+ * independent users, and the latency of a request is measured from when it was due. Hence a client which cannot keep
+ * up shows up as increasing latencies instead of a lower rate of requests.
+ */
+final class LoadGenerator {
+
+    private final int requestsPerSecond;
+    private final Duration duration;
+    private final int threads;
+
+    /**
+     * @param requestsPerSecond the rate of requests.
+     * @param duration          for how long to start requests.
+     * @param threads           the number of threads making blocking requests i.e. the maximum number of
+     *                          concurrent blocking requests. Defaults to 8.
+     */
+    @Builder
+    LoadGenerator(int requestsPerSecond, Duration duration, int threads) {
+        if (requestsPerSecond <= 0) {
+            throw new IllegalArgumentException("Requests per second must be positive");
+        }
+        this.requestsPerSecond = requestsPerSecond;
+        this.duration = duration;
+        this.threads = threads > 0 ? threads : 8;
+    }
+
+    /**
+     * Make blocking requests e.g. with a {@link Client} from the threads of the generator.
+     *
+     * @param request the request.
+     * @return the report when all requests have completed.
+     */
+    Report run(Request request) throws InterruptedException {
+        val executor = Executors.newFixedThreadPool(threads);
+        try {
+            return generate(report -> dueNanos -> executor.execute(() -> {
+                try {
+                    request.call();
+                    report.completed(dueNanos, true);
+                } catch (Exception e) {
+                    report.completed(dueNanos, false);
+                }
+            }));
+        } finally {
+            shutdown(executor);
+        }
+    }
+
+    /**
+     * Make asynchronous requests e.g. with an {@link AsyncClient}. The requests are started from the thread
+     * of the generator and there is no limit on the number of concurrent requests.
+     *
+     * @param request the request.
+     * @return the report when all requests have completed.
+     */
+    Report runAsync(Supplier<? extends CompletionStage<?>> request) throws InterruptedException {
+        return generate(report -> dueNanos -> {
+            try {
+                request.get().whenComplete((result, e) -> report.completed(dueNanos, e == null));
+            } catch (RuntimeException e) {
+                report.completed(dueNanos, false);
+            }
+        });
+    }
+
+    private Report generate(Function<Report, Starter> starterOf) throws InterruptedException {
+        val report = new Report();
+        val starter = starterOf.apply(report);
+        val intervalNanos = TimeUnit.SECONDS.toNanos(1) / requestsPerSecond;
+        val requests = duration.toNanos() / intervalNanos;
+        val startNanos = System.nanoTime();
+        for (long i = 0; i < requests; i++) {
+            val dueNanos = startNanos + i * intervalNanos;
+            long waitNanos;
+            while ((waitNanos = dueNanos - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+            report.started();
+            starter.start(dueNanos);
+        }
+        report.awaitCompletion();
+        report.elapsedNanos = System.nanoTime() - startNanos;
+        return report;
+    }
+
+    private static void shutdown(ExecutorService executor) throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * A blocking request.
+     */
+    @FunctionalInterface
+    interface Request {
+        void call() throws Exception;
+    }
+
+    @FunctionalInterface
+    private interface Starter {
+        void start(long dueNanos);
+    }
+
+    /**
+     * The outcome of a run of a {@link LoadGenerator}.
+     */
+    static final class Report {
+        /**
+         * The latencies of all requests in nanoseconds, measured from when they were due.
+         */
+        @Getter
+        private final Histogram latency = new Histogram();
+        private final AtomicLong errors = new AtomicLong();
+        private long started;
+        private long completed;
+        private long elapsedNanos;
+
+        /**
+         * @return the number of completed requests, successful or not.
+         */
+        long getCompleted() {
+            return latency.getCount();
+        }
+
+        /**
+         * @return the number of requests which failed.
+         */
+        long getErrors() {
+            return errors.get();
+        }
+
+        /**
+         * @return the time from the first request was due until the last one completed.
+         */
+        Duration getElapsed() {
+            return Duration.ofNanos(elapsedNanos);
+        }
+
+        /**
+         * @return the completed requests per second.
+         */
+        double getThroughput() {
+            return getCompleted() * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        }
+
+        /**
+         * @param percentile the percentile between 0 and 100.
+         * @return the latency at the percentile.
+         */
+        Duration getLatencyAtPercentile(double percentile) {
+            return Duration.ofNanos(latency.getValueAtPercentile(percentile));
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d requests, %d errors, %.1f requests/s, latency p50 %s p99 %s max %s",
+                    getCompleted(), getErrors(), getThroughput(),
+                    getLatencyAtPercentile(50), getLatencyAtPercentile(99), Duration.ofNanos(latency.getMax()));
+        }
+
+        private synchronized void started() {
+            started++;
+        }
+
+        private void completed(long dueNanos, boolean success) {
+            if (!success) {
+                errors.incrementAndGet();
+            }
+            latency.record(System.nanoTime() - dueNanos);
+            synchronized (this) {
+                if (++completed == started) {
+                    notifyAll();
+                }
+            }
+        }
+
+        private synchronized void awaitCompletion() throws InterruptedException {
+            while (completed < started) {
+                wait();
+            }
+        }
+    }
+}
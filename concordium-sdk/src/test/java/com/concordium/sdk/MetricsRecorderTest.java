@@ -0,0 +1,144 @@
+package com.concordium.sdk;
+
+import com.concordium.sdk.transactions.Hash;
+import concordium.ConcordiumP2PRpc;
+import concordium.P2PGrpc;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class MetricsRecorderTest {
+
+    private static final Hash BLOCK_HASH = Hash.from("9741d166fdc9b70a183d6c22f79e6f87c236f56c545c9b5f1114847fecc7ba39");
+
+    private final MetricsRecorder metrics = new MetricsRecorder();
+    private Server server;
+    private ManagedChannel channel;
+    private Connection connection;
+
+    @Before
+    @SneakyThrows
+    public void setUp() {
+        val serverName = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(serverName)
+                .directExecutor()
+                .addService(new P2PGrpc.P2PImplBase() {
+                    @Override
+                    public void getAncestors(ConcordiumP2PRpc.BlockHashAndAmount request, StreamObserver<ConcordiumP2PRpc.JsonResponse> responseObserver) {
+                        responseObserver.onNext(ConcordiumP2PRpc.JsonResponse.newBuilder()
+                                .setValue("[\"" + request.getBlockHash() + "\"]")
+                                .build());
+                        responseObserver.onCompleted();
+                    }
+
+                    @Override
+                    public void peerVersion(ConcordiumP2PRpc.Empty request, StreamObserver<ConcordiumP2PRpc.StringResponse> responseObserver) {
+                        responseObserver.onError(Status.UNAVAILABLE.asRuntimeException());
+                    }
+                })
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(serverName).directExecutor().build();
+        connection = Connection.builder()
+                .host("localhost")
+                .port(10000)
+                .credentials(Credentials.from("rpcadmin"))
+                .metrics(metrics)
+                .build();
+    }
+
+    @After
+    public void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldRecordRequestsAndDecoding() {
+        val client = new Client(connection, channel);
+        client.getAncestors(BLOCK_HASH, 1);
+        client.getAncestors(BLOCK_HASH, 1);
+
+        val ancestors = metrics.get(P2PGrpc.getGetAncestorsMethod()).get();
+        assertEquals(2, ancestors.getCompleted());
+        assertEquals(0, ancestors.getInFlight());
+        assertEquals(0, ancestors.getErrors());
+        assertEquals(Long.valueOf(2), ancestors.getStatusCodes().get(Status.Code.OK));
+        assertEquals(2, ancestors.getResponseSize().getCount());
+        assertTrue(ancestors.getResponseSize().getMax() > BLOCK_HASH.asHex().length());
+        assertEquals(2, ancestors.getDecodeTime().getCount());
+    }
+
+    @Test
+    public void testShouldRecordErrorCodes() {
+        val client = new Client(connection, channel);
+        try {
+            client.getVersion();
+            fail("Expected the request to fail");
+        } catch (StatusRuntimeException e) {
+            assertEquals(Status.Code.UNAVAILABLE, e.getStatus().getCode());
+        }
+
+        val version = metrics.get(P2PGrpc.getPeerVersionMethod()).get();
+        assertEquals(1, version.getErrors());
+        assertEquals(Long.valueOf(1), version.getStatusCodes().get(Status.Code.UNAVAILABLE));
+        assertEquals(0, version.getInFlight());
+        assertEquals(0, version.getResponseSize().getCount());
+        assertEquals(0, version.getDecodeTime().getCount());
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldRecordDecodingOfAsyncClient() {
+        val client = new AsyncClient(connection, channel, ForkJoinPool.commonPool());
+        client.getAncestors(BLOCK_HASH, 1).get();
+
+        val ancestors = metrics.get(P2PGrpc.getGetAncestorsMethod()).get();
+        assertEquals(1, ancestors.getCompleted());
+        assertEquals(1, ancestors.getDecodeTime().getCount());
+        assertFalse(metrics.get(P2PGrpc.getGetBlockSummaryMethod()).isPresent());
+    }
+
+    @Test
+    public void testHistogramPercentiles() {
+        val histogram = new Histogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1000, histogram.getMax());
+        assertEquals(500.5, histogram.getMean(), 0.001);
+        assertEquals(1, histogram.getValueAtPercentile(0));
+        assertEquals(1000, histogram.getValueAtPercentile(100));
+        assertWithinBucket(500, histogram.getValueAtPercentile(50));
+        assertWithinBucket(990, histogram.getValueAtPercentile(99));
+    }
+
+    @Test
+    public void testHistogramBuckets() {
+        for (long value : new long[]{0, 7, 8, 9, 15, 16, 1000, 123_456_789, Long.MAX_VALUE}) {
+            val index = Histogram.indexOf(value);
+            assertTrue(value <= Histogram.upperBoundOf(index));
+            assertTrue(index == 0 || value > Histogram.upperBoundOf(index - 1));
+        }
+    }
+
+    private static void assertWithinBucket(long expected, long actual) {
+        assertTrue(actual >= expected);
+        assertTrue(actual <= expected + expected / Histogram.SUB_BUCKETS);
+    }
+}
@@ -0,0 +1,127 @@
+package com.concordium.sdk;
+
+import com.concordium.sdk.crypto.SHA256;
+import com.concordium.sdk.exceptions.ModuleNotFoundException;
+import com.concordium.sdk.responses.modulelist.ModuleRef;
+import com.concordium.sdk.transactions.Hash;
+import com.google.protobuf.ByteString;
+import concordium.ConcordiumP2PRpc;
+import concordium.P2PGrpc;
+import io.grpc.ManagedChannel;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ModuleCacheTest {
+
+    private static final Hash BLOCK = Hash.from("9741d166fdc9b70a183d6c22f79e6f87c236f56c545c9b5f1114847fecc7ba39");
+    private static final Hash OTHER_BLOCK = Hash.from("0000000000000000000000000000000000000000000000000000000000000001");
+    private static final byte[] SOURCE = {0, 0, 0, 1, 0, 0, 0, 8, 0, 97, 115, 109, 1, 0, 0, 0};
+    private static final ModuleRef MODULE = ModuleRef.from(SHA256.hash(SOURCE));
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private final List<FakeNode> nodes = new ArrayList<>();
+    private final List<ManagedChannel> channels = new ArrayList<>();
+
+    @After
+    public void tearDown() {
+        channels.forEach(ManagedChannel::shutdownNow);
+        nodes.forEach(FakeNode::close);
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldReturnCachedSourceRegardlessOfBlock() {
+        val cache = ModuleCache.defaults();
+        val node = node(SOURCE);
+        val client = client(node, cache);
+
+        val source = client.getModuleSource(MODULE, BLOCK);
+        assertArrayEquals(SOURCE, source.getBytes());
+        assertSame(source, client.getModuleSource(MODULE, OTHER_BLOCK));
+        assertEquals(1, node.getRequests());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldReadSourcesFromDirectory() {
+        val directory = folder.getRoot().toPath();
+        client(node(SOURCE), ModuleCache.builder().directory(directory).build()).getModuleSource(MODULE, BLOCK);
+
+        val cache = ModuleCache.builder().directory(directory).build();
+        val offline = client(FakeNode.builder().build(), cache);
+        assertArrayEquals(SOURCE, offline.getModuleSource(MODULE, BLOCK).getBytes());
+        assertEquals(1, cache.getHits());
+
+        cache.invalidateAll();
+        assertTrue(cache.get(MODULE).isPresent());
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldDeleteSourcesNotMatchingTheirReference() {
+        val directory = folder.getRoot().toPath();
+        val file = directory.resolve(MODULE.asHex() + ".wasm");
+        Files.write(file, new byte[]{0, 97, 115, 109});
+
+        val cache = ModuleCache.builder().directory(directory).build();
+        assertFalse(cache.get(MODULE).isPresent());
+        assertFalse(Files.exists(file));
+        assertEquals(1, cache.getMisses());
+
+        // The source queried from the node replaces the file.
+        client(node(SOURCE), cache).getModuleSource(MODULE, BLOCK);
+        assertArrayEquals(SOURCE, Files.readAllBytes(file));
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldNotCacheMissingModules() {
+        val cache = ModuleCache.builder().directory(folder.getRoot().toPath()).build();
+        val node = node(new byte[0]);
+        val client = client(node, cache);
+        for (int i = 0; i < 2; i++) {
+            try {
+                client.getModuleSource(MODULE, BLOCK);
+                fail("Expected the module not to be found");
+            } catch (ModuleNotFoundException expected) {
+            }
+        }
+        assertEquals(2, node.getRequests());
+        assertFalse(cache.get(MODULE).isPresent());
+        assertEquals(0, cache.getHits());
+    }
+
+    private FakeNode node(byte[] source) {
+        return FakeNode.builder()
+                .response(P2PGrpc.getGetModuleSourceMethod(), ConcordiumP2PRpc.BytesResponse.newBuilder()
+                        .setValue(ByteString.copyFrom(source))
+                        .build())
+                .build();
+    }
+
+    private Client client(FakeNode node, ModuleCache cache) {
+        nodes.add(node);
+        val channel = node.newChannel();
+        channels.add(channel);
+        return new Client(Connection.builder()
+                .host("localhost")
+                .port(10000)
+                .credentials(Credentials.from("rpcadmin"))
+                .moduleCache(cache)
+                .build(), channel);
+    }
+}
@@ -0,0 +1,191 @@
+package com.concordium.sdk;
+
+import com.concordium.sdk.exceptions.AccountNotFoundException;
+import com.concordium.sdk.exceptions.TransactionNotFoundException;
+import com.concordium.sdk.requests.getaccountinfo.AccountRequest;
+import com.concordium.sdk.transactions.*;
+import concordium.ConcordiumP2PRpc;
+import concordium.P2PGrpc;
+import io.grpc.ManagedChannel;
+import io.grpc.StatusRuntimeException;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class NegativeCacheTest {
+
+    private static final Hash TRANSACTION = Hash.from("9741d166fdc9b70a183d6c22f79e6f87c236f56c545c9b5f1114847fecc7ba39");
+    private static final Hash BLOCK = Hash.from("0000000000000000000000000000000000000000000000000000000000000001");
+    private static final Hash NEXT_BLOCK = Hash.from("0000000000000000000000000000000000000000000000000000000000000002");
+
+    private final List<FakeNode> nodes = new ArrayList<>();
+    private final List<ManagedChannel> channels = new ArrayList<>();
+
+    @After
+    public void tearDown() {
+        channels.forEach(ManagedChannel::shutdownNow);
+        nodes.forEach(FakeNode::close);
+    }
+
+    @Test
+    public void testShouldRememberMissingTransactionsAndAccounts() {
+        val cache = NegativeCache.defaults();
+        val node = notFound();
+        val client = client(node, cache);
+        val account = AccountRequest.from(AccountAddress.from("3JwD2Wm3nMbsowCwb1iGEpnt47UQgdrtnq2qT6opJc3z2AgCrc"));
+
+        for (int i = 0; i < 3; i++) {
+            assertTransactionNotFound(client);
+            try {
+                client.getAccountInfo(account, BLOCK);
+                fail("Expected the account not to be found");
+            } catch (AccountNotFoundException expected) {
+            }
+        }
+        assertEquals(2, node.getRequests());
+        assertEquals(4, cache.getHits());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    public void testShouldForgetMissingTransactionsWhenNewBlockIsObserved() {
+        val cache = NegativeCache.defaults();
+        val node = notFound();
+        val client = client(node, cache);
+
+        assertTransactionNotFound(client);
+        // The first best block is new.
+        client.getConsensusStatus();
+        assertTransactionNotFound(client);
+        assertEquals(3, node.getRequests());
+
+        // The best block is unchanged.
+        client.getConsensusStatus();
+        assertTransactionNotFound(client);
+        assertEquals(4, node.getRequests());
+
+        cache.observed(BLOCK);
+        assertTransactionNotFound(client);
+        assertEquals(4, node.getRequests());
+
+        cache.observed(NEXT_BLOCK);
+        assertTransactionNotFound(client);
+        assertEquals(5, node.getRequests());
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldForgetMissingTransactionsAfterTimeToLive() {
+        val cache = NegativeCache.builder().timeToLive(Duration.ofMillis(50)).build();
+        val node = notFound();
+        val client = client(node, cache);
+
+        assertTransactionNotFound(client);
+        assertTransactionNotFound(client);
+        assertEquals(1, node.getRequests());
+        Thread.sleep(100);
+        assertTransactionNotFound(client);
+        assertEquals(2, node.getRequests());
+    }
+
+    @Test
+    public void testShouldNotRememberFailures() {
+        val cache = NegativeCache.defaults();
+        val node = FakeNode.builder().build();
+        val client = client(node, cache);
+        for (int i = 0; i < 2; i++) {
+            try {
+                client.getTransactionStatus(TRANSACTION);
+                fail("Expected the query to fail");
+            } catch (StatusRuntimeException expected) {
+            } catch (TransactionNotFoundException e) {
+                fail("Expected the query to fail");
+            }
+        }
+        assertEquals(2, node.getRequests());
+        assertEquals(0, cache.getHits());
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldForgetSentTransactions() {
+        val cache = NegativeCache.defaults();
+        val node = FakeNode.builder()
+                .json(P2PGrpc.getGetTransactionStatusMethod(), "null")
+                .response(P2PGrpc.getSendTransactionMethod(), ConcordiumP2PRpc.BoolResponse.newBuilder().setValue(true).build())
+                .build();
+        val client = client(node, cache);
+        val transaction = TransactionFactory.newTransfer()
+                .sender(AccountAddress.from("3JwD2Wm3nMbsowCwb1iGEpnt47UQgdrtnq2qT6opJc3z2AgCrc"))
+                .receiver(AccountAddress.from("3hYXYEPuGyhFcVRhSk2cVgKBhzVcAryjPskYk4SecpwGnoHhuM"))
+                .amount(CCDAmount.fromMicro(17))
+                .nonce(AccountNonce.from(78910))
+                .expiry(Expiry.from(123456))
+                .signer(TransactionSigner.from(SignerEntry.from(Index.from(0), Index.from(0), message -> new byte[64])))
+                .build();
+
+        assertNotFound(client, transaction.getHash());
+        assertNotFound(client, transaction.getHash());
+        assertEquals(1, node.getRequests());
+
+        client.sendTransaction(transaction);
+        // The status of the sent transaction is queried from the node again.
+        assertNotFound(client, transaction.getHash());
+        assertEquals(3, node.getRequests());
+    }
+
+    @Test
+    public void testShouldNotRememberQueryForgottenWhileInFlight() {
+        val cache = NegativeCache.defaults();
+        val key = ResponseCache.key(P2PGrpc.getGetTransactionStatusMethod(), ConcordiumP2PRpc.TransactionHash.newBuilder()
+                .setTransactionHash(TRANSACTION.asHex())
+                .build());
+        val inFlight = cache.start();
+        // e.g. the transaction is sent while the query is in flight.
+        cache.forget(key);
+        cache.notFound(key, inFlight);
+        assertFalse(cache.isNotFound(key));
+
+        cache.notFound(key, cache.start());
+        assertTrue(cache.isNotFound(key));
+    }
+
+    private static void assertNotFound(Client client, Hash transactionHash) {
+        try {
+            client.getTransactionStatus(transactionHash);
+            fail("Expected the transaction not to be found");
+        } catch (TransactionNotFoundException expected) {
+        }
+    }
+
+    private static void assertTransactionNotFound(Client client) {
+        assertNotFound(client, TRANSACTION);
+    }
+
+    private FakeNode notFound() {
+        return FakeNode.builder()
+                .json(P2PGrpc.getGetTransactionStatusMethod(), "null")
+                .json(P2PGrpc.getGetAccountInfoMethod(), "null")
+                .json(P2PGrpc.getGetConsensusStatusMethod(), "{\"bestBlock\":\"" + BLOCK.asHex() + "\"}")
+                .build();
+    }
+
+    private Client client(FakeNode node, NegativeCache cache) {
+        nodes.add(node);
+        val channel = node.newChannel();
+        channels.add(channel);
+        return new Client(Connection.builder()
+                .host("localhost")
+                .port(10000)
+                .credentials(Credentials.from("rpcadmin"))
+                .negativeCache(cache)
+                .build(), channel);
+    }
+}
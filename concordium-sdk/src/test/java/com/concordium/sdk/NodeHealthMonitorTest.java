@@ -0,0 +1,139 @@
+package com.concordium.sdk;
+
+import com.google.common.collect.ImmutableMap;
+import concordium.ConcordiumP2PRpc;
+import concordium.P2PGrpc;
+import io.grpc.ManagedChannel;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class NodeHealthMonitorTest {
+
+    private final Connection connection = Connection.builder()
+            .host("localhost")
+            .port(10000)
+            .credentials(Credentials.from("rpcadmin"))
+            .build();
+    private final List<FakeNode> nodes = new ArrayList<>();
+    private final List<ManagedChannel> channels = new ArrayList<>();
+
+    @After
+    public void tearDown() {
+        channels.forEach(ManagedChannel::shutdownNow);
+        nodes.forEach(FakeNode::close);
+    }
+
+    @Test
+    public void testShouldDeriveHealthFromSamples() {
+        val monitor = new NodeHealthMonitor(ImmutableMap.of(
+                "ahead", client(node(100, 99)),
+                "behind", client(node(96, 90))),
+                Duration.ofSeconds(10), 10, Duration.ofMinutes(1));
+        monitor.sample("ahead");
+        monitor.sample("behind");
+
+        val ahead = monitor.get("ahead").get();
+        assertTrue(ahead.isHealthy());
+        assertEquals(1, ahead.getFinalizationLag());
+        assertEquals(0, ahead.getBlocksBehind());
+        assertEquals(2, ahead.getLatest().get().getPeers());
+        assertEquals(30, ahead.getLatest().get().getAveragePeerLatency(), 0);
+        assertEquals(1 / 9.5, ahead.getBlockArrivalRate(), 1e-9);
+
+        val behind = monitor.getNodes().get("behind");
+        assertEquals(6, behind.getFinalizationLag());
+        assertEquals(4, behind.getBlocksBehind());
+        assertFalse(monitor.get("unknown").isPresent());
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldDetectStallsAndFailures() {
+        val monitor = new NodeHealthMonitor(ImmutableMap.of(
+                "stalling", client(node(100, 99)),
+                "failing", client(FakeNode.builder())),
+                Duration.ofSeconds(10), 10, Duration.ofMillis(200));
+        monitor.sample("stalling");
+        monitor.sample("failing");
+        assertFalse(monitor.get("stalling").get().isStalled());
+        assertEquals(1, monitor.get("failing").get().getConsecutiveFailures());
+        assertFalse(monitor.get("failing").get().getLatest().isPresent());
+        assertFalse(monitor.get("failing").get().isHealthy());
+
+        Thread.sleep(250);
+        monitor.sample("stalling");
+        val stalling = monitor.get("stalling").get();
+        assertTrue(stalling.isStalled());
+        assertFalse(stalling.isHealthy());
+        assertEquals(2, monitor.getSamples("stalling").size());
+        assertTrue(monitor.get("failing").get().isStalled());
+    }
+
+    @Test
+    public void testShouldComputeArrivalRateOverBoundedHistory() {
+        val series = new NodeHealthSeries(3, 0);
+        for (int i = 0; i < 5; i++) {
+            series.add(sample(i * 1_000_000_000L, 100 + 2 * i, 100 + i));
+        }
+        assertEquals(3, series.getSamples().size());
+        assertEquals(102, series.getSamples().get(0).getLastFinalizedBlockHeight());
+
+        val health = series.health("node", 5_000_000_000L, Duration.ofSeconds(2).toNanos(), 110);
+        assertEquals(2, health.getBlockArrivalRate(), 1e-9);
+        assertEquals(4, health.getFinalizationLag());
+        assertEquals(2, health.getBlocksBehind());
+        assertEquals(Duration.ofSeconds(1), health.getSinceFinalization());
+        assertFalse(health.isStalled());
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldSampleInBackground() {
+        try (val monitor = NodeHealthMonitor.builder()
+                .client("node", client(node(100, 99)))
+                .interval(Duration.ofMillis(10))
+                .history(5)
+                .build()) {
+            val deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (monitor.getSamples("node").size() < 5 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(5, monitor.getSamples("node").size());
+            assertTrue(monitor.get("node").get().isHealthy());
+        }
+    }
+
+    private Client client(FakeNode.FakeNodeBuilder builder) {
+        val node = builder.build();
+        nodes.add(node);
+        val channel = node.newChannel();
+        channels.add(channel);
+        return new Client(connection, channel);
+    }
+
+    private static FakeNode.FakeNodeBuilder node(long bestBlockHeight, long lastFinalizedBlockHeight) {
+        return FakeNode.builder()
+                .json(P2PGrpc.getGetConsensusStatusMethod(), "{"
+                        + "\"bestBlockHeight\":" + bestBlockHeight + ","
+                        + "\"lastFinalizedBlockHeight\":" + lastFinalizedBlockHeight + ","
+                        + "\"blockArriveLatencyEMA\":0.2071,"
+                        + "\"blockArrivePeriodEMA\":9.5,"
+                        + "\"finalizationPeriodEMA\":9.8513}")
+                .response(P2PGrpc.getPeerStatsMethod(), ConcordiumP2PRpc.PeerStatsResponse.newBuilder()
+                        .addPeerstats(ConcordiumP2PRpc.PeerStatsResponse.PeerStats.newBuilder().setNodeId("a").setLatency(20))
+                        .addPeerstats(ConcordiumP2PRpc.PeerStatsResponse.PeerStats.newBuilder().setNodeId("b").setLatency(40))
+                        .build());
+    }
+
+    private static NodeHealthSample sample(long nanos, long bestBlockHeight, long lastFinalizedBlockHeight) {
+        return new NodeHealthSample(0, nanos, 0, bestBlockHeight, lastFinalizedBlockHeight, 0, 0, 0, 0, 0);
+    }
+}
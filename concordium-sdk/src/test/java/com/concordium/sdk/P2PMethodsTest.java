@@ -0,0 +1,21 @@
+package com.concordium.sdk;
+
+import concordium.P2PGrpc;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class P2PMethodsTest {
+
+    @Test
+    public void testShouldOnlyTreatReadOnlyQueriesAsIdempotent() {
+        assertTrue(P2PMethods.isIdempotent(P2PGrpc.getGetBlockSummaryMethod()));
+        assertTrue(P2PMethods.isIdempotent(P2PGrpc.getPeerListMethod()));
+        assertTrue(P2PMethods.isIdempotent(P2PGrpc.getNodeInfoMethod()));
+        assertFalse(P2PMethods.isIdempotent(P2PGrpc.getSendTransactionMethod()));
+        assertFalse(P2PMethods.isIdempotent(P2PGrpc.getPeerConnectMethod()));
+        assertFalse(P2PMethods.isIdempotent(P2PGrpc.getPeerDisconnectMethod()));
+        assertFalse(P2PMethods.isIdempotent(P2PGrpc.getShutdownMethod()));
+    }
+}
@@ -0,0 +1,126 @@
+package com.concordium.sdk;
+
+import com.google.common.collect.ImmutableList;
+import concordium.ConcordiumP2PRpc;
+import concordium.P2PGrpc;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class PooledChannelTest {
+
+    private final List<Server> servers = new ArrayList<>();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PooledChannel channel;
+
+    @Before
+    @SneakyThrows
+    public void setUp() {
+        val nodes = new ArrayList<PooledChannel.Node>();
+        for (int i = 0; i < 2; i++) {
+            val name = InProcessServerBuilder.generateName();
+            servers.add(InProcessServerBuilder.forName(name)
+                    .executor(Executors.newCachedThreadPool())
+                    .addService(new P2PGrpc.P2PImplBase() {
+                        @Override
+                        @SneakyThrows
+                        public void peerUptime(ConcordiumP2PRpc.Empty request, StreamObserver<ConcordiumP2PRpc.NumberResponse> responseObserver) {
+                            release.await();
+                            responseObserver.onNext(ConcordiumP2PRpc.NumberResponse.newBuilder().setValue(1).build());
+                            responseObserver.onCompleted();
+                        }
+                    })
+                    .build()
+                    .start());
+            ManagedChannel nodeChannel = InProcessChannelBuilder.forName(name).build();
+            nodes.add(new PooledChannel.Node(name, nodeChannel, null));
+        }
+        channel = new PooledChannel(nodes);
+    }
+
+    @After
+    public void tearDown() {
+        release.countDown();
+        channel.shutdownNow();
+        for (Server server : servers) {
+            server.shutdownNow();
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldRouteToLeastLoadedNode() {
+        val busy = channel.getNodes().get(0);
+        val idle = channel.getNodes().get(1);
+        val call = P2PGrpc.newFutureStub(new SingleNodeChannel(busy)).peerUptime(ConcordiumP2PRpc.Empty.getDefaultInstance());
+
+        assertEquals(1, busy.getInFlight());
+        for (int i = 0; i < 100; i++) {
+            assertSame(idle, channel.pick());
+        }
+
+        release.countDown();
+        assertEquals(1, call.get(5, TimeUnit.SECONDS).getValue());
+        assertEquals(0, busy.getInFlight());
+    }
+
+    @Test
+    @SneakyThrows
+    public void testClosingClientsOfPoolShouldKeepChannelsOpen() {
+        val pool = new ClientPool(Connection.builder()
+                .host("localhost")
+                .port(10000)
+                .credentials(Credentials.from("rpcadmin"))
+                .build(), channel);
+        pool.getClient().close();
+        pool.newAsyncClient().close();
+        assertFalse(channel.isShutdown());
+
+        release.countDown();
+        assertEquals(1, pool.newAsyncClient().getUptime().get(5, TimeUnit.SECONDS).toMillis());
+
+        pool.close();
+        assertTrue(channel.isShutdown());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testShouldRejectEmptyPool() {
+        new PooledChannel(ImmutableList.of());
+    }
+
+    /**
+     * Channel routing every call to a single node of the pool.
+     */
+    private static final class SingleNodeChannel extends io.grpc.Channel {
+        private final PooledChannel.Node node;
+
+        SingleNodeChannel(PooledChannel.Node node) {
+            this.node = node;
+        }
+
+        @Override
+        public <ReqT, RespT> io.grpc.ClientCall<ReqT, RespT> newCall(io.grpc.MethodDescriptor<ReqT, RespT> methodDescriptor, io.grpc.CallOptions callOptions) {
+            return node.newCall(methodDescriptor, callOptions);
+        }
+
+        @Override
+        public String authority() {
+            return node.getChannel().authority();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.concordium.sdk;
+
+import com.concordium.sdk.transactions.Hash;
+import concordium.P2PGrpc;
+import io.grpc.ManagedChannel;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ResponseCacheTest {
+
+    private static final Hash BLOCK = Hash.from("9741d166fdc9b70a183d6c22f79e6f87c236f56c545c9b5f1114847fecc7ba39");
+    private static final Hash OTHER_BLOCK = Hash.from("b6078154d6717e909ce0da4a45a25151b592824f31624b755900a74429e3073d");
+    private static final String MODULES = "[\"f0c4c3f2bfcd1e3e0a4d0c5b6a2e1f7d0c4c3f2bfcd1e3e0a4d0c5b6a2e1f7d0\"]";
+
+    private final List<FakeNode> nodes = new ArrayList<>();
+    private final List<ManagedChannel> channels = new ArrayList<>();
+
+    @After
+    public void tearDown() {
+        channels.forEach(ManagedChannel::shutdownNow);
+        nodes.forEach(FakeNode::close);
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldCacheResponsesOfFinalizedBlocks() {
+        val cache = ResponseCache.defaults();
+        val node = node(true);
+        val client = client(node, cache);
+
+        val modules = client.getModuleList(BLOCK);
+        assertEquals(1, modules.size());
+        // The module list and the block info establishing that the block is finalized.
+        assertEquals(2, node.getRequests());
+
+        assertSame(modules, client.getModuleList(BLOCK));
+        assertTrue(client.getBlockInfo(BLOCK).getFinalized());
+        assertEquals(2, node.getRequests());
+
+        val statistics = cache.getStatistics();
+        assertEquals(2, statistics.getHits());
+        assertEquals(2, statistics.getMisses());
+        assertEquals(0, statistics.getRejected());
+        assertEquals(2, statistics.getEntries());
+        assertTrue(statistics.getWeight() > 0);
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldNotCacheResponsesOfPendingBlocks() {
+        val cache = ResponseCache.defaults();
+        val node = node(false);
+        val client = client(node, cache);
+
+        client.getModuleList(BLOCK);
+        client.getModuleList(BLOCK);
+        // The block info is only queried once, as the block is remembered not to be finalized.
+        assertEquals(3, node.getRequests());
+
+        val statistics = cache.getStatistics();
+        assertEquals(0, statistics.getHits());
+        assertEquals(3, statistics.getRejected());
+        assertEquals(0, statistics.getEntries());
+        assertEquals(0, statistics.getWeight());
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldForgetPendingBlocksOnNewLastFinalizedBlock() {
+        val cache = ResponseCache.defaults();
+        val node = FakeNode.builder()
+                .json(P2PGrpc.getGetBlockInfoMethod(), "{\"finalized\":false}")
+                .json(P2PGrpc.getGetModuleListMethod(), MODULES)
+                .json(P2PGrpc.getGetConsensusStatusMethod(), "{\"lastFinalizedBlock\":\"" + OTHER_BLOCK + "\"}")
+                .build();
+        nodes.add(node);
+        val client = client(node, cache);
+
+        client.getModuleList(BLOCK);
+        assertEquals(2, node.getRequests());
+        client.getConsensusStatus();
+        assertEquals(3, node.getRequests());
+        // The block may have been finalized since, so it is queried again.
+        client.getModuleList(BLOCK);
+        assertEquals(5, node.getRequests());
+        assertTrue(cache.isFinalized(OTHER_BLOCK));
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldCacheBlockSummaryQueriedWithTimeout() {
+        val cache = ResponseCache.defaults();
+        val node = FakeNode.builder()
+                .json(P2PGrpc.getGetBlockInfoMethod(), "{\"finalized\":true}")
+                .json(P2PGrpc.getGetBlockSummaryMethod(), "{\"transactionSummaries\":[]}")
+                .build();
+        nodes.add(node);
+        val client = client(node, cache);
+
+        val blockSummary = client.getBlockSummary(BLOCK, Duration.ofSeconds(5));
+        assertEquals(2, node.getRequests());
+        assertSame(blockSummary, client.getBlockSummary(BLOCK, Duration.ofSeconds(5)));
+        assertSame(blockSummary, client.getBlockSummary(BLOCK));
+        assertEquals(2, node.getRequests());
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldEvictResponsesBeyondMaximumWeight() {
+        val cache = ResponseCache.builder().maximumWeight(256).build();
+        val client = client(node(true), cache);
+
+        for (int i = 0; i < 10; i++) {
+            client.getModuleList(Hash.from(String.format("%064x", i)));
+        }
+        val statistics = cache.getStatistics();
+        assertTrue(statistics.toString(), statistics.getEvictions() > 0);
+        assertTrue(statistics.toString(), statistics.getWeight() <= 256);
+        assertEquals(0, statistics.getRejected());
+    }
+
+    private FakeNode node(boolean finalized) {
+        val node = FakeNode.builder()
+                .json(P2PGrpc.getGetBlockInfoMethod(), "{\"finalized\":" + finalized + "}")
+                .json(P2PGrpc.getGetModuleListMethod(), MODULES)
+                .build();
+        nodes.add(node);
+        return node;
+    }
+
+    private Client client(FakeNode node, ResponseCache cache) {
+        val channel = node.newChannel();
+        channels.add(channel);
+        return new Client(Connection.builder()
+                .host("localhost")
+                .port(10000)
+                .credentials(Credentials.from("rpcadmin"))
+                .responseCache(cache)
+                .build(), channel);
+    }
+}
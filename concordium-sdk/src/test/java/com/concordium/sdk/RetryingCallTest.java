@@ -0,0 +1,115 @@
+package com.concordium.sdk;
+
+import com.google.common.collect.ImmutableMap;
+import concordium.ConcordiumP2PRpc;
+import concordium.P2PGrpc;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class RetryingCallTest {
+
+    private final AtomicInteger uptimeCalls = new AtomicInteger();
+    private final AtomicInteger sendCalls = new AtomicInteger();
+    private volatile int failures;
+    private Server server;
+    private PooledChannel.Node node;
+
+    @Before
+    @SneakyThrows
+    public void setUp() {
+        val name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .directExecutor()
+                .addService(new P2PGrpc.P2PImplBase() {
+                    @Override
+                    public void peerUptime(ConcordiumP2PRpc.Empty request, StreamObserver<ConcordiumP2PRpc.NumberResponse> responseObserver) {
+                        if (uptimeCalls.incrementAndGet() <= failures) {
+                            responseObserver.onError(Status.UNAVAILABLE.asRuntimeException());
+                            return;
+                        }
+                        responseObserver.onNext(ConcordiumP2PRpc.NumberResponse.newBuilder().setValue(1).build());
+                        responseObserver.onCompleted();
+                    }
+
+                    @Override
+                    public void sendTransaction(ConcordiumP2PRpc.SendTransactionRequest request, StreamObserver<ConcordiumP2PRpc.BoolResponse> responseObserver) {
+                        sendCalls.incrementAndGet();
+                        responseObserver.onError(Status.UNAVAILABLE.asRuntimeException());
+                    }
+                })
+                .build()
+                .start();
+        node = new PooledChannel.Node(name, InProcessChannelBuilder.forName(name).build(), null);
+    }
+
+    @After
+    public void tearDown() {
+        server.shutdownNow();
+        node.getChannel().shutdownNow();
+    }
+
+    @Test
+    public void testShouldRetryUntilSuccess() {
+        failures = 2;
+        val channel = retryingChannel(3);
+        val response = stub(channel).peerUptime(ConcordiumP2PRpc.Empty.getDefaultInstance());
+        assertEquals(1, response.getValue());
+        assertEquals(3, uptimeCalls.get());
+        channel.shutdownNow();
+    }
+
+    @Test
+    public void testShouldGiveUpAfterMaxAttempts() {
+        failures = 5;
+        val channel = retryingChannel(3);
+        try {
+            stub(channel).peerUptime(ConcordiumP2PRpc.Empty.getDefaultInstance());
+            fail("Expected the call to fail");
+        } catch (StatusRuntimeException e) {
+            assertEquals(Status.Code.UNAVAILABLE, e.getStatus().getCode());
+        }
+        assertEquals(3, uptimeCalls.get());
+        channel.shutdownNow();
+    }
+
+    @Test
+    public void testShouldNotRetryNonIdempotentCalls() {
+        val channel = retryingChannel(3);
+        try {
+            stub(channel).sendTransaction(ConcordiumP2PRpc.SendTransactionRequest.getDefaultInstance());
+            fail("Expected the call to fail");
+        } catch (StatusRuntimeException e) {
+            assertEquals(Status.Code.UNAVAILABLE, e.getStatus().getCode());
+        }
+        assertEquals(1, sendCalls.get());
+        channel.shutdownNow();
+    }
+
+    private PooledChannel retryingChannel(int maxAttempts) {
+        val policy = RetryPolicy.builder()
+                .maxAttempts(maxAttempts)
+                .initialBackoff(Duration.ofMillis(5))
+                .build();
+        return new PooledChannel(Collections.singletonList(node), ImmutableMap.of(), policy);
+    }
+
+    private static P2PGrpc.P2PBlockingStub stub(PooledChannel channel) {
+        return P2PGrpc.newBlockingStub(channel).withDeadlineAfter(2, TimeUnit.SECONDS);
+    }
+}
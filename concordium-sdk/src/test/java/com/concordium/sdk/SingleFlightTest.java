@@ -0,0 +1,156 @@
+package com.concordium.sdk;
+
+import com.concordium.sdk.exceptions.BlockNotFoundException;
+import com.concordium.sdk.responses.consensusstatus.ConsensusStatus;
+import com.concordium.sdk.transactions.Hash;
+import concordium.ConcordiumP2PRpc;
+import concordium.P2PGrpc;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class SingleFlightTest {
+
+    private static final Hash BLOCK_HASH = Hash.from("9741d166fdc9b70a183d6c22f79e6f87c236f56c545c9b5f1114847fecc7ba39");
+    private static final int CALLERS = 8;
+
+    @Test
+    @SneakyThrows
+    public void testShouldMergeIdenticalQueries() {
+        val singleFlight = new SingleFlight();
+        val executions = new AtomicInteger();
+        val release = new CountDownLatch(1);
+        val executor = Executors.newFixedThreadPool(CALLERS);
+        val results = new ArrayList<Future<Integer>>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute(
+                    P2PGrpc.getGetConsensusStatusMethod(),
+                    ConcordiumP2PRpc.Empty.getDefaultInstance(),
+                    () -> {
+                        executions.incrementAndGet();
+                        release.await();
+                        return 42;
+                    })));
+        }
+        awaitCoalesced(singleFlight, CALLERS - 1);
+        release.countDown();
+        for (Future<Integer> result : results) {
+            assertEquals(42, (int) result.get());
+        }
+        assertEquals(1, executions.get());
+        executor.shutdownNow();
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldNotMergeDifferentRequests() {
+        val singleFlight = new SingleFlight();
+        val first = ConcordiumP2PRpc.BlockHash.newBuilder().setBlockHash("a").build();
+        val second = ConcordiumP2PRpc.BlockHash.newBuilder().setBlockHash("b").build();
+        val result = singleFlight.execute(P2PGrpc.getGetBlockInfoMethod(), first,
+                () -> singleFlight.execute(P2PGrpc.getGetBlockInfoMethod(), second, () -> "b"));
+        assertEquals("b", result);
+        assertEquals(0, singleFlight.getCoalesced());
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldShareFailuresWithWaiters() {
+        val singleFlight = new SingleFlight();
+        val release = new CountDownLatch(1);
+        val executor = Executors.newFixedThreadPool(2);
+        val results = new ArrayList<Future<String>>();
+        for (int i = 0; i < 2; i++) {
+            results.add(executor.submit(() -> singleFlight.<String, BlockNotFoundException>execute(
+                    P2PGrpc.getGetBlockInfoMethod(),
+                    ConcordiumP2PRpc.Empty.getDefaultInstance(),
+                    () -> {
+                        awaitUninterruptibly(release);
+                        throw BlockNotFoundException.from(BLOCK_HASH);
+                    })));
+        }
+        awaitCoalesced(singleFlight, 1);
+        release.countDown();
+        for (Future<String> result : results) {
+            try {
+                result.get();
+                fail("Expected the query to fail");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof BlockNotFoundException);
+            }
+        }
+        executor.shutdownNow();
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldSendOneRequestForIdenticalConcurrentQueries() {
+        val requests = new AtomicInteger();
+        val release = new CountDownLatch(1);
+        val name = InProcessServerBuilder.generateName();
+        val server = InProcessServerBuilder.forName(name)
+                .executor(Executors.newCachedThreadPool())
+                .addService(new P2PGrpc.P2PImplBase() {
+                    @Override
+                    public void getConsensusStatus(ConcordiumP2PRpc.Empty request, StreamObserver<ConcordiumP2PRpc.JsonResponse> responseObserver) {
+                        requests.incrementAndGet();
+                        awaitUninterruptibly(release);
+                        responseObserver.onNext(ConcordiumP2PRpc.JsonResponse.newBuilder().setValue("null").build());
+                        responseObserver.onCompleted();
+                    }
+                })
+                .build()
+                .start();
+        val connection = Connection.builder()
+                .host("localhost")
+                .port(10000)
+                .credentials(Credentials.from("rpcadmin"))
+                .coalesceRequests(true)
+                .build();
+        val client = new Client(connection, InProcessChannelBuilder.forName(name).build());
+        val executor = Executors.newFixedThreadPool(CALLERS);
+        val results = new ArrayList<Future<ConsensusStatus>>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> client.getConsensusStatus()));
+        }
+        while (requests.get() == 0) {
+            Thread.sleep(5);
+        }
+        // give the other callers the chance to join the request in flight.
+        Thread.sleep(100);
+        release.countDown();
+        for (Future<ConsensusStatus> result : results) {
+            result.get(5, TimeUnit.SECONDS);
+        }
+        assertEquals(1, requests.get());
+        client.close();
+        server.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    @SneakyThrows
+    private static void awaitCoalesced(SingleFlight singleFlight, int expected) {
+        val deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.getCoalesced() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(expected, singleFlight.getCoalesced());
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.concordium.sdk;
+
+import com.concordium.sdk.exceptions.TransactionCreationException;
+import com.concordium.sdk.transactions.*;
+import com.concordium.sdk.responses.transactionstatus.Status;
+import concordium.ConcordiumP2PRpc;
+import concordium.P2PGrpc;
+import io.grpc.ManagedChannel;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TransactionLifecycleTest {
+
+    private static final AccountAddress SENDER = AccountAddress.from("3JwD2Wm3nMbsowCwb1iGEpnt47UQgdrtnq2qT6opJc3z2AgCrc");
+    private static final AccountAddress RECEIVER = AccountAddress.from("3hYXYEPuGyhFcVRhSk2cVgKBhzVcAryjPskYk4SecpwGnoHhuM");
+
+    private final TransactionLifecycleRecorder recorder = new TransactionLifecycleRecorder();
+    private final TransactionLifecycle lifecycle = TransactionLifecycle.from(recorder);
+    private final Connection connection = Connection.builder()
+            .host("localhost")
+            .port(10000)
+            .credentials(Credentials.from("rpcadmin"))
+            .lifecycle(lifecycle)
+            .build();
+    private final List<FakeNode> nodes = new ArrayList<>();
+    private final List<ManagedChannel> channels = new ArrayList<>();
+
+    @After
+    public void tearDown() {
+        channels.forEach(ManagedChannel::shutdownNow);
+        nodes.forEach(FakeNode::close);
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldRecordLifecycle() {
+        val transaction = lifecycle.sign(this::newTransfer);
+        assertEquals(1, recorder.getSigning().getCount());
+
+        val hash = client(FakeNode.builder()
+                .response(P2PGrpc.getSendTransactionMethod(), ConcordiumP2PRpc.BoolResponse.newBuilder().setValue(true).build()))
+                .sendTransaction(transaction);
+        assertEquals(transaction.getHash(), hash);
+        assertEquals(1, recorder.getSending().getCount());
+        assertEquals(1, lifecycle.getTracked());
+
+        val received = client(status("received"));
+        received.getTransactionStatus(hash);
+        assertEquals(0, recorder.getTimeToBlock().getCount());
+
+        val committed = client(status("committed"));
+        committed.getTransactionStatus(hash);
+        committed.getTransactionStatus(hash);
+        assertEquals(1, recorder.getTimeToBlock().getCount());
+        assertEquals(0, recorder.getTimeToFinalization().getCount());
+
+        val finalized = client(status("finalized"));
+        finalized.getTransactionStatus(hash);
+        finalized.getTransactionStatus(hash);
+        assertEquals(1, recorder.getTimeToBlock().getCount());
+        assertEquals(1, recorder.getTimeToFinalization().getCount());
+        assertEquals(0, lifecycle.getTracked());
+    }
+
+    @Test
+    public void testShouldStopTrackingOldestTransactionsAboveMaximum() {
+        for (int i = 0; i <= TransactionLifecycle.MAX_TRACKED; i++) {
+            lifecycle.sent(hash(i), 0);
+        }
+        assertTrue(lifecycle.getTracked() <= TransactionLifecycle.MAX_TRACKED);
+
+        lifecycle.observed(hash(TransactionLifecycle.MAX_TRACKED), Status.FINALIZED);
+        assertEquals(1, recorder.getTimeToFinalization().getCount());
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldReportCommittedWhenFirstSeenFinalized() {
+        val sendNode = FakeNode.builder()
+                .response(P2PGrpc.getSendTransactionMethod(), ConcordiumP2PRpc.BoolResponse.newBuilder().setValue(true).build())
+                .build();
+        nodes.add(sendNode);
+        val sendChannel = sendNode.newChannel();
+        channels.add(sendChannel);
+        val client = new AsyncClient(connection, sendChannel, ForkJoinPool.commonPool());
+        val hash = client.sendTransaction(newTransfer()).get();
+
+        val finalizedNode = status("finalized").build();
+        nodes.add(finalizedNode);
+        val finalizedChannel = finalizedNode.newChannel();
+        channels.add(finalizedChannel);
+        new AsyncClient(connection, finalizedChannel, ForkJoinPool.commonPool()).getTransactionStatus(hash).get();
+
+        assertEquals(0, recorder.getSigning().getCount());
+        assertEquals(1, recorder.getSending().getCount());
+        assertEquals(1, recorder.getTimeToBlock().getCount());
+        assertEquals(1, recorder.getTimeToFinalization().getCount());
+        assertEquals(recorder.getTimeToBlock().getMax(), recorder.getTimeToFinalization().getMax());
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldIgnoreTransactionsNotSent() {
+        val hash = lifecycle.sign(this::newTransfer).getHash();
+        client(status("finalized")).getTransactionStatus(hash);
+        assertEquals(0, recorder.getTimeToFinalization().getCount());
+    }
+
+    private Client client(FakeNode.FakeNodeBuilder builder) {
+        val node = builder.build();
+        nodes.add(node);
+        val channel = node.newChannel();
+        channels.add(channel);
+        return new Client(connection, channel);
+    }
+
+    private static FakeNode.FakeNodeBuilder status(String status) {
+        return FakeNode.builder().json(P2PGrpc.getGetTransactionStatusMethod(), "{\"status\":\"" + status + "\"}");
+    }
+
+    private TransferTransaction newTransfer() throws TransactionCreationException {
+        return TransactionFactory.newTransfer()
+                .sender(SENDER)
+                .receiver(RECEIVER)
+                .amount(CCDAmount.fromMicro(17))
+                .nonce(AccountNonce.from(78910))
+                .expiry(Expiry.from(123456))
+                .signer(TransactionSigner.from(SignerEntry.from(Index.from(0), Index.from(0), message -> new byte[64])))
+                .build();
+    }
+
+    private static Hash hash(int i) {
+        val bytes = new byte[32];
+        bytes[28] = (byte) (i >>> 24);
+        bytes[29] = (byte) (i >>> 16);
+        bytes[30] = (byte) (i >>> 8);
+        bytes[31] = (byte) i;
+        return Hash.from(bytes);
+    }
+}
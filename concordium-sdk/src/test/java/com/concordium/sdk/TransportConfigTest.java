@@ -0,0 +1,103 @@
+package com.concordium.sdk;
+
+import concordium.ConcordiumP2PRpc;
+import concordium.P2PGrpc;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.stub.StreamObserver;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.*;
+
+public class TransportConfigTest {
+
+    private static final String VERSION = "4.2.1";
+
+    private Server server;
+
+    @Before
+    @SneakyThrows
+    public void setUp() {
+        server = NettyServerBuilder.forAddress(new InetSocketAddress("localhost", 0))
+                .addService(new P2PGrpc.P2PImplBase() {
+                    @Override
+                    public void peerUptime(ConcordiumP2PRpc.Empty request, StreamObserver<ConcordiumP2PRpc.NumberResponse> responseObserver) {
+                        responseObserver.onNext(ConcordiumP2PRpc.NumberResponse.newBuilder().setValue(1000).build());
+                        responseObserver.onCompleted();
+                    }
+
+                    @Override
+                    public void peerVersion(ConcordiumP2PRpc.Empty request, StreamObserver<ConcordiumP2PRpc.StringResponse> responseObserver) {
+                        responseObserver.onNext(ConcordiumP2PRpc.StringResponse.newBuilder().setValue(VERSION).build());
+                        responseObserver.onCompleted();
+                    }
+                })
+                .build()
+                .start();
+    }
+
+    @After
+    public void tearDown() {
+        server.shutdownNow();
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldQueryWithDirectExecutorAndEpoll() {
+        val client = Client.from(connection(TransportConfig.builder()
+                .directExecutor(true)
+                .epoll(true)
+                .flowControlWindow(4 * 1024 * 1024)
+                .build()));
+        assertEquals(Duration.ofSeconds(1), client.getUptime());
+        client.close();
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldQueryWithCustomExecutor() {
+        val executor = Executors.newFixedThreadPool(2);
+        val client = Client.from(connection(TransportConfig.builder().executor(executor).build()));
+        assertEquals(VERSION, client.getVersion().toString());
+        client.close();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldRejectResponsesExceedingMaxInboundSize() {
+        val client = Client.from(connection(TransportConfig.builder().maxInboundMessageSize(2).build()));
+        try {
+            client.getVersion();
+            fail("Expected the response to be rejected");
+        } catch (StatusRuntimeException e) {
+            assertEquals(Status.Code.RESOURCE_EXHAUSTED, e.getStatus().getCode());
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testShouldRejectExecutorWithDirectExecution() {
+        TransportConfig.builder().executor(Runnable::run).directExecutor(true).build();
+    }
+
+    private Connection connection(TransportConfig transport) {
+        return Connection.builder()
+                .host("localhost")
+                .port(server.getPort())
+                .credentials(Credentials.from("rpcadmin"))
+                .transport(transport)
+                .build();
+    }
+}
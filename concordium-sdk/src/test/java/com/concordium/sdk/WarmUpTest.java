@@ -0,0 +1,161 @@
+package com.concordium.sdk;
+
+import concordium.ConcordiumP2PRpc;
+import concordium.P2PGrpc;
+import io.grpc.ConnectivityState;
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.stub.StreamObserver;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class WarmUpTest {
+
+    private final AtomicInteger probes = new AtomicInteger();
+    private final List<Server> servers = new ArrayList<>();
+    private volatile long probeLatencyMillis;
+    private Server server;
+
+    @Before
+    public void setUp() {
+        server = startServer();
+    }
+
+    @After
+    public void tearDown() {
+        servers.forEach(Server::shutdownNow);
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldConnectLazilyWithoutWarmUp() {
+        val channel = PooledChannel.from(connection(server.getPort(), WarmUp.NONE));
+        assertEquals(ConnectivityState.IDLE, state(channel));
+        channel.shutdownNow();
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldConnectEagerly() {
+        val channel = PooledChannel.from(connection(server.getPort(), WarmUp.CONNECT));
+        assertEquals(ConnectivityState.READY, state(channel));
+        assertEquals(0, probes.get());
+        channel.shutdownNow();
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldProbeNode() {
+        val channel = PooledChannel.from(connection(server.getPort(), WarmUp.PROBE));
+        assertEquals(ConnectivityState.READY, state(channel));
+        assertEquals(1, probes.get());
+        channel.shutdownNow();
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldProbeThroughInterceptorsOfConnection() {
+        val metrics = new MetricsRecorder();
+        val channel = PooledChannel.from(Connection.builder()
+                .host("localhost")
+                .port(server.getPort())
+                .timeout(2000)
+                .credentials(Credentials.from("rpcadmin"))
+                .warmUp(WarmUp.PROBE)
+                .metrics(metrics)
+                .build());
+        assertEquals(1, probes.get());
+        assertEquals(1, metrics.get(P2PGrpc.getGetConsensusStatusMethod()).get().getCompleted());
+        assertEquals(0, channel.getNodes().get(0).getInFlight());
+        channel.shutdownNow();
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldProbeNodesConcurrently() {
+        probeLatencyMillis = 500;
+        val other = startServer();
+        val startNanos = System.nanoTime();
+        val pool = ClientPool.builder()
+                .connection(connection(server.getPort(), WarmUp.PROBE))
+                .connection(connection(other.getPort(), WarmUp.PROBE))
+                .build();
+        val elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        assertEquals(2, probes.get());
+        assertTrue("Warm-up took " + elapsedMillis + " ms", elapsedMillis < 900);
+        pool.close();
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldCreateClientIfNodeIsUnreachable() {
+        val port = server.getPort();
+        server.shutdownNow().awaitTermination();
+        val client = Client.from(connection(port, WarmUp.PROBE));
+        client.close();
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldApplyKeepAlive() {
+        val connection = Connection.builder()
+                .host("localhost")
+                .port(server.getPort())
+                .credentials(Credentials.from("rpcadmin"))
+                .warmUp(WarmUp.CONNECT)
+                .transport(TransportConfig.builder()
+                        .keepAliveTime(Duration.ofSeconds(30))
+                        .keepAliveTimeout(Duration.ofSeconds(5))
+                        .idleTimeout(Duration.ofMinutes(5))
+                        .build())
+                .build();
+        val channel = PooledChannel.from(connection);
+        assertEquals(ConnectivityState.READY, state(channel));
+        channel.shutdownNow();
+    }
+
+    @SneakyThrows
+    private Server startServer() {
+        val started = NettyServerBuilder.forAddress(new InetSocketAddress("localhost", 0))
+                .addService(new P2PGrpc.P2PImplBase() {
+                    @Override
+                    @SneakyThrows
+                    public void getConsensusStatus(ConcordiumP2PRpc.Empty request, StreamObserver<ConcordiumP2PRpc.JsonResponse> responseObserver) {
+                        probes.incrementAndGet();
+                        Thread.sleep(probeLatencyMillis);
+                        responseObserver.onNext(ConcordiumP2PRpc.JsonResponse.newBuilder().setValue("null").build());
+                        responseObserver.onCompleted();
+                    }
+                })
+                .build()
+                .start();
+        servers.add(started);
+        return started;
+    }
+
+    private static ConnectivityState state(PooledChannel channel) {
+        return channel.getNodes().get(0).getChannel().getState(false);
+    }
+
+    private static Connection connection(int port, WarmUp warmUp) {
+        return Connection.builder()
+                .host("localhost")
+                .port(port)
+                .timeout(2000)
+                .credentials(Credentials.from("rpcadmin"))
+                .warmUp(warmUp)
+                .build();
+    }
+}
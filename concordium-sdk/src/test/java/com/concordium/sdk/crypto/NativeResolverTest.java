@@ -0,0 +1,78 @@
+package com.concordium.sdk.crypto;
+
+import lombok.SneakyThrows;
+import lombok.val;
+import org.apache.commons.io.IOUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+public class NativeResolverTest {
+
+    // any resource on the class path stands in for the native library.
+    private static final String RESOURCE = "/com/concordium/sdk/crypto/SHA256.class";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    @SneakyThrows
+    public void testShouldReuseExtractedLibrary() {
+        val lib = NativeResolver.extract(RESOURCE, "libtest.so", folder.getRoot());
+        assertArrayEquals(IOUtils.toByteArray(NativeResolver.class.getResourceAsStream(RESOURCE)), Files.readAllBytes(lib.toPath()));
+        assertTrue(lib.setLastModified(1000));
+
+        val again = NativeResolver.extract(RESOURCE, "libtest.so", folder.getRoot());
+        assertEquals(lib, again);
+        assertEquals(1000, again.lastModified());
+        assertEquals(1, lib.getParentFile().list().length);
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldExtractDamagedLibraryAgain() {
+        val lib = NativeResolver.extract(RESOURCE, "libtest.so", folder.getRoot());
+        val content = Files.readAllBytes(lib.toPath());
+        val damaged = content.clone();
+        damaged[damaged.length / 2] ^= 1;
+        Files.write(lib.toPath(), damaged);
+
+        val again = NativeResolver.extract(RESOURCE, "libtest.so", folder.getRoot());
+        assertEquals(lib, again);
+        assertArrayEquals(content, Files.readAllBytes(again.toPath()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldCreatePrivateDirectory() {
+        assumeTrue(folder.getRoot().toPath().getFileSystem().supportedFileAttributeViews().contains("posix"));
+        val lib = NativeResolver.extract(RESOURCE, "libtest.so", folder.getRoot());
+        assertEquals(PosixFilePermissions.fromString("rwx------"), Files.getPosixFilePermissions(lib.getParentFile().toPath()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldNotReuseSharedDirectory() {
+        assumeTrue(folder.getRoot().toPath().getFileSystem().supportedFileAttributeViews().contains("posix"));
+        val lib = NativeResolver.extract(RESOURCE, "libtest.so", folder.getRoot());
+        val dir = lib.getParentFile().toPath();
+        Files.setPosixFilePermissions(dir, PosixFilePermissions.fromString("rwxrwxrwx"));
+
+        val again = NativeResolver.extract(RESOURCE, "libtest.so", folder.getRoot());
+        assertNotEquals(dir, again.getParentFile().toPath());
+        assertArrayEquals(Files.readAllBytes(lib.toPath()), Files.readAllBytes(again.toPath()));
+        Files.delete(again.toPath());
+    }
+
+    @Test(expected = RuntimeException.class)
+    @SneakyThrows
+    public void testShouldFailForMissingLibrary() {
+        NativeResolver.extract("/native/missing.so", "missing.so", folder.getRoot());
+    }
+}
@@ -0,0 +1,57 @@
+package com.concordium.sdk.crypto.encryptedtransfers;
+
+import com.concordium.sdk.responses.cryptographicparameters.CryptographicParameters;
+import com.concordium.sdk.serializing.JsonMapper;
+import com.concordium.sdk.transactions.CCDAmount;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class GlobalContextTest {
+
+    @Test
+    public void testShouldReuseContextOfEqualParameters() {
+        val context = GlobalContext.from(EncryptedTransfersTest.getTestCryptographicParameters());
+        assertSame(context, GlobalContext.from(EncryptedTransfersTest.getTestCryptographicParameters()));
+    }
+
+    @Test
+    public void testShouldNotReuseContextOfOtherParameters() {
+        val parameters = EncryptedTransfersTest.getTestCryptographicParameters();
+        val context = GlobalContext.from(parameters);
+        val otherChain = CryptographicParameters.builder()
+                .onChainCommitmentKey(parameters.getOnChainCommitmentKey())
+                .bulletproofGenerators(parameters.getBulletproofGenerators())
+                .genesisString("Concordium Mainnet")
+                .build();
+        val other = GlobalContext.from(otherChain);
+        assertNotSame(context, other);
+        assertEquals("Concordium Mainnet", other.getGenesisString());
+        assertSame(other, GlobalContext.from(otherChain));
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldSerializeContext() {
+        val parameters = EncryptedTransfersTest.getTestCryptographicParameters();
+        val global = JsonMapper.INSTANCE.readTree(JsonMapper.INSTANCE.writeValueAsString(GlobalContext.from(parameters)));
+        assertEquals(3, global.size());
+        assertEquals(parameters.getOnChainCommitmentKey().toHex(), global.get("onChainCommitmentKey").asText());
+        assertEquals(parameters.getBulletproofGenerators().toHex(), global.get("bulletproofGenerators").asText());
+        assertEquals(parameters.getGenesisString(), global.get("genesisString").asText());
+    }
+
+    @Test
+    @SneakyThrows
+    public void testShouldPassContextOfJniInputByHandle() {
+        val input = TransferToPublicJniInput.builder()
+                .global(GlobalContext.from(EncryptedTransfersTest.getTestCryptographicParameters()))
+                .amount(CCDAmount.fromMicro(10))
+                .build();
+        val json = JsonMapper.INSTANCE.readTree(JsonMapper.INSTANCE.writeValueAsString(input));
+        assertFalse(json.has("global"));
+        assertEquals("10", json.get("amount").asText());
+    }
+}
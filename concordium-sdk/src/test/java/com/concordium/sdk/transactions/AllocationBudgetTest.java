@@ -0,0 +1,103 @@
+package com.concordium.sdk.transactions;
+
+import com.concordium.sdk.types.Nonce;
+import com.concordium.sdk.types.UInt64;
+import lombok.val;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Fails when a hot path allocates more bytes per operation than its budget.
+ * <p>
+ * The bytes are counted by the JVM per thread, after a warm-up letting the JIT compile the paths.
+ * The budgets leave some headroom over the allocations when they were set, so lower a budget when
+ * a path is improved and only raise it with a good reason.
+ */
+public class AllocationBudgetTest {
+
+    private static final int WARM_UP = 20_000;
+    private static final int OPERATIONS = 10_000;
+    private static final int ROUNDS = 3;
+
+    private static final AccountAddress ADDRESS = AccountAddress.from("3JwD2Wm3nMbsowCwb1iGEpnt47UQgdrtnq2qT6opJc3z2AgCrc");
+    private static final Hash HASH = Hash.from("9741d166fdc9b70a183d6c22f79e6f87c236f56c545c9b5f1114847fecc7ba39");
+
+    private com.sun.management.ThreadMXBean threads;
+    private TransactionSignature signature;
+    private AccountTransaction transaction;
+
+    @Before
+    public void setUp() {
+        val bean = ManagementFactory.getThreadMXBean();
+        assumeTrue("Allocation counters are not supported by this JVM",
+                bean instanceof com.sun.management.ThreadMXBean
+                        && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported());
+        threads = (com.sun.management.ThreadMXBean) bean;
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        signature = new TransactionSignature();
+        signature.put(Index.from(0), Index.from(0), new byte[64]);
+        signature.put(Index.from(0), Index.from(1), new byte[64]);
+        val payload = Transfer.createNew(ADDRESS, CCDAmount.fromMicro(17))
+                .withHeader(TransactionHeader.builder()
+                        .sender(ADDRESS)
+                        .accountNonce(Nonce.from(78910))
+                        .expiry(UInt64.from(123456))
+                        .build());
+        transaction = new AccountTransaction(signature, payload.header, payload);
+    }
+
+    @Test
+    public void testTransactionSignatureGetBytes() {
+        assertWithinBudget("TransactionSignature.getBytes", 544, () -> signature.getBytes());
+    }
+
+    @Test
+    public void testAccountTransactionGetBytes() {
+        assertWithinBudget("AccountTransaction.getBytes", 1728, () -> transaction.getBytes());
+    }
+
+    @Test
+    public void testAccountAddressEncoded() {
+        assertWithinBudget("AccountAddress.encoded", 936, ADDRESS::encoded);
+    }
+
+    @Test
+    public void testHashAsHex() {
+        assertWithinBudget("Hash.asHex", 312, HASH::asHex);
+    }
+
+    private void assertWithinBudget(String operation, long budgetBytes, Supplier<Object> op) {
+        val bytes = bytesPerOperation(op);
+        assertTrue(operation + " allocated " + bytes + " bytes per operation, the budget is " + budgetBytes,
+                bytes <= budgetBytes);
+    }
+
+    /**
+     * @return the fewest bytes allocated per operation in a number of rounds,
+     * as the first rounds may include allocations of the JIT or class loading.
+     */
+    private long bytesPerOperation(Supplier<Object> op) {
+        val sink = new Object[1];
+        for (int i = 0; i < WARM_UP; i++) {
+            sink[0] = op.get();
+        }
+        val thread = Thread.currentThread().getId();
+        long fewest = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            val before = threads.getThreadAllocatedBytes(thread);
+            for (int i = 0; i < OPERATIONS; i++) {
+                sink[0] = op.get();
+            }
+            val after = threads.getThreadAllocatedBytes(thread);
+            fewest = Math.min(fewest, (after - before) / OPERATIONS);
+        }
+        return fewest;
+    }
+}
@@ -14,6 +14,7 @@ import java.nio.file.Paths;
 
 import static com.concordium.sdk.transactions.TransactionTestHelper.getValidSigner;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 public class DeployModuleTest {
     @SneakyThrows
@@ -58,4 +59,13 @@ public class DeployModuleTest {
         assertEquals("5da6812f05b77f85f86b76f058a3328afba3a6888b66bbb6f27703a68bb201ec",
                 payload.toAccountTransaction().toBlockItem().getHash().asHex());
     }
+
+    @SneakyThrows
+    @Test
+    public void testModuleIdentifierIsComputedOnce() {
+        val module = WasmModule.from(
+                Files.readAllBytes(Paths.get("src/test/java/com/concordium/sdk/binaries/module.wasm.v1")));
+        val identifier = module.getIdentifier();
+        assertSame(identifier, module.getIdentifier());
+    }
 }
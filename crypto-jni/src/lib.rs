@@ -22,7 +22,7 @@ use std::str::Utf8Error;
 
 use jni::{
     objects::{JClass, JString},
-    sys::{jbyteArray, jint},
+    sys::{jbyteArray, jint, jlong},
     JNIEnv,
 };
 
@@ -207,18 +207,27 @@ impl<T: serde::Serialize> CryptoJniResult<T> {
     }
 }
 
+/// The number of baby steps of the table for decrypting amounts.
+const DECRYPTION_TABLE_SIZE: u64 = 1 << 16;
+
+/// Builds the table for decrypting amounts encrypted with the generator of
+/// the global context. Building the table dominates the cost of a transfer,
+/// so the table of a context created by `createGlobalContext` is built once.
+fn decryption_table(global: &GlobalContext<ArCurve>) -> elgamal::BabyStepGiantStep<ArCurve> {
+    elgamal::BabyStepGiantStep::new(
+        global.encryption_in_exponent_generator(),
+        DECRYPTION_TABLE_SIZE,
+    )
+}
+
 fn decrypt_encrypted_amount(
+    table: &elgamal::BabyStepGiantStep<ArCurve>,
     encrypted_amount: EncryptedAmount<ArCurve>,
     secret: elgamal::SecretKey<ArCurve>,
 ) -> CryptoJniResult<Amount> {
-    let global = id::types::GlobalContext::<id::constants::ArCurve>::generate(String::from(
-        "genesis_string",
-    ));
-    let m = 1 << 16;
-    let table = elgamal::BabyStepGiantStep::new(global.encryption_in_exponent_generator(), m);
     CryptoJniResult::Ok(
         encrypted_transfers::decrypt_amount::<id::constants::ArCurve>(
-            &table,
+            table,
             &secret,
             &encrypted_amount,
         ),
@@ -259,18 +268,36 @@ pub extern "system" fn Java_com_concordium_sdk_crypto_CryptoJniNative_createSecT
         Err(err) => return Result::from(err).to_jstring(&env),
     };
 
+    sec_to_pub_transfer(
+        &input.global,
+        &decryption_table(&input.global),
+        input.amount,
+        input.sender_secret_key,
+        input.input_encrypted_amount,
+    )
+    .to_jstring(&env)
+}
+
+fn sec_to_pub_transfer(
+    global: &GlobalContext<ArCurve>,
+    table: &elgamal::BabyStepGiantStep<ArCurve>,
+    amount: Amount,
+    sender_secret_key: elgamal::SecretKey<ArCurve>,
+    input_encrypted_amount: IndexedEncryptedAmount<ArCurve>,
+) -> Result {
     let decrypted_amount = match decrypt_encrypted_amount(
-        input.input_encrypted_amount.encrypted_chunks.clone(),
-        input.sender_secret_key.clone(),
+        table,
+        input_encrypted_amount.encrypted_chunks.clone(),
+        sender_secret_key.clone(),
     ) {
         CryptoJniResult::Ok(amount) => amount,
-        CryptoJniResult::Err(err) => return Result::Err(err).to_jstring(&env),
+        CryptoJniResult::Err(err) => return Result::Err(err),
     };
 
     let input_amount: AggregatedDecryptedAmount<ArCurve> = AggregatedDecryptedAmount {
-        agg_encrypted_amount: input.input_encrypted_amount.encrypted_chunks,
+        agg_encrypted_amount: input_encrypted_amount.encrypted_chunks,
         agg_index: encrypted_transfers::types::EncryptedAmountAggIndex {
-            index: input.input_encrypted_amount.index.index,
+            index: input_encrypted_amount.index.index,
         },
         agg_amount: decrypted_amount,
     };
@@ -278,16 +305,16 @@ pub extern "system" fn Java_com_concordium_sdk_crypto_CryptoJniNative_createSecT
     let mut csprng = thread_rng();
 
     let payload = encrypted_transfers::make_sec_to_pub_transfer_data(
-        &input.global,
-        &input.sender_secret_key,
+        global,
+        &sender_secret_key,
         &input_amount,
-        input.amount,
+        amount,
         &mut csprng,
     );
 
     match payload {
-        Some(payload) => CryptoJniResult::Ok(payload).to_jstring(&env),
-        None => Result::Err(PAYLOAD_CREATION_ERROR).to_jstring(&env),
+        Some(payload) => CryptoJniResult::Ok(payload),
+        None => Result::Err(PAYLOAD_CREATION_ERROR),
     }
 }
 
@@ -326,18 +353,38 @@ pub extern "system" fn Java_com_concordium_sdk_crypto_CryptoJniNative_generateEn
         Err(err) => return EncryptedAmountTransferResult::from(err).to_jstring(&env),
     };
 
+    encrypted_transfer(
+        &input.global,
+        &decryption_table(&input.global),
+        input.receiver_public_key,
+        input.sender_secret_key,
+        input.amount_to_send,
+        input.input_encrypted_amount,
+    )
+    .to_jstring(&env)
+}
+
+fn encrypted_transfer(
+    global: &GlobalContext<ArCurve>,
+    table: &elgamal::BabyStepGiantStep<ArCurve>,
+    receiver_public_key: elgamal::PublicKey<ArCurve>,
+    sender_secret_key: elgamal::SecretKey<ArCurve>,
+    amount_to_send: Amount,
+    input_encrypted_amount: IndexedEncryptedAmount<ArCurve>,
+) -> EncryptedAmountTransferResult {
     let decrypted_amount = match decrypt_encrypted_amount(
-        input.input_encrypted_amount.encrypted_chunks.clone(),
-        input.sender_secret_key.clone(),
+        table,
+        input_encrypted_amount.encrypted_chunks.clone(),
+        sender_secret_key.clone(),
     ) {
         CryptoJniResult::Ok(amount) => amount,
-        CryptoJniResult::Err(err) => return Result::Err(err).to_jstring(&env),
+        CryptoJniResult::Err(err) => return EncryptedAmountTransferResult::Err(err),
     };
 
     let input_amount: AggregatedDecryptedAmount<ArCurve> = AggregatedDecryptedAmount {
-        agg_encrypted_amount: input.input_encrypted_amount.encrypted_chunks,
+        agg_encrypted_amount: input_encrypted_amount.encrypted_chunks,
         agg_index: encrypted_transfers::types::EncryptedAmountAggIndex {
-            index: input.input_encrypted_amount.index.index,
+            index: input_encrypted_amount.index.index,
         },
         agg_amount: decrypted_amount,
     };
@@ -345,16 +392,154 @@ pub extern "system" fn Java_com_concordium_sdk_crypto_CryptoJniNative_generateEn
     let mut csprng = thread_rng();
 
     let payload = encrypted_transfers::make_transfer_data(
-        &input.global,
-        &input.receiver_public_key,
-        &input.sender_secret_key,
+        global,
+        &receiver_public_key,
+        &sender_secret_key,
         &input_amount,
-        input.amount_to_send,
+        amount_to_send,
         &mut csprng,
     );
 
     match payload {
-        Some(payload) => CryptoJniResult::Ok(payload).to_jstring(&env),
-        None => EncryptedAmountTransferResult::Err(PAYLOAD_CREATION_ERROR).to_jstring(&env),
+        Some(payload) => CryptoJniResult::Ok(payload),
+        None => EncryptedAmountTransferResult::Err(PAYLOAD_CREATION_ERROR),
+    }
+}
+
+/// A global context created by `createGlobalContext`, together with the table
+/// for decrypting amounts derived from it.
+struct NativeGlobalContext {
+    global: GlobalContext<ArCurve>,
+    table: elgamal::BabyStepGiantStep<ArCurve>,
+}
+
+#[no_mangle]
+#[allow(non_snake_case)]
+/// Parses a global context and moves it to the heap together with its table
+/// for decrypting amounts, so they can be used by several transfers without
+/// parsing and building them again. The `input` parameter must be a
+/// properly initalized `java.lang.String` that is non-null and valid JSON of a
+/// global context. Returns a handle to the context, or 0 if the input is not
+/// valid. The context must be freed with `freeGlobalContext`.
+pub extern "system" fn Java_com_concordium_sdk_crypto_CryptoJniNative_createGlobalContext(
+    env: JNIEnv,
+    _: JClass,
+    input: JString,
+) -> jlong {
+    let global: GlobalContext<ArCurve> = match env.get_string(input) {
+        Ok(java_str) => match java_str.to_str() {
+            Ok(rust_str) => match from_str(rust_str) {
+                Ok(global) => global,
+                Err(_) => return 0,
+            },
+            Err(_) => return 0,
+        },
+        Err(_) => return 0,
+    };
+    let table = decryption_table(&global);
+    Box::into_raw(Box::new(NativeGlobalContext { global, table })) as jlong
+}
+
+#[no_mangle]
+#[allow(non_snake_case)]
+/// Frees a global context created by `createGlobalContext`. The handle must
+/// not be used afterwards. Freeing the handle 0 does nothing.
+pub extern "system" fn Java_com_concordium_sdk_crypto_CryptoJniNative_freeGlobalContext(
+    _: JNIEnv,
+    _: JClass,
+    global: jlong,
+) {
+    if global != 0 {
+        drop(unsafe { Box::from_raw(global as *mut NativeGlobalContext) });
     }
 }
+
+/// Borrows the global context and table of a handle created by `createGlobalContext`.
+/// The handle must be non-zero and not yet freed.
+fn global_context<'a>(global: jlong) -> &'a NativeGlobalContext {
+    unsafe { &*(global as *const NativeGlobalContext) }
+}
+
+#[derive(SerdeSerialize, SerdeDeserialize)]
+#[serde(bound(serialize = "C: Curve", deserialize = "C: Curve"))]
+#[serde(rename_all = "camelCase")]
+struct ContextJniInput<C: Curve> {
+    amount: Amount,
+    sender_secret_key: elgamal::SecretKey<C>,
+    input_encrypted_amount: IndexedEncryptedAmount<C>,
+}
+
+#[no_mangle]
+#[allow(non_snake_case)]
+/// Like `createSecToPubTransfer`, but with the global context of a handle
+/// created by `createGlobalContext` instead of a global context in the input.
+pub extern "system" fn Java_com_concordium_sdk_crypto_CryptoJniNative_createSecToPubTransferWithContext(
+    env: JNIEnv,
+    _: JClass,
+    global: jlong,
+    input: JString,
+) -> jstring {
+    let input: ContextJniInput<ArCurve> = match env.get_string(input) {
+        Ok(java_str) => match java_str.to_str() {
+            Ok(rust_str) => match from_str(rust_str) {
+                Ok(input) => input,
+                Err(err) => return Result::from(err).to_jstring(&env),
+            },
+            Err(err) => return Result::from(err).to_jstring(&env),
+        },
+        Err(err) => return Result::from(err).to_jstring(&env),
+    };
+
+    let context = global_context(global);
+    sec_to_pub_transfer(
+        &context.global,
+        &context.table,
+        input.amount,
+        input.sender_secret_key,
+        input.input_encrypted_amount,
+    )
+    .to_jstring(&env)
+}
+
+#[derive(SerdeSerialize, SerdeDeserialize)]
+#[serde(bound(serialize = "C: Curve", deserialize = "C: Curve"))]
+#[serde(rename_all = "camelCase")]
+struct TransferContextJniInput<C: Curve> {
+    receiver_public_key: elgamal::PublicKey<C>,
+    sender_secret_key: elgamal::SecretKey<C>,
+    amount_to_send: Amount,
+    input_encrypted_amount: IndexedEncryptedAmount<C>,
+}
+
+#[no_mangle]
+#[allow(non_snake_case)]
+/// Like `generateEncryptedTransfer`, but with the global context of a handle
+/// created by `createGlobalContext` instead of a global context in the input.
+pub extern "system" fn Java_com_concordium_sdk_crypto_CryptoJniNative_generateEncryptedTransferWithContext(
+    env: JNIEnv,
+    _: JClass,
+    global: jlong,
+    input: JString,
+) -> jstring {
+    let input: TransferContextJniInput<ArCurve> = match env.get_string(input) {
+        Ok(java_str) => match java_str.to_str() {
+            Ok(rust_str) => match from_str(rust_str) {
+                Ok(input) => input,
+                Err(err) => return EncryptedAmountTransferResult::from(err).to_jstring(&env),
+            },
+            Err(err) => return EncryptedAmountTransferResult::from(err).to_jstring(&env),
+        },
+        Err(err) => return EncryptedAmountTransferResult::from(err).to_jstring(&env),
+    };
+
+    let context = global_context(global);
+    encrypted_transfer(
+        &context.global,
+        &context.table,
+        input.receiver_public_key,
+        input.sender_secret_key,
+        input.amount_to_send,
+        input.input_encrypted_amount,
+    )
+    .to_jstring(&env)
+}